@@ -0,0 +1,142 @@
+package mams.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mams.commons.exceptions.DataConversionException;
+import mams.model.Mams;
+import mams.model.ReadOnlyMams;
+import mams.model.appeal.Appeal;
+import mams.model.module.Module;
+import mams.model.student.Credits;
+import mams.model.student.MatricId;
+import mams.model.student.Name;
+import mams.model.student.PrevMods;
+import mams.model.student.Student;
+import mams.model.tag.Tag;
+import mams.storage.BinaryMamsStorage;
+import mams.storage.JsonMamsStorage;
+
+/**
+ * Compares saving and loading MAMS data as json and as a binary snapshot.
+ * Every student takes four modules and has one appeal, so most of the data is rosters and tags.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    private static final int MODULES_PER_STUDENT = 4;
+
+    @Param({"1000", "20000"})
+    private int studentCount;
+
+    private Path folder;
+    private Mams mams;
+    private JsonMamsStorage jsonStorage;
+    private BinaryMamsStorage binaryStorage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("mams-benchmark");
+        mams = createMams(studentCount);
+        jsonStorage = new JsonMamsStorage(folder.resolve("mams.json"));
+        binaryStorage = new BinaryMamsStorage(folder.resolve("mams.bin"));
+        jsonStorage.saveMams(mams);
+        binaryStorage.saveMams(mams);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(jsonStorage.getMamsFilePath());
+        Files.deleteIfExists(binaryStorage.getMamsFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveMams(mams);
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveMams(mams);
+    }
+
+    @Benchmark
+    public ReadOnlyMams loadJson() throws DataConversionException {
+        return jsonStorage.readMams().get();
+    }
+
+    @Benchmark
+    public ReadOnlyMams loadBinary() throws DataConversionException {
+        return binaryStorage.readMams().get();
+    }
+
+    /**
+     * Returns MAMS with {@code studentCount} students spread over modules of up to 100 students each.
+     */
+    private static Mams createMams(int studentCount) {
+        int moduleCount = Math.max(MODULES_PER_STUDENT, studentCount * MODULES_PER_STUDENT / 100);
+        List<Set<Tag>> rosters = new ArrayList<>();
+        for (int i = 0; i < moduleCount; i++) {
+            rosters.add(new HashSet<>());
+        }
+
+        List<Student> students = new ArrayList<>();
+        List<Appeal> appeals = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            String matricId = String.format("A%07dX", i);
+            Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < MODULES_PER_STUDENT; j++) {
+                int module = (i + j * 7) % moduleCount;
+                tags.add(Tag.of(moduleCode(module)));
+                rosters.get(module).add(Tag.of(matricId));
+            }
+            students.add(new Student(new Name("Student " + i), new Credits("20"), new PrevMods("CS1010"),
+                    new MatricId(matricId), tags));
+            appeals.add(new Appeal(String.format("C%06d", i + 1), "increase workload", matricId, "AY2019", 20,
+                    "I want to overload", "", "", "", "", false, ""));
+        }
+
+        List<Module> modules = new ArrayList<>();
+        for (int i = 0; i < moduleCount; i++) {
+            modules.add(new Module(moduleCode(i), "Module " + i, "Description of module " + i, "Lecturer " + i,
+                    (i % 13 + 1) + "," + (i % 13 + 15), "1000", rosters.get(i)));
+        }
+
+        Mams mams = new Mams();
+        mams.addModules(modules);
+        mams.addStudents(students);
+        mams.addAppeals(appeals);
+        return mams;
+    }
+
+    private static String moduleCode(int index) {
+        return String.format("CS%04d", index);
+    }
+}
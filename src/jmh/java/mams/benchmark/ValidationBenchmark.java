@@ -0,0 +1,72 @@
+package mams.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mams.model.appeal.Appeal;
+import mams.model.module.Module;
+import mams.model.student.Credits;
+import mams.model.student.Name;
+import mams.model.student.PrevMods;
+import mams.model.tag.Tag;
+
+/**
+ * Compares the model validators against the {@code String.matches} calls they replaced.
+ * Each benchmark validates one record's worth of fields, as the JSON loader does for every student, module
+ * and appeal. Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private String moduleCode = "CS2103";
+    private String moduleName = "Software Engineering";
+    private String appealId = "C000123";
+    private String academicYear = "AY1920";
+    private String credits = "24";
+    private String prevMods = "CS1010, CS1231, CS2030";
+    private String studentName = "Alex Yeoh";
+    private String tagName = "A0175468E";
+
+    @Benchmark
+    public int regexMatches() {
+        int valid = 0;
+        valid += moduleCode.matches(Module.VALIDATION_REGEX_MODULE_CODE) ? 1 : 0;
+        valid += moduleName.matches(Module.VALIDATION_REGEX_MODULE_NAME) ? 1 : 0;
+        valid += appealId.matches(Appeal.VALIDATION_REGEX_APPEAL_CODE) ? 1 : 0;
+        valid += academicYear.matches(Appeal.VALIDATION_REGEX_ACADEMIC_YEAR) ? 1 : 0;
+        valid += credits.matches(Credits.VALIDATION_REGEX) ? 1 : 0;
+        valid += prevMods.matches(PrevMods.VALIDATION_REGEX) || prevMods.matches(PrevMods.VALIDATION_REGEX_SINGLE)
+                ? 1 : 0;
+        valid += studentName.matches(Name.VALIDATION_REGEX) ? 1 : 0;
+        valid += tagName.matches(Tag.VALIDATION_REGEX) ? 1 : 0;
+        return valid;
+    }
+
+    @Benchmark
+    public int validators() {
+        int valid = 0;
+        valid += Module.isValidModuleCode(moduleCode) ? 1 : 0;
+        valid += Module.isValidModuleName(moduleName) ? 1 : 0;
+        valid += Appeal.isValidAppealId(appealId) ? 1 : 0;
+        valid += Appeal.isValidAcademicYear(academicYear) ? 1 : 0;
+        valid += Credits.isValidCredits(credits) ? 1 : 0;
+        valid += PrevMods.isValidPrevMods(prevMods) ? 1 : 0;
+        valid += Name.isValidName(studentName) ? 1 : 0;
+        valid += Tag.isValidTagName(tagName) ? 1 : 0;
+        return valid;
+    }
+}
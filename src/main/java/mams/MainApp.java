@@ -20,12 +20,15 @@ import mams.model.Model;
 import mams.model.ModelManager;
 import mams.model.ReadOnlyMams;
 import mams.model.ReadOnlyUserPrefs;
+import mams.model.UndoRedoStack;
 import mams.model.UserPrefs;
 import mams.storage.CommandHistoryStorage;
+import mams.storage.DeltaLogMamsStorage;
 import mams.storage.JsonCommandHistoryStorage;
 import mams.storage.JsonMamsStorage;
 import mams.storage.JsonUserPrefsStorage;
 import mams.storage.MamsStorage;
+import mams.storage.SegmentedCommandHistoryStorage;
 import mams.storage.Storage;
 import mams.storage.StorageManager;
 import mams.storage.UserPrefsStorage;
@@ -57,16 +60,21 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        MamsStorage mamsStorage = new JsonMamsStorage(userPrefs.getMamsFilePath());
-        CommandHistoryStorage commandHistoryStorage =
-                new JsonCommandHistoryStorage(userPrefs.getCommandHistoryFilePath());
+        MamsStorage mamsStorage = config.getCheckpointInterval() > 0
+                ? new DeltaLogMamsStorage(userPrefs.getMamsFilePath(), config.getCheckpointInterval())
+                : new JsonMamsStorage(userPrefs.getMamsFilePath());
+        CommandHistoryStorage commandHistoryStorage = config.getHistorySegmentSize() > 0
+                ? new SegmentedCommandHistoryStorage(userPrefs.getCommandHistoryFilePath(),
+                        config.getHistorySegmentSize())
+                : new JsonCommandHistoryStorage(userPrefs.getCommandHistoryFilePath());
         storage = new StorageManager(mamsStorage, userPrefsStorage, commandHistoryStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, config);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, config.getHistoryWindowSize(),
+                config.getHistoryWindowMemoryLimit());
 
         ui = new UiManager(logic);
     }
@@ -76,7 +84,7 @@ public class MainApp extends Application {
      * The data from the sample MAMS will be used instead if MAMS in {@code storage} is not found,
      * or an empty MAMS will be used instead if errors occur when reading MAMS in {@code storage}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Config config) {
         Optional<ReadOnlyMams> mamsOptional;
         ReadOnlyMams initialData;
         try {
@@ -93,7 +101,8 @@ public class MainApp extends Application {
             initialData = new Mams();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs,
+                new UndoRedoStack(config.getUndoLimit(), config.getUndoMemoryLimit()));
     }
 
     private void initLogging(Config config) {
@@ -177,6 +186,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping MAMS ] =============================");
+        try {
+            logic.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
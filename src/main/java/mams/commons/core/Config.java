@@ -15,6 +15,12 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int undoLimit = 20;
+    private long undoMemoryLimit = 32L * 1024 * 1024;
+    private int checkpointInterval = 256;
+    private int historySegmentSize = 1024;
+    private int historyWindowSize = 1000;
+    private long historyWindowMemoryLimit = 8L * 1024 * 1024;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +38,75 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        this.undoLimit = undoLimit;
+    }
+
+    /**
+     * Returns the approximate number of bytes of memory that undo states may take up.
+     */
+    public long getUndoMemoryLimit() {
+        return undoMemoryLimit;
+    }
+
+    public void setUndoMemoryLimit(long undoMemoryLimit) {
+        this.undoMemoryLimit = undoMemoryLimit;
+    }
+
+    /**
+     * Returns the number of changes logged between full checkpoints of the MAMS data file.
+     * If it is 0, the whole data file is rewritten after every command instead.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the number of commands in each segment of the command history log.
+     * If it is 0, the whole command history file is rewritten after every command instead.
+     */
+    public int getHistorySegmentSize() {
+        return historySegmentSize;
+    }
+
+    public void setHistorySegmentSize(int historySegmentSize) {
+        this.historySegmentSize = historySegmentSize;
+    }
+
+    /**
+     * Returns the number of recent commands kept in memory when older commands can be read back from the
+     * command history log.
+     */
+    public int getHistoryWindowSize() {
+        return historyWindowSize;
+    }
+
+    public void setHistoryWindowSize(int historyWindowSize) {
+        this.historyWindowSize = historyWindowSize;
+    }
+
+    /**
+     * Returns the approximate number of bytes of memory that the recent commands kept in memory may take up.
+     */
+    public long getHistoryWindowMemoryLimit() {
+        return historyWindowMemoryLimit;
+    }
+
+    public void setHistoryWindowMemoryLimit(long historyWindowMemoryLimit) {
+        this.historyWindowMemoryLimit = historyWindowMemoryLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +119,19 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoLimit == o.undoLimit
+                && undoMemoryLimit == o.undoMemoryLimit
+                && checkpointInterval == o.checkpointInterval
+                && historySegmentSize == o.historySegmentSize
+                && historyWindowSize == o.historyWindowSize
+                && historyWindowMemoryLimit == o.historyWindowMemoryLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, undoLimit, undoMemoryLimit, checkpointInterval,
+                historySegmentSize, historyWindowSize, historyWindowMemoryLimit);
     }
 
     @Override
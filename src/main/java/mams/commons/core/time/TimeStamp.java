@@ -2,29 +2,47 @@ package mams.commons.core.time;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 /**
- * A simple class wrapper around {@code java.util.Date}
- * and {@code java.text.SimpleDataFormat}
+ * A simple class wrapper around unix time in milliseconds
+ * and {@code java.time.format.DateTimeFormatter}
  * for basic encapsulation of
  * time handling in MAMS.
+ *
+ * {@code TimeStamp} is immutable, and its string form is only formatted once, the first time it is needed.
+ * Unlike {@code SimpleDateFormat}, {@code TIME_STAMP_FORMAT} is safe to share between threads.
  */
-public class TimeStamp {
-    public static final String TIME_STAMP_FORMAT_STRING = "[yyyy-MM-dd|HH:mm:ss]";
-    public static final SimpleDateFormat TIME_STAMP_FORMAT = new SimpleDateFormat(TIME_STAMP_FORMAT_STRING);
+public class TimeStamp implements Comparable<TimeStamp> {
+    // square brackets are quoted, since they mark optional sections in DateTimeFormatter patterns.
+    public static final String TIME_STAMP_FORMAT_STRING = "'['yyyy-MM-dd|HH:mm:ss']'";
+    public static final DateTimeFormatter TIME_STAMP_FORMAT =
+            DateTimeFormatter.ofPattern(TIME_STAMP_FORMAT_STRING).withZone(ZoneId.systemDefault());
 
-    private final Date date;
+    private static final long MILLISECONDS_PER_SECOND = 1000;
+
+    private final long unixTimeInMilliSeconds;
+    // cached #toString() output, or null if it has not been formatted yet. Formatting it twice is harmless.
+    private String formatted;
 
     /**
      * Initialize a {@code TimeStamp} object from a {@code Date} object.
      * @param date
      */
     public TimeStamp(Date date) {
-        // defensive copy
-        requireNonNull(date);
-        this.date = new Date(date.getTime());
+        this(requireNonNull(date).getTime());
+    }
+
+    /**
+     * Initialize a {@code TimeStamp} from a date and time in the system time zone.
+     * @param dateTime local date and time, eg. 09:00 yesterday
+     */
+    public TimeStamp(LocalDateTime dateTime) {
+        this(requireNonNull(dateTime).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
     }
 
     /**
@@ -32,27 +50,25 @@ public class TimeStamp {
      * @param unixTimeInMilliSeconds long denoting unix time elapsed in milliseconds
      */
     public TimeStamp(long unixTimeInMilliSeconds) {
-        this(new Date(unixTimeInMilliSeconds));
+        this.unixTimeInMilliSeconds = unixTimeInMilliSeconds;
     }
 
     /**
      * Initialize a {@code TimeStamp} using the current time.
      */
     public TimeStamp() {
-        this.date = new Date();
+        this(System.currentTimeMillis());
     }
 
     /**
-     * Returns Unix Time representation of {@code date} in milliseconds. This is important for Json
-     * loading/saving since {@code Date} compares equality using its internal unix time.
-     * If we save TimeStamp directly as its String form as defined in {@code TIME_STAMP_FORMAT}
-     * we lose some precision when parsing it back to Date, hence resulting in two {@code TimeStamps}
-     * with similar #toString() output, but #equals returns false since the unix time of both
-     * dates are different.
+     * Returns Unix Time representation of this {@code TimeStamp} in milliseconds. This is important for Json
+     * loading/saving, since if we save TimeStamp directly as its String form as defined in
+     * {@code TIME_STAMP_FORMAT} we lose some precision when parsing it back, hence resulting in two
+     * {@code TimeStamps} with similar #toString() output, but different unix times.
      * @return
      */
     public long asUnixTime() {
-        return date.getTime();
+        return unixTimeInMilliSeconds;
     }
 
     /**
@@ -62,12 +78,33 @@ public class TimeStamp {
      */
     @Override
     public String toString() {
-        return TIME_STAMP_FORMAT.format(this.date);
+        String result = formatted;
+        if (result == null) {
+            result = TIME_STAMP_FORMAT.format(Instant.ofEpochMilli(unixTimeInMilliSeconds));
+            formatted = result;
+        }
+        return result;
+    }
+
+    /**
+     * Compares two {@code TimeStamps} by their unix time, to the millisecond rather than to the second as
+     * {@code #equals(Object)} does.
+     */
+    @Override
+    public int compareTo(TimeStamp other) {
+        return Long.compare(unixTimeInMilliSeconds, other.unixTimeInMilliSeconds);
+    }
+
+    /**
+     * Returns the unix time in whole seconds, which {@code TimeStamps} are compared for equality by.
+     */
+    private long asUnixTimeInSeconds() {
+        return Math.floorDiv(unixTimeInMilliSeconds, MILLISECONDS_PER_SECOND);
     }
 
     @Override
     public int hashCode() {
-        return date.toString().hashCode();
+        return Long.hashCode(asUnixTimeInSeconds());
     }
 
     @Override
@@ -84,6 +121,6 @@ public class TimeStamp {
 
         // state check
         TimeStamp ts = (TimeStamp) obj;
-        return this.date.toString().equals(ts.date.toString());
+        return asUnixTimeInSeconds() == ts.asUnixTimeInSeconds();
     }
 }
@@ -0,0 +1,127 @@
+package mams.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A case-insensitive hash index over elements of type {@code T}, keyed by a {@code String} extracted
+ * from each element. Several elements may share a key; they are kept in the order they were indexed.
+ * Elements whose extracted key is null are not indexed.
+ *
+ * The index does not observe any list on its own. The owner is responsible for calling
+ * {@link #add}, {@link #remove}, {@link #replace} and {@link #setAll} whenever its backing list changes.
+ */
+public class KeyIndex<T> {
+
+    private final Function<T, String> keyExtractor;
+    private final Map<String, List<T>> buckets = new HashMap<>();
+
+    /**
+     * Constructs an empty {@code KeyIndex} that indexes elements by {@code keyExtractor}.
+     */
+    public KeyIndex(Function<T, String> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Indexes {@code element} under its key.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        String key = keyOf(element);
+        if (key == null) {
+            return;
+        }
+        buckets.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(element);
+    }
+
+    /**
+     * Removes one element equal to {@code element} from the index, if present.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        String key = keyOf(element);
+        if (key == null) {
+            return;
+        }
+        List<T> bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(element);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement} in the index.
+     * If both share the same key, {@code replacement} takes over the position of {@code target}.
+     */
+    public void replace(T target, T replacement) {
+        CollectionUtil.requireAllNonNull(target, replacement);
+        String key = keyOf(target);
+        List<T> bucket = key == null ? null : buckets.get(key);
+        int position = bucket == null ? -1 : bucket.indexOf(target);
+        if (position != -1 && key.equals(keyOf(replacement))) {
+            bucket.set(position, replacement);
+            return;
+        }
+        remove(target);
+        add(replacement);
+    }
+
+    /**
+     * Discards the current contents of the index and indexes every element of {@code elements}.
+     */
+    public void setAll(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        buckets.clear();
+        elements.forEach(this::add);
+    }
+
+    /**
+     * Returns the first indexed element whose key equals {@code key}, ignoring case.
+     */
+    public Optional<T> getFirst(String key) {
+        requireNonNull(key);
+        List<T> bucket = buckets.get(normalise(key));
+        return bucket == null ? Optional.empty() : Optional.of(bucket.get(0));
+    }
+
+    /**
+     * Returns an unmodifiable view of all indexed elements whose key equals {@code key}, ignoring case.
+     */
+    public List<T> getAll(String key) {
+        requireNonNull(key);
+        List<T> bucket = buckets.get(normalise(key));
+        return bucket == null ? Collections.emptyList() : Collections.unmodifiableList(bucket);
+    }
+
+    /**
+     * Returns an unmodifiable view of the distinct keys currently in the index, in lower case.
+     */
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(buckets.keySet());
+    }
+
+    private String keyOf(T element) {
+        String key = keyExtractor.apply(element);
+        return key == null ? null : normalise(key);
+    }
+
+    private static String normalise(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,16 +5,24 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 /**
  * Class representing an iterable pointer to a List. Now adapted to take in any List of generic variable T,
  * makes a defensive copy of it internally, then returns an iterable pointer to the internal List.
  * Note that if the original list was modified, the old ListPointer object will no longer be valid since
  * it still points to an old internal copy of the list captured at the time of initialization.
+ *
+ * A live {@code ListPointer} instead points directly into a list that is only ever appended to, followed by a
+ * sentinel element that stands for the end of the list. Nothing is copied, so elements appended to the list
+ * are seen straight away, and {@code #moveToEnd()} moves the cursor back to the sentinel.
  */
 public class ListPointer<T> {
-    // defensive copy of the list of interest.
+    // defensive copy of the list of interest, or the list itself if this pointer is live.
     private List<T> list;
+    private final boolean isLive;
+    // the element after the end of the list, if this pointer is live.
+    private final T sentinel;
     private int index;
 
     /**
@@ -24,19 +32,45 @@ public class ListPointer<T> {
     public ListPointer(List<T> list) {
         requireNonNull(list);
         this.list = new ArrayList<>(list);
+        this.isLive = false;
+        this.sentinel = null;
         index = this.list.size() - 1;
     }
 
+    /**
+     * Constructs a live {@code ListPointer} over {@code list}, which is not copied and must only ever be
+     * appended to. The cursor is initialized to point to {@code sentinel}, which follows the last element.
+     */
+    public ListPointer(List<T> list, T sentinel) {
+        requireNonNull(list);
+        this.list = list;
+        this.isLive = true;
+        this.sentinel = sentinel;
+        index = list.size();
+    }
+
     /**
      * Appends {@code element} to the end of the list. We don't check for null
      * values here since this is meant as a generic multi-purpose container.
      * Future developers may need to store null-able values (even if the practice
      * is generally frowned upon).
+     * @throws UnsupportedOperationException if this pointer is live, since it does not own its list.
      */
     public void add(T element) {
+        if (isLive) {
+            throw new UnsupportedOperationException("A live ListPointer cannot add to the list it points into");
+        }
         list.add(element);
     }
 
+    /**
+     * Moves the cursor to the sentinel if this pointer is live, or to the last element otherwise.
+     * Since the list of a live pointer may have grown, this is how its cursor is brought back to the end.
+     */
+    public void moveToEnd() {
+        index = size() - 1;
+    }
+
     /**
      * Returns true if calling {@code #next()}, if next element exists
      * ie. calling {@code #next()} does not throw a {@code NoSuchElementException}.
@@ -69,7 +103,15 @@ public class ListPointer<T> {
      * @return true if within bounds, false otherwise
      */
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
+    }
+
+    private int size() {
+        return isLive ? list.size() + 1 : list.size();
+    }
+
+    private T get(int index) {
+        return isLive && index == list.size() ? sentinel : list.get(index);
     }
 
     /**
@@ -80,7 +122,7 @@ public class ListPointer<T> {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        return get(++index);
     }
 
     /**
@@ -91,7 +133,7 @@ public class ListPointer<T> {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        return get(--index);
     }
 
     /**
@@ -102,7 +144,7 @@ public class ListPointer<T> {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
     }
 
     @Override
@@ -119,6 +161,7 @@ public class ListPointer<T> {
 
         // state check
         ListPointer iterator = (ListPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        return list.equals(iterator.list) && isLive == iterator.isLive
+                && Objects.equals(sentinel, iterator.sentinel) && index == iterator.index;
     }
 }
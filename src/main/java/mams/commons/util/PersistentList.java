@@ -0,0 +1,450 @@
+package mams.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * An immutable list that does not allow nulls, where every change returns a new list sharing all but
+ * O(log n) of its structure with the old one. Old versions stay valid and unchanged, so keeping a version
+ * around is as cheap as keeping a reference to it.
+ *
+ * The elements are kept in a balanced binary tree ordered by position, with each node recording the size
+ * of its subtree. Reading, replacing, inserting and removing an element at any index are all O(log n).
+ * The mutators inherited from {@code List} throw {@code UnsupportedOperationException}.
+ *
+ * Two versions can be compared with {@link #changesTo(PersistentList)} in time proportional to the number of
+ * changes between them, as the subtrees they share need not be looked into.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements} in iteration order, in O(n).
+     * {@code elements} itself is returned if it is already a {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            // safe as the list can never be changed through the returned reference
+            return (PersistentList<E>) elements;
+        }
+        CollectionUtil.requireAllNonNull(elements);
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a list with {@code element} at {@code index} instead of the element there now.
+     */
+    public PersistentList<E> withSet(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended.
+     */
+    public PersistentList<E> withAdded(E element) {
+        return withAdded(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements up by one.
+     */
+    public PersistentList<E> withAdded(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with all of {@code elements} appended in iteration order.
+     */
+    public PersistentList<E> withAddedAll(Collection<? extends E> elements) {
+        CollectionUtil.requireAllNonNull(elements);
+        Node<E> newRoot = root;
+        for (E element : elements) {
+            newRoot = insert(newRoot, size(newRoot), element);
+        }
+        return new PersistentList<>(newRoot);
+    }
+
+    /**
+     * Returns a list without the element at {@code index}, shifting later elements down by one.
+     */
+    public PersistentList<E> withRemoved(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the changes that turn this list into {@code other}, in order. Elements are compared by identity.
+     *
+     * Only the parts of the two trees that are not shared are walked, so comparing a version with one made from
+     * it by k changes takes about O(k log^2 n), rather than O(n).
+     */
+    public List<Change> changesTo(PersistentList<E> other) {
+        requireNonNull(other);
+        List<Change> changes = new ArrayList<>();
+        if (root == other.root) {
+            return changes;
+        }
+
+        int endInThis = 0;
+        int endInOther = 0;
+        for (SharedSubtree shared : findSharedSubtrees(root, other.root)) {
+            if (shared.offsetInThis < endInThis) {
+                // out of order, so its elements are compared one by one instead
+                continue;
+            }
+            addChanges(changes, other, endInThis, shared.offsetInThis, endInOther, shared.offsetInOther);
+            endInThis = shared.offsetInThis + shared.size;
+            endInOther = shared.offsetInOther + shared.size;
+        }
+        addChanges(changes, other, endInThis, size(), endInOther, other.size());
+        return changes;
+    }
+
+    /**
+     * Returns the subtrees shared by the trees at {@code first} and {@code second} that are not inside a larger
+     * shared subtree, ordered by their position in {@code second}.
+     *
+     * The nodes of both trees are expanded tallest first. A shared node is never taller than the unshared nodes
+     * above it, so by the time it is the tallest node left, it has been reached in both trees.
+     */
+    private static <E> List<SharedSubtree> findSharedSubtrees(Node<E> first, Node<E> second) {
+        Map<Node<E>, Integer> reachedInFirst = new IdentityHashMap<>();
+        Map<Node<E>, Integer> reachedInSecond = new IdentityHashMap<>();
+        PriorityQueue<ReachedNode<E>> tallestFirst = new PriorityQueue<>(
+                Comparator.comparingInt((ReachedNode<E> reached) -> reached.node.height).reversed());
+        reach(tallestFirst, reachedInFirst, first, 0, true);
+        reach(tallestFirst, reachedInSecond, second, 0, false);
+
+        List<SharedSubtree> shared = new ArrayList<>();
+        while (!tallestFirst.isEmpty()) {
+            ReachedNode<E> reached = tallestFirst.poll();
+            Map<Node<E>, Integer> ownTree = reached.isInFirst ? reachedInFirst : reachedInSecond;
+            Map<Node<E>, Integer> otherTree = reached.isInFirst ? reachedInSecond : reachedInFirst;
+            if (ownTree.remove(reached.node) == null) {
+                // already matched when it was reached in the other tree
+                continue;
+            }
+            Integer otherOffset = otherTree.remove(reached.node);
+            if (otherOffset != null) {
+                shared.add(reached.isInFirst
+                        ? new SharedSubtree(reached.offset, otherOffset, reached.node.size)
+                        : new SharedSubtree(otherOffset, reached.offset, reached.node.size));
+                continue;
+            }
+            Node<E> node = reached.node;
+            reach(tallestFirst, ownTree, node.left, reached.offset, reached.isInFirst);
+            reach(tallestFirst, ownTree, node.right, reached.offset + size(node.left) + 1, reached.isInFirst);
+        }
+        shared.sort(Comparator.comparingInt(subtree -> subtree.offsetInOther));
+        return shared;
+    }
+
+    private static <E> void reach(PriorityQueue<ReachedNode<E>> queue, Map<Node<E>, Integer> reachedInTree,
+            Node<E> node, int offset, boolean isInFirst) {
+        if (node != null) {
+            reachedInTree.put(node, offset);
+            queue.add(new ReachedNode<>(node, offset, isInFirst));
+        }
+    }
+
+    /**
+     * Adds the changes that turn the elements in [{@code from}, {@code to}) of this list into the elements in
+     * [{@code otherFrom}, {@code otherTo}) of {@code other}. Unchanged elements at either end are left out, and
+     * ranges of the same length give one change per run of changed elements.
+     */
+    private void addChanges(List<Change> changes, PersistentList<E> other, int from, int to, int otherFrom,
+            int otherTo) {
+        while (from < to && otherFrom < otherTo && get(from) == other.get(otherFrom)) {
+            from++;
+            otherFrom++;
+        }
+        while (from < to && otherFrom < otherTo && get(to - 1) == other.get(otherTo - 1)) {
+            to--;
+            otherTo--;
+        }
+        if (to - from != otherTo - otherFrom) {
+            changes.add(new Change(otherFrom, to - from, otherTo - otherFrom));
+            return;
+        }
+        int i = 0;
+        while (i < to - from) {
+            if (get(from + i) == other.get(otherFrom + i)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < to - from && get(from + i) != other.get(otherFrom + i)) {
+                i++;
+            }
+            changes.add(new Change(otherFrom + start, i - start, i - start));
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), (E) elements[mid], build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // the successor takes the place of the removed element
+            return balance(node.left, first(node.right), remove(node.right, 0));
+        }
+    }
+
+    private static <E> E first(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns a node joining {@code left}, {@code value} and {@code right}, rotating once or twice if the heights
+     * of {@code left} and {@code right} differ by two, which is the most a single insertion or removal can cause.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node. Nodes are shared between all the lists that contain them.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * A run of elements replaced between two versions of a list: {@code removed} elements starting at
+     * {@code from} are replaced by the {@code added} elements starting at {@code from} in the newer version.
+     * Indices are in the list with the earlier changes already made, which are the newer version's indices.
+     */
+    public static final class Change {
+        private final int from;
+        private final int removed;
+        private final int added;
+
+        Change(int from, int removed, int added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public int getRemoved() {
+            return removed;
+        }
+
+        public int getAdded() {
+            return added;
+        }
+
+        @Override
+        public String toString() {
+            return "at " + from + ": " + removed + " removed, " + added + " added";
+        }
+    }
+
+    /**
+     * A node reached while comparing two trees, and where its subtree starts in the tree it was reached in.
+     */
+    private static final class ReachedNode<E> {
+        private final Node<E> node;
+        private final int offset;
+        private final boolean isInFirst;
+
+        ReachedNode(Node<E> node, int offset, boolean isInFirst) {
+            this.node = node;
+            this.offset = offset;
+            this.isInFirst = isInFirst;
+        }
+    }
+
+    /**
+     * A subtree found in both of two trees, and where it starts in each.
+     */
+    private static final class SharedSubtree {
+        private final int offsetInThis;
+        private final int offsetInOther;
+        private final int size;
+
+        SharedSubtree(int offsetInThis, int offsetInOther, int size) {
+            this.offsetInThis = offsetInThis;
+            this.offsetInOther = offsetInOther;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Walks a tree in order, keeping the path to the next node on a stack.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package mams.commons.util;
+
+import java.util.Arrays;
+
+/**
+ * A growable set of {@code int} values kept in ascending order in a primitive array.
+ * Lookups are binary searches and no value is ever boxed, which suits small sets of dense integer IDs.
+ */
+public class SortedIntSet {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] values;
+    private int size;
+
+    public SortedIntSet() {
+        values = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a set holding the values of {@code toCopy}.
+     */
+    public SortedIntSet(SortedIntSet toCopy) {
+        values = Arrays.copyOf(toCopy.values, Math.max(INITIAL_CAPACITY, toCopy.size));
+        size = toCopy.size;
+    }
+
+    /**
+     * Adds {@code value} to the set. Returns true if it was not already present.
+     */
+    public boolean add(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position >= 0) {
+            return false;
+        }
+        int insertionPoint = -position - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+        values[insertionPoint] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from the set. Returns true if it was present.
+     */
+    public boolean remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    /**
+     * Returns the value at {@code index} in ascending order.
+     * @throws IndexOutOfBoundsException if {@code index} is not from 0 to {@code size() - 1}.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a copy of the values in ascending order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SortedIntSet)) {
+            return false;
+        }
+
+        SortedIntSet otherSet = (SortedIntSet) other;
+        return Arrays.equals(values, 0, size, otherSet.values, 0, otherSet.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,142 @@
+package mams.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Validators for the field formats used by the model classes.
+ * Each method gives the same answer as {@code String.matches} with the regex in its description,
+ * but scans the characters directly instead of compiling and running a pattern on every call.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} is {@code prefix} followed by exactly {@code digits} digits,
+     * e.g. {@code CS\d{4}} for {@code isPrefixedDigits(test, "CS", 4)}.
+     */
+    public static boolean isPrefixedDigits(String test, String prefix, int digits) {
+        requireNonNull(test);
+        requireNonNull(prefix);
+        if (test.length() != prefix.length() + digits || !test.startsWith(prefix)) {
+            return false;
+        }
+        for (int i = prefix.length(); i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} consists of at least {@code minLength} digits, i.e. {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is one or more alphanumeric characters, i.e. {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an alphanumeric character followed by any number of alphanumeric characters
+     * and spaces, i.e. {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a single line that does not start with whitespace, i.e. {@code [^\s].*}.
+     */
+    public static boolean isLineNotStartingWithWhitespace(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is two or more non-empty items separated by commas, where items contain only
+     * alphanumeric characters, '&amp;' and whitespace, i.e. {@code ([\p{Alnum}&\s]+,)+[\p{Alnum}&\s]+}.
+     */
+    public static boolean isCommaSeparatedList(String test) {
+        requireNonNull(test);
+        int itemLength = 0;
+        boolean hasSeparator = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c == ',') {
+                if (itemLength == 0) {
+                    return false;
+                }
+                hasSeparator = true;
+                itemLength = 0;
+            } else if (isAlphanumeric(c) || c == '&' || isWhitespace(c)) {
+                itemLength++;
+            } else {
+                return false;
+            }
+        }
+        return hasSeparator && itemLength > 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true for the characters matched by {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true for the characters not matched by {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
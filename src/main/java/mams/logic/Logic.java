@@ -1,6 +1,8 @@
 package mams.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import mams.commons.core.GuiSettings;
@@ -27,6 +29,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given an error message when data could not be saved in the background.
+     * It may be called on any thread.
+     */
+    void setStorageFailureHandler(Consumer<String> handler);
+
+    /**
+     * Saves all data not saved yet and stops saving in the background.
+     * @throws IOException if the data could not be saved.
+     */
+    void close() throws IOException;
+
     /**
      * Returns the Mams.
      *
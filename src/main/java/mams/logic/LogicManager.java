@@ -1,8 +1,11 @@
 package mams.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -32,6 +35,7 @@ import mams.model.ReadOnlyMams;
 import mams.model.appeal.Appeal;
 import mams.model.module.Module;
 import mams.model.student.Student;
+import mams.storage.PersistenceService;
 import mams.storage.Storage;
 
 /**
@@ -42,19 +46,27 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final MamsParser mamsParser;
     private final CommandHistory commandHistory;
+    private final PersistenceService persistence;
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, CommandHistory.DEFAULT_WINDOW_SIZE, CommandHistory.DEFAULT_WINDOW_MEMORY_LIMIT);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that keeps at most {@code historyWindowSize} commands and about
+     * {@code historyWindowMemoryLimit} bytes of the command history in memory, if the command history storage
+     * can read older commands back when they are needed.
+     */
+    public LogicManager(Model model, Storage storage, int historyWindowSize, long historyWindowMemoryLimit) {
         Optional<ReadOnlyCommandHistory> commandHistoryOptional;
         ReadOnlyCommandHistory startingCommandHistory;
 
         this.model = model;
-        this.storage = storage;
         this.mamsParser = new MamsParser();
         try { // attempt to load CommandHistory from disk
-            commandHistoryOptional = storage.readCommandHistory();
+            commandHistoryOptional = storage.readRecentCommandHistory(historyWindowSize);
             if (!commandHistoryOptional.isPresent()) {
                 logger.info("Command history data file not found. Starting with an empty command history...");
             }
@@ -63,7 +75,9 @@ public class LogicManager implements Logic {
             logger.warning("Problem while reading from the file. Starting with an empty command history...");
             startingCommandHistory = new CommandHistory();
         }
-        this.commandHistory = new CommandHistory(startingCommandHistory);
+        this.commandHistory = new CommandHistory(startingCommandHistory, historyWindowSize,
+                historyWindowMemoryLimit);
+        this.persistence = new PersistenceService(storage, startingCommandHistory);
     }
 
     @Override
@@ -75,31 +89,55 @@ public class LogicManager implements Logic {
 
         try {
             command = mamsParser.parseCommand(commandText);
-            if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)
+            boolean isUndoable = !(command instanceof UndoCommand) && !(command instanceof RedoCommand)
                     && !(command instanceof ListCommand) && !(command instanceof HistoryCommand)
                     && !(command instanceof HelpCommand) && !(command instanceof FindCommand)
-                    && !(command instanceof ClashCommand) && !(command instanceof ViewCommand)) {
-                new SaveCommand("undo").privateExecute(model);
-            }
+                    && !(command instanceof ClashCommand) && !(command instanceof ViewCommand);
+            // the state is only committed once the command succeeds, so a failed command leaves redo intact
+            ReadOnlyMams previousState = isUndoable ? model.getMamsSnapshot() : null;
             commandResult = command.execute(model, commandHistory);
-            storage.saveMams(model.getMams());
-            commandHistory.add(commandText, commandResult.getFeedbackToUser(), true, new TimeStamp());
+            // snapshots are only replaced when MAMS changes, so a command that changed nothing leaves nothing to undo
+            ReadOnlyMams currentState = model.getMamsSnapshot();
+            if (isUndoable && currentState != previousState) {
+                model.commitMams(previousState);
+            }
+            persistence.mamsChanged(currentState);
+            if (command instanceof SaveCommand) {
+                // a backup is only reported once the data file is up to date as well
+                persistence.flush();
+            }
+            addToCommandHistory(commandText, commandResult.getFeedbackToUser(), true);
         } catch (CommandException | ParseException e) {
-            commandHistory.add(commandText, e.getMessage(), false, new TimeStamp());
+            addToCommandHistory(commandText, e.getMessage(), false);
             throw e; // after getting message, rethrow. stacktrace is not lost
         } catch (IOException ioe) {
-            commandHistory.add(commandText, ioe.getMessage(), false, new TimeStamp());
+            addToCommandHistory(commandText, ioe.getMessage(), false);
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
-        try {
-            storage.saveCommandHistory(commandHistory);
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
         return commandResult;
     }
 
+    /**
+     * Adds the command to the command history, and hands only the new command to the background writer.
+     */
+    private void addToCommandHistory(String commandText, String feedback, boolean wasExecutionSuccessful) {
+        InputOutput inputOutput = new InputOutput(commandText, feedback, wasExecutionSuccessful, new TimeStamp());
+        commandHistory.add(inputOutput);
+        persistence.commandAdded(inputOutput);
+    }
+
+    @Override
+    public void setStorageFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        persistence.setFailureHandler(ioe -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void close() throws IOException {
+        persistence.close();
+    }
+
     @Override
     public ReadOnlyMams getMams() {
         return model.getMams();
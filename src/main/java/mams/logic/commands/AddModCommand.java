@@ -6,13 +6,8 @@ import static mams.commons.core.Messages.MESSAGE_STUDENT_COMPLETED_MODULE;
 import static mams.logic.commands.ClashCommand.MESSAGE_CLASH_IN_STUDENT;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import mams.commons.core.Messages;
 import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
@@ -20,7 +15,6 @@ import mams.model.Model;
 
 import mams.model.module.Module;
 import mams.model.student.Student;
-import mams.model.tag.Tag;
 
 /**
  * Adds a module to a student
@@ -109,47 +103,34 @@ public class AddModCommand extends ModCommand {
      */
     public CommandResult execute(Model model, FilterOnlyCommandHistory commandHistory) throws CommandException {
         requireNonNull(model);
-        List<Student> studentList;
-        List<Module> moduleList;
         Student studentToEdit;
         Module moduleToEdit;
 
-        moduleList = moduleUsingIndex ? model.getFilteredModuleList() : model.getFullModuleList();
-        studentList = studentUsingIndex ? model.getFilteredStudentList() : model.getFullStudentList();
-
         //various checks
-        moduleToEdit = returnModuleIfExist(moduleList);
-        studentToEdit = returnStudentIfExist(studentList);
-        checkIfStudentHasModule(studentToEdit, moduleToEdit.getModuleCode());
+        moduleToEdit = returnModuleIfExist(model);
+        studentToEdit = returnStudentIfExist(model);
+        checkIfStudentHasModule(studentToEdit, moduleToEdit, model);
         checkIfStudentCompletedModule(studentToEdit, moduleToEdit.getModuleCode());
         checkQuotaLimit(moduleToEdit);
-        checkStudentWorkloadLimit(studentToEdit);
-        checkIfModuleClash(studentToEdit, model.getFullModuleList(), moduleToEdit.getModuleCode());
-
-        //add module to student
-        Set<Tag> studentAllTags = studentToEdit.getTags();
-        Set<Tag> ret = new HashSet<>(studentAllTags);
-        ret.add(new Tag(moduleToEdit.getModuleCode()));
-
-        //add student to module field
-        Set<Tag> moduleAllStudents = moduleToEdit.getStudents();
-        Set<Tag> ret2 = new HashSet<>(moduleAllStudents);
-        ret2.add(new Tag(studentToEdit.getMatricId().toString()));
+        checkStudentWorkloadLimit(studentToEdit, model);
+        checkIfModuleClash(studentToEdit, model, moduleToEdit.getModuleCode());
 
-        //replace old student and old module objects with new objects
-        return updateList(model, studentToEdit, moduleToEdit, ret, ret2, MESSAGE_ADD_MOD_SUCCESS);
+        //enrol student in module, replacing old student and old module objects with new objects
+        model.enrol(studentToEdit, moduleToEdit);
+        return updateList(model, studentToEdit, MESSAGE_ADD_MOD_SUCCESS);
     }
 
     /**
      * Checks if the module exists
-     * @param moduleList mMdule list being checked
+     * @param model {@code Model} containing the module
      * @return Module if found
      * @throws CommandException if module is not found
      */
-    Module returnModuleIfExist(List<Module> moduleList) throws CommandException {
-        requireNonNull(moduleList);
+    Module returnModuleIfExist(Model model) throws CommandException {
+        requireNonNull(model);
 
         if (moduleUsingIndex) {
+            List<Module> moduleList = model.getFilteredModuleList();
             int tempIndex = Integer.parseInt(moduleIdentifier);
             if (tempIndex < 1) {
                 throw new CommandException(ModCommand.MESSAGE_USAGE_ADD_MOD);
@@ -160,25 +141,22 @@ public class AddModCommand extends ModCommand {
             }
             return moduleList.get(tempIndexZeroBased);
         } else {
-            List<Module> moduleToCheckList = moduleList.stream()
-                    .filter(m -> m.getModuleCode().equalsIgnoreCase(moduleIdentifier)).collect(Collectors.toList());
-            if (moduleToCheckList.isEmpty()) {
-                throw new CommandException(MESSAGE_INVALID_MODULE);
-            }
-            return moduleToCheckList.get(0);
+            return model.getModuleEqualsToId(moduleIdentifier)
+                    .orElseThrow(() -> new CommandException(MESSAGE_INVALID_MODULE));
         }
     }
 
     /**
      * Checks if the student exists in mams.
-     * @param studentList student list in mams
+     * @param model {@code Model} containing the student
      * @return student if found
      * @throws CommandException if student is not found
      */
-    Student returnStudentIfExist(List<Student> studentList) throws CommandException {
-        requireNonNull(studentList);
+    Student returnStudentIfExist(Model model) throws CommandException {
+        requireNonNull(model);
 
         if (studentUsingIndex) {
+            List<Student> studentList = model.getFilteredStudentList();
             int tempIndex = Integer.parseInt(studentIdentifier);
             if (tempIndex < 1) {
                 throw new CommandException(ModCommand.MESSAGE_USAGE_ADD_MOD);
@@ -189,31 +167,24 @@ public class AddModCommand extends ModCommand {
             }
             return studentList.get(tempIndexZeroBased);
         } else {
-            List<Student> studentToCheckList = studentList.stream()
-                    .filter(p -> p.getMatricId().toString().equalsIgnoreCase(studentIdentifier))
-                    .collect(Collectors.toList());
-            if (studentToCheckList.isEmpty()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID);
-            }
-            return studentToCheckList.get(0);
+            return model.getStudentEqualsToId(studentIdentifier)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID));
         }
     }
 
     /**
      * Checks if students has already has the module.
      * @param studentToEdit student to be checked
-     * @param moduleCode module being added
+     * @param moduleToEdit module being added
+     * @param model {@code Model} keeping the enrolments
      * @throws CommandException if the student already has the module
      */
-    void checkIfStudentHasModule(Student studentToEdit, String moduleCode) throws CommandException {
+    void checkIfStudentHasModule(Student studentToEdit, Module moduleToEdit, Model model) throws CommandException {
         requireNonNull(studentToEdit);
-        requireNonNull(moduleCode);
+        requireNonNull(moduleToEdit);
 
-        Set<Tag> studentModules = studentToEdit.getCurrentModules();
-        for (Tag tag: studentModules) {
-            if (tag.getTagName().equalsIgnoreCase(moduleCode)) {
-                throw new CommandException(MESSAGE_DUPLICATE_MODULE);
-            }
+        if (model.isEnrolled(studentToEdit, moduleToEdit)) {
+            throw new CommandException(MESSAGE_DUPLICATE_MODULE);
         }
     }
 
@@ -226,8 +197,7 @@ public class AddModCommand extends ModCommand {
     void checkIfStudentCompletedModule(Student studentToEdit, String moduleCode) throws CommandException {
         requireNonNull(studentToEdit, moduleCode);
 
-        String prevMods = studentToEdit.getPrevMods().toString();
-        if (prevMods.contains(moduleCode)) {
+        if (studentToEdit.getPrevMods().hasCompleted(moduleCode)) {
             throw new CommandException(MESSAGE_STUDENT_COMPLETED_MODULE);
         }
     }
@@ -249,12 +219,13 @@ public class AddModCommand extends ModCommand {
      * Checks if adding a module will exceed the student's credit limit.
      * All modules have a workload of 4MC.
      * @param studentToEdit student being checked
+     * @param model {@code Model} keeping the workload of the student
      * @throws CommandException if the student has insufficient credits
      */
-    void checkStudentWorkloadLimit(Student studentToEdit) throws CommandException {
+    void checkStudentWorkloadLimit(Student studentToEdit, Model model) throws CommandException {
         requireNonNull(studentToEdit);
 
-        int currWorkload = studentToEdit.getNumberOfMods() * 4;
+        int currWorkload = model.getStudentWorkload(studentToEdit);
         int maxWorkload = studentToEdit.getCredits().getIntVal();
         if ((maxWorkload - currWorkload) < 4) {
             throw new CommandException(MESSAGE_CREDIT_INSUFFICIENT);
@@ -264,82 +235,37 @@ public class AddModCommand extends ModCommand {
     /**
      * Checks if module being added clashes with current module
      * @param studentToEdit student to be checked
-     * @param fullModuleList all modules in list
+     * @param model {@code Model} containing all modules
      * @param moduleCode module to be added
      * @throws CommandException if there are clashes detected
      */
     //@@author chensu2436 and AaronLuk
-    private void checkIfModuleClash(Student studentToEdit, ObservableList<Module> fullModuleList,
+    private void checkIfModuleClash(Student studentToEdit, Model model,
                                     String moduleCode) throws CommandException {
         //get module object
-        List<Module> moduleToCheckList = fullModuleList.stream()
-                .filter(m -> m.getModuleCode().equalsIgnoreCase(moduleCode)).collect(Collectors.toList());
-        Module moduleToEdit = moduleToCheckList.get(0);
+        Module moduleToEdit = model.getModuleEqualsToId(moduleCode).get();
+        if (!model.hasTimetableClash(studentToEdit, moduleToEdit)) {
+            return;
+        }
 
         //Get all the modules object student has and add them into an arraylist of modules for checking
-        Set<Tag> studentModules = studentToEdit.getCurrentModules();
         ArrayList<Module> currentModules = new ArrayList<>();
-        for (Tag currentModule : studentModules) {
-            String modCode = currentModule.getTagName();
-            List<Module> filteredModulesList = fullModuleList
-                    .stream()
-                    .filter(m -> m.getModuleCode().equalsIgnoreCase(modCode))
-                    .collect(Collectors.toList());
-            Module filteredModule = filteredModulesList.get(0);
-            currentModules.add(filteredModule);
+        for (String modCode : model.getEnrolledModuleCodes(studentToEdit)) {
+            model.getModuleEqualsToId(modCode).ifPresent(currentModules::add);
         }
-        ArrayList<ClashCommand.ClashCase> clashCases = new ArrayList<>();
         //Checks if current modules clashes with requested module
-        for (Module currentModule : currentModules) {
-            if (getClashCase(currentModule, moduleToEdit).isPresent()) {
-                clashCases.add(getClashCase(currentModule, moduleToEdit).get());
-            }
-        }
+        List<ClashCommand.ClashCase> clashCases = ClashChecker.getClashCases(moduleToEdit, currentModules);
 
         //If there exists clashes notify admin via feedback message
         if (clashCases.size() != 0) {
             throw new CommandException(MESSAGE_CLASH_IN_STUDENT
                     + studentToEdit.getMatricId()
                     + ":\n"
-                    + getClashDetails(clashCases)
+                    + ClashChecker.getClashDetails(clashCases)
                     + "Unable to add module due to clashes. ");
         }
 
     }
-
-    private Optional<ClashCommand.ClashCase> getClashCase(Module moduleA, Module moduleB) {
-        int[] timeTableA = moduleA.getTimeSlotToIntArray();
-        int[] timeTableB = moduleB.getTimeSlotToIntArray();
-        ArrayList<Integer> slots = new ArrayList<>();
-        for (int i : timeTableA) {
-            for (int j : timeTableB) {
-                if (i == j) {
-                    slots.add(i);
-                }
-            }
-        }
-        if (!slots.isEmpty()) {
-            ClashCommand.ClashCase c = new ClashCommand.ClashCase();
-            c.setModuleA(moduleA);
-            c.setModuleB(moduleB);
-            c.setClashingSlots(slots);
-            return Optional.of(c);
-        }
-        return Optional.empty();
-    }
-
-    private String getClashDetails(ArrayList<ClashCommand.ClashCase> clashCases) {
-        StringBuilder s = new StringBuilder();
-        for (ClashCommand.ClashCase c : clashCases) {
-            s.append(c.getModuleCodeA());
-            s.append("  ");
-            s.append(c.getModuleCodeB());
-            s.append("\n");
-            s.append(c.getClashingSlots());
-            s.append("\n");
-        }
-        return s.toString();
-    }
     //@@author
 
     @Override
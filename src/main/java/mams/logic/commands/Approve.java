@@ -4,6 +4,11 @@ import static mams.logic.parser.CliSyntax.PREFIX_APPEAL;
 import static mams.logic.parser.CliSyntax.PREFIX_MASS_RESOLVE;
 import static mams.logic.parser.CliSyntax.PREFIX_REASON;
 
+import java.util.Optional;
+
+import mams.model.Model;
+import mams.model.module.Module;
+import mams.model.student.Student;
 
 /**
  * Approve parent class for approve commands
@@ -23,4 +28,16 @@ public abstract class Approve extends ResolveCommand {
 
     public static final String MESSAGE_APPROVE_FAIL = "Not able to approve appeal %s.";
     public static final String MESAGE_NO_APPEALS_APPROVED = "No appeals were approved";
+
+    /**
+     * Returns true if {@code student} takes the module {@code moduleCode}, which is {@code module} if it is in MAMS.
+     * Enrolment in a module in MAMS is looked up directly; a module not in MAMS is only found among the module
+     * tags of the student, matched ignoring case.
+     */
+    protected static boolean hasModule(Model model, Student student, String moduleCode, Optional<Module> module) {
+        if (module.isPresent()) {
+            return model.isEnrolled(student, module.get());
+        }
+        return student.getCurrentModules().stream().anyMatch(tag -> tag.getTagName().equalsIgnoreCase(moduleCode));
+    }
 }
@@ -12,11 +12,8 @@ import static mams.logic.commands.RemoveModCommand.MESSAGE_STUDENT_REMOVE_MOD;
 import static mams.logic.commands.SetCredits.MESSAGE_STUDENT_CREDIT_CHANGE;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import mams.commons.core.Messages;
 import mams.commons.core.index.Index;
@@ -26,10 +23,11 @@ import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.model.Model;
 import mams.model.appeal.Appeal;
+import mams.model.appeal.AppealResult;
+import mams.model.appeal.AppealType;
 import mams.model.module.Module;
 import mams.model.student.Credits;
 import mams.model.student.Student;
-import mams.model.tag.Tag;
 
 
 /**
@@ -68,30 +66,25 @@ public class ApproveCommand extends Approve {
             Student studentToEdit;
             Student editedStudent;
             Module moduleToEdit;
-            Module editedModule;
+            Optional<Student> studentToCheck;
+            Optional<Module> moduleToCheck;
             String feedback = "";
             String target = "";
-            String type = "";
             String change = "";
             int workLoad = 0;
             String moduleCode;
 
-            List<Student> fullStudentList = model.getFullStudentList();
-            List<Module> fullModuleList = model.getFullModuleList();
-
-            String appealType = appealToApprove.getAppealType();
             String studentToEditId = appealToApprove.getStudentId();
 
-            if (appealType.equalsIgnoreCase("Increase workload")) {
+            switch (appealToApprove.getType()) {
+            case INCREASE_WORKLOAD:
 
-                List<Student> studentToCheckList = fullStudentList.stream()
-                                .filter(p -> p.getMatricId().toString().equals(studentToEditId))
-                                .collect(Collectors.toList());
+                studentToCheck = model.getStudentEqualsToId(studentToEditId);
 
-                if (studentToCheckList.isEmpty()) {
+                if (!studentToCheck.isPresent()) {
                     throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID);
                 }
-                studentToEdit = studentToCheckList.get(0);
+                studentToEdit = studentToCheck.get();
 
                 editedStudent = new Student(studentToEdit.getName(),
                             new Credits((Integer.toString(appealToApprove.getStudentWorkload()))),
@@ -102,210 +95,110 @@ public class ApproveCommand extends Approve {
                 model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
                 feedback += MESSAGE_STUDENT_CREDIT_CHANGE;
                 workLoad = appealToApprove.getStudentWorkload();
-                type += "increase workload";
                 target += studentToEditId;
+                break;
 
-            } else if (appealType.equalsIgnoreCase("Drop module")) {
+            case DROP_MODULE:
                 moduleCode = appealToApprove.getModuleToDrop();
 
                 //Check if student exists
-                List<Student> studentToCheckList = fullStudentList.stream()
-                        .filter(p -> p.getMatricId().toString().equals(studentToEditId))
-                        .collect(Collectors.toList());
-                if (studentToCheckList.isEmpty()) {
+                studentToCheck = model.getStudentEqualsToId(studentToEditId);
+                if (!studentToCheck.isPresent()) {
                     throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID
                             + " "
                             + String.format(MESSAGE_APPROVE_FAIL, appealToApprove.getAppealId()));
                 }
-                studentToEdit = studentToCheckList.get(0);
+                studentToEdit = studentToCheck.get();
                 //check if student has the module (ready for deletion).
-                Set<Tag> studentModules = studentToEdit.getCurrentModules();
-                boolean hasModule = false;
-                for (Tag tag : studentModules) {
-                    if (tag.getTagName().equalsIgnoreCase(moduleCode)) {
-                        hasModule = true;
-                    }
-                }
-                if (!hasModule) {
+                moduleToCheck = model.getModuleEqualsToId(moduleCode);
+                if (!hasModule(model, studentToEdit, moduleCode, moduleToCheck)) {
                     throw new CommandException(MESSAGE_MISSING_MODULE
                             + " "
                             + String.format(MESSAGE_APPROVE_FAIL, appealToApprove.getAppealId()));
                 }
 
                 //check if module exist
-                List<Module> moduleToCheckList = fullModuleList.stream()
-                        .filter(m -> m.getModuleCode().equalsIgnoreCase(moduleCode)).collect(Collectors.toList());
-                if (moduleToCheckList.isEmpty()) {
+                if (!moduleToCheck.isPresent()) {
                     throw new CommandException(MESSAGE_INVALID_MODULE
                             + " "
                             + String.format(MESSAGE_APPROVE_FAIL, appealToApprove.getAppealId()));
                 }
-                moduleToEdit = moduleToCheckList.get(0);
+                moduleToEdit = moduleToCheck.get();
 
 
-                Set<Tag> ret = new HashSet<>();
-                Set<Tag> studentAllTags = studentToEdit.getTags();
-                for (Tag tag : studentAllTags) {
-                    if (!tag.getTagName().equalsIgnoreCase(moduleCode)) {
-                        ret.add(tag);
-                    }
-                }
-
-                //create a tag list without the student for the new module
-                Set<Tag> ret2 = new HashSet<>();
-                Set<Tag> moduleAllStudents = moduleToEdit.getStudents();
-                for (Tag tag : moduleAllStudents) {
-                    if (!tag.getTagName().equalsIgnoreCase(studentToEdit.getMatricId().toString())) {
-                        ret2.add(tag);
-                    }
-                }
-
-                editedStudent = new Student(studentToEdit.getName(),
-                        studentToEdit.getCredits(),
-                        studentToEdit.getPrevMods(),
-                        studentToEdit.getMatricId(),
-                        ret);
-                model.setStudent(studentToEdit, editedStudent);
+                model.unenrol(studentToEdit, moduleToEdit);
                 model.updateFilteredAppealList(Model.PREDICATE_SHOW_ALL_APPEALS);
                 model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
-
-                editedModule = new Module(moduleToEdit.getModuleCode(),
-                        moduleToEdit.getModuleName(),
-                        moduleToEdit.getModuleDescription(),
-                        moduleToEdit.getLecturerName(),
-                        moduleToEdit.getTimeSlot(),
-                        moduleToEdit.getQuota(),
-                        ret2);
-
-                model.setModule(moduleToEdit, editedModule);
-                model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
                 model.updateFilteredModuleList(Model.PREDICATE_SHOW_ALL_MODULES);
                 feedback = MESSAGE_STUDENT_REMOVE_MOD;
                 target = studentToEditId;
-                type += "drop module";
                 change += moduleCode;
+                break;
 
-            } else {
-                ArrayList<ClashCase> clashCases = new ArrayList<ClashCase>();
+            case ADD_MODULE:
+            default:
                 moduleCode = appealToApprove.getModuleToAdd();
 
 
-                List<Student> studentToCheckList = fullStudentList.stream()
-                        .filter(p -> p.getMatricId().toString().equals(studentToEditId)).collect(Collectors.toList());
-                if (studentToCheckList.isEmpty()) {
+                studentToCheck = model.getStudentEqualsToId(studentToEditId);
+                if (!studentToCheck.isPresent()) {
                     throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID
                             + " "
                             + String.format(MESSAGE_APPROVE_FAIL, appealToApprove.getAppealId()));
                 }
-                studentToEdit = studentToCheckList.get(0);
+                studentToEdit = studentToCheck.get();
 
                 //check if module exist
-                List<Module> moduleToCheckList = fullModuleList.stream()
-                        .filter(m -> m.getModuleCode().equalsIgnoreCase(moduleCode)).collect(Collectors.toList());
-                if (moduleToCheckList.isEmpty()) {
+                moduleToCheck = model.getModuleEqualsToId(moduleCode);
+                if (!moduleToCheck.isPresent()) {
                     throw new CommandException(MESSAGE_INVALID_MODULE
                             + " "
                             + String.format(MESSAGE_APPROVE_FAIL, appealToApprove.getAppealId()));
                 }
-                moduleToEdit = moduleToCheckList.get(0);
+                moduleToEdit = moduleToCheck.get();
 
 
                 //check if student already has module.
-                Set<Tag> studentModules = studentToEdit.getCurrentModules();
-                for (Tag tag : studentModules) {
-                    if (tag.getTagName().equalsIgnoreCase(moduleCode)) {
-                        throw new CommandException(MESSAGE_DUPLICATE_MODULE);
-                    }
+                if (model.isEnrolled(studentToEdit, moduleToEdit)) {
+                    throw new CommandException(MESSAGE_DUPLICATE_MODULE);
                 }
 
 
-                //Get all the modules student has and add them into an arraylist of modules for checking
-                ArrayList<Module> currentModules = new ArrayList<>();
-                for (Tag currentModule : studentModules) {
-                    String modCode = currentModule.getTagName();
-                    List<Module> filteredModulesList = model.getFullModuleList()
-                            .stream()
-                            .filter(m -> m.getModuleCode().equalsIgnoreCase(modCode))
-                            .collect(Collectors.toList());
-                    Module filteredModule = filteredModulesList.get(0);
-                    currentModules.add(filteredModule);
-                }
-
                 //Checks if current modules clashes with requested module
-                for (Module currentModule : currentModules) {
-                    if (getClashCase(currentModule, moduleToEdit).isPresent()) {
-                        clashCases.add(getClashCase(currentModule, moduleToEdit).get());
+                if (model.hasTimetableClash(studentToEdit, moduleToEdit)) {
+                    //Get all the modules student has and add them into an arraylist of modules for the report
+                    ArrayList<Module> currentModules = new ArrayList<>();
+                    for (String modCode : model.getEnrolledModuleCodes(studentToEdit)) {
+                        model.getModuleEqualsToId(modCode).ifPresent(currentModules::add);
                     }
-                }
+                    List<ClashCase> clashCases = ClashChecker.getClashCases(moduleToEdit, currentModules);
 
-                //If there exists clashes notify admin via feedback message
-                if (clashCases.size() != 0) {
+                    //notify admin via feedback message
                     return new CommandResult(MESSAGE_CLASH_IN_STUDENT
                             + studentToEditId
                             + ":\n"
-                            + getClashDetails(clashCases)
+                            + ClashChecker.getClashDetails(clashCases)
                             + "Unable to approve this appeal");
                 }
 
 
-                //add module to student.
-                Set<Tag> ret = new HashSet<>();
-                Set<Tag> studentAllTags = studentToEdit.getTags();
-                for (Tag tag : studentAllTags) {
-                    ret.add(tag);
-                }
-                ret.add(new Tag(moduleCode));
-
-
-                //add student to module field
-                Set<Tag> moduleAllStudents = moduleToEdit.getStudents();
-                Set<Tag> ret2 = new HashSet<>(moduleAllStudents);
-                ret2.add(new Tag(studentToEdit.getMatricId().toString()));
-
-                //replace old student and old module objects with edited modules.
-                editedStudent = new Student(studentToEdit.getName(),
-                        studentToEdit.getCredits(),
-                        studentToEdit.getPrevMods(),
-                        studentToEdit.getMatricId(),
-                        ret);
-
-                editedModule = new Module(moduleToEdit.getModuleCode(),
-                        moduleToEdit.getModuleName(),
-                        moduleToEdit.getModuleDescription(),
-                        moduleToEdit.getLecturerName(),
-                        moduleToEdit.getTimeSlot(),
-                        moduleToEdit.getQuota(),
-                        ret2);
-
-                model.setStudent(studentToEdit, editedStudent);
-                model.setModule(moduleToEdit, editedModule);
+                //add module to student, replacing old student and old module objects with edited ones.
+                model.enrol(studentToEdit, moduleToEdit);
                 model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
                 model.updateFilteredModuleList(Model.PREDICATE_SHOW_ALL_MODULES);
 
                 feedback = MESSAGE_STUDENT_ADD_MOD;
                 target = studentToEditId;
-                type += "add module";
                 change += moduleCode;
+                break;
             }
 
 
-            approvedAppeal = new Appeal(appealToApprove.getAppealId(),
-                    appealToApprove.getAppealType(),
-                    appealToApprove.getStudentId(),
-                    appealToApprove.getAcademicYear(),
-                    appealToApprove.getStudentWorkload(),
-                    appealToApprove.getAppealDescription(),
-                    appealToApprove.getPreviousModule(),
-                    appealToApprove.getNewModule(),
-                    appealToApprove.getModuleToAdd(),
-                    appealToApprove.getModuleToDrop(),
-                    true,
-                    "APPROVED",
-                    reason);
+            approvedAppeal = appealToApprove.withResult(AppealResult.APPROVED, reason);
             model.setAppeal(appealToApprove, approvedAppeal);
             model.updateFilteredAppealList(Model.PREDICATE_SHOW_ALL_APPEALS);
 
-            if (type.equalsIgnoreCase("increase workload")) {
+            if (appealToApprove.getType() == AppealType.INCREASE_WORKLOAD) {
                 return new CommandResult(generateSuccessMessageWorkload(appealToApprove, feedback, workLoad, target));
             } else {
                 return new CommandResult(generateSuccessMessageModule(approvedAppeal, feedback, target, change));
@@ -370,53 +263,4 @@ public class ApproveCommand extends Approve {
         return index.equals(e.index)
                 && reason.equals(e.reason);
     }
-
-    /**
-     * Returns an ArrayList of Integers that contains the clashing time slots.
-     * @param moduleA a Module object of module A
-     * @param moduleB a Module object of module B
-     * @return an ArrayList of Integers that contains the clashing time slots.
-     */
-    //@@author chensu2436
-    private Optional<ClashCase> getClashCase(Module moduleA, Module moduleB) {
-        int[] timeTableA = moduleA.getTimeSlotToIntArray();
-        int[] timeTableB = moduleB.getTimeSlotToIntArray();
-        ArrayList<Integer> slots = new ArrayList<>();
-        for (int i : timeTableA) {
-            for (int j : timeTableB) {
-                if (i == j) {
-                    slots.add(i);
-                }
-            }
-        }
-        if (!slots.isEmpty()) {
-            ClashCase c = new ClashCase();
-            c.setModuleA(moduleA);
-            c.setModuleB(moduleB);
-            c.setClashingSlots(slots);
-            return Optional.of(c);
-        }
-        return Optional.empty();
-    }
-
-    /**
-     * Returns a String representation of details of each {@code ClashCase} object in the clashCases list.
-     * (i.e. two module codes and the time slots they have in common)
-     * @return a String representation of details of each {@code ClashCase} object in the clashCases list.
-     */
-    //@@author chensu2436
-    private String getClashDetails(ArrayList<ClashCase> clashCases) {
-        StringBuilder s = new StringBuilder();
-        for (ClashCase c : clashCases) {
-            s.append(c.getModuleCodeA());
-            s.append("  ");
-            s.append(c.getModuleCodeB());
-            s.append("\n");
-            s.append(c.getClashingSlots());
-            s.append("\n");
-        }
-        return s.toString();
-    }
-
-
 }
@@ -0,0 +1,72 @@
+package mams.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import mams.logic.commands.ClashCommand.ClashCase;
+import mams.model.module.Module;
+import mams.model.module.TimeSlotSet;
+
+/**
+ * Detects timetable clashes between modules. Shared by every command that needs to check clashes.
+ * Clashes are found with a bitwise AND over each module's {@code TimeSlotSet}; the clashing slots are
+ * only expanded when a {@code ClashCase} has to be reported.
+ */
+public class ClashChecker {
+
+    /**
+     * Returns a {@code ClashCase} holding the time slots {@code moduleA} and {@code moduleB} have in common,
+     * or an empty {@code Optional} if they do not clash.
+     */
+    public static Optional<ClashCase> getClashCase(Module moduleA, Module moduleB) {
+        requireNonNull(moduleA);
+        requireNonNull(moduleB);
+        if (!moduleA.clashesWith(moduleB)) {
+            return Optional.empty();
+        }
+        ClashCase c = new ClashCase();
+        c.setModuleA(moduleA);
+        c.setModuleB(moduleB);
+        c.setClashingSlots(moduleA.getTimeSlots().intersect(moduleB.getTimeSlots()));
+        return Optional.of(c);
+    }
+
+    /**
+     * Returns the clashes between {@code moduleToCheck} and each of {@code currentModules}, in the order of
+     * {@code currentModules}. Each {@code ClashCase} has the current module as its first module.
+     */
+    public static List<ClashCase> getClashCases(Module moduleToCheck, Collection<Module> currentModules) {
+        requireNonNull(moduleToCheck);
+        requireNonNull(currentModules);
+        List<ClashCase> clashCases = new ArrayList<>();
+
+        TimeSlotSet occupied = TimeSlotSet.EMPTY;
+        for (Module currentModule : currentModules) {
+            occupied = occupied.union(currentModule.getTimeSlots());
+        }
+        if (!occupied.overlaps(moduleToCheck.getTimeSlots())) {
+            return clashCases;
+        }
+
+        for (Module currentModule : currentModules) {
+            getClashCase(currentModule, moduleToCheck).ifPresent(clashCases::add);
+        }
+        return clashCases;
+    }
+
+    /**
+     * Returns a String representation of details of each {@code ClashCase} in {@code clashCases}.
+     * (i.e. two module codes and the time slots they have in common)
+     */
+    public static String getClashDetails(List<ClashCase> clashCases) {
+        StringBuilder s = new StringBuilder();
+        for (ClashCase c : clashCases) {
+            s.append(c.toString());
+        }
+        return s.toString();
+    }
+}
@@ -6,18 +6,18 @@ import static mams.logic.parser.CliSyntax.PREFIX_MODULE;
 import static mams.logic.parser.CliSyntax.PREFIX_STUDENT;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import mams.commons.core.index.Index;
 import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.model.Model;
 import mams.model.appeal.Appeal;
+import mams.model.appeal.AppealType;
 import mams.model.module.Module;
+import mams.model.module.TimeSlotSet;
 import mams.model.student.Student;
 import mams.model.tag.Tag;
 
@@ -79,14 +79,14 @@ public class ClashCommand extends Command {
                 return new CommandResult(MESSAGE_NO_NEED_TO_CHECK_CLASH);
             }
 
-            Student studentToCheck = getStudent(appeal.getStudentId(), model.getFullStudentList());
+            Student studentToCheck = getStudent(appeal.getStudentId(), model);
             ArrayList<Module> currentModules = getStudentCurrentModules(studentToCheck, model);
 
             if (isAddModAppeal(appeal)) {
-                Module moduleToAdd = getModule(appeal.getModuleToAdd(), model.getFullModuleList());
+                Module moduleToAdd = getModule(appeal.getModuleToAdd(), model);
                 checkAddOrDropModClashes(moduleToAdd, currentModules);
             } else if (isDropModAppeal(appeal)) {
-                Module moduleToDrop = getModule(appeal.getModuleToDrop(), model.getFullModuleList());
+                Module moduleToDrop = getModule(appeal.getModuleToDrop(), model);
                 checkAddOrDropModClashes(moduleToDrop, currentModules);
             }
         }
@@ -100,9 +100,7 @@ public class ClashCommand extends Command {
             Module secondModule = lastShownModuleList.get(params.getSecondModuleIndex().getZeroBased());
             verifyNonDuplicateModuleParams(firstModule, secondModule);
 
-            if (getClashCase(firstModule, secondModule).isPresent()) {
-                clashCases.add(getClashCase(firstModule, secondModule).get());
-            }
+            ClashChecker.getClashCase(firstModule, secondModule).ifPresent(clashCases::add);
         }
 
         if (params.getModuleCodes().isPresent()) {
@@ -111,9 +109,7 @@ public class ClashCommand extends Command {
             Module secondModule = getModule(params.getSecondModuleCode(), model.getFilteredModuleList());
             verifyNonDuplicateModuleParams(firstModule, secondModule);
 
-            if (getClashCase(firstModule, secondModule).isPresent()) {
-                clashCases.add(getClashCase(firstModule, secondModule).get());
-            }
+            ClashChecker.getClashCase(firstModule, secondModule).ifPresent(clashCases::add);
         }
 
         if (params.getStudentIndex().isPresent()) {
@@ -126,7 +122,7 @@ public class ClashCommand extends Command {
         }
 
         if (clashCases.size() != 0) {
-            return new CommandResult(MESSAGE_CLASH_DETECTED + getClashDetails());
+            return new CommandResult(MESSAGE_CLASH_DETECTED + ClashChecker.getClashDetails(clashCases));
         } else {
             return new CommandResult(MESSAGE_CLASH_NOT_DETECTED);
         }
@@ -138,7 +134,7 @@ public class ClashCommand extends Command {
      * @return true if the appeal type is Add Module
      */
     private boolean isAddModAppeal(Appeal appeal) {
-        return appeal.getAppealType().equalsIgnoreCase("add module");
+        return appeal.getType() == AppealType.ADD_MODULE;
     }
 
     /**
@@ -147,7 +143,7 @@ public class ClashCommand extends Command {
      * @return true if the appeal type is Drop Module
      */
     private boolean isDropModAppeal(Appeal appeal) {
-        return appeal.getAppealType().equalsIgnoreCase("drop module");
+        return appeal.getType() == AppealType.DROP_MODULE;
     }
 
     /**
@@ -158,9 +154,8 @@ public class ClashCommand extends Command {
      */
     private void checkAddOrDropModClashes(Module moduleToCheck, ArrayList<Module> currentModules) {
         for (Module currentModule : currentModules) {
-            if (!moduleToCheck.getModuleCode().equalsIgnoreCase(currentModule.getModuleCode())
-                    && getClashCase(currentModule, moduleToCheck).isPresent()) {
-                clashCases.add(getClashCase(moduleToCheck, currentModule).get());
+            if (!moduleToCheck.getModuleCode().equalsIgnoreCase(currentModule.getModuleCode())) {
+                ClashChecker.getClashCase(moduleToCheck, currentModule).ifPresent(clashCases::add);
             }
         }
     }
@@ -173,26 +168,11 @@ public class ClashCommand extends Command {
     private void checkClashesInStudentCurrentTimeTable(ArrayList<Module> currentModules) {
         for (int i = 0; i < currentModules.size() - 1; i++) {
             for (int j = i + 1; j < currentModules.size(); j++) {
-                if (getClashCase(currentModules.get(i), currentModules.get(j)).isPresent()) {
-                    clashCases.add(getClashCase(currentModules.get(i), currentModules.get(j)).get());
-                }
+                ClashChecker.getClashCase(currentModules.get(i), currentModules.get(j)).ifPresent(clashCases::add);
             }
         }
     }
 
-    /**
-     * Returns a String representation of details of each {@code ClashCase} object in the clashCases list.
-     * (i.e. two module codes and the time slots they have in common)
-     * @return a String representation of details of each {@code ClashCase} object in the clashCases list.
-     */
-    private String getClashDetails() {
-        StringBuilder s = new StringBuilder();
-        for (ClashCase c : clashCases) {
-            s.append(c.toString());
-        }
-        return s.toString();
-    }
-
     /**
      * Checks whether {@code Index} is within the size of the list.
      * @param index index input
@@ -228,12 +208,7 @@ public class ClashCommand extends Command {
         ArrayList<Module> currentModules = new ArrayList<>();
         for (Tag currentModule : currentModulesSet) {
             String moduleCode = currentModule.getTagName();
-            List<Module> filteredModulesList = model.getFullModuleList()
-                    .stream()
-                    .filter(m -> m.getModuleCode().equalsIgnoreCase(moduleCode))
-                    .collect(Collectors.toList());
-            Module filteredModule = filteredModulesList.get(0);
-            currentModules.add(filteredModule);
+            model.getModuleEqualsToId(moduleCode).ifPresent(currentModules::add);
         }
         return currentModules;
     }
@@ -241,69 +216,41 @@ public class ClashCommand extends Command {
     /**
      * Returns a Module object according to the module code given.
      * @param moduleCode String of module code
-     * @param moduleList The list containing all modules
+     * @param model the Model object
      * @return a Module object wtih the module code given
      * @throws CommandException if the module is not found
      */
-    private Module getModule(String moduleCode, List<Module> moduleList) throws CommandException {
-        List<Module> modulesToCheckList = moduleList.stream()
-                .filter(m -> m.getModuleCode().equalsIgnoreCase(moduleCode))
-                .collect(Collectors.toList());
+    private Module getModule(String moduleCode, Model model) throws CommandException {
+        return model.getModuleEqualsToId(moduleCode)
+                .orElseThrow(() -> new CommandException(MESSAGE_INVALID_MODULE));
+    }
 
-        if (modulesToCheckList.isEmpty()) {
-            throw new CommandException(MESSAGE_INVALID_MODULE);
+    /**
+     * Returns a Module object in {@code moduleList} according to the module code given.
+     * @param moduleCode String of module code
+     * @param moduleList The list of modules to search
+     * @return a Module object wtih the module code given
+     * @throws CommandException if the module is not found
+     */
+    private Module getModule(String moduleCode, List<Module> moduleList) throws CommandException {
+        for (Module module : moduleList) {
+            if (module.getModuleCode().equalsIgnoreCase(moduleCode)) {
+                return module;
+            }
         }
-
-        return modulesToCheckList.get(0);
+        throw new CommandException(MESSAGE_INVALID_MODULE);
     }
 
     /**
      * Returns a Student object according to the matric ID given.
      * @param studentId String of matric id
-     * @param studentList The list containing all students
+     * @param model the Model object
      * @return a Student object with the matric ID given
      * @throws CommandException if the student is not found
      */
-    private Student getStudent(String studentId, List<Student> studentList) throws CommandException {
-        List<Student> studentToCheckList = studentList.stream()
-                .filter(s -> s.getMatricId().toString().equalsIgnoreCase(studentId))
-                .collect(Collectors.toList());
-
-        if (studentToCheckList.isEmpty()) {
-            throw new CommandException(MESSAGE_INVALID_STUDENT);
-        }
-
-        return studentToCheckList.get(0);
-    }
-
-    /**
-     * Returns an ArrayList of Integers that contains the clashing time slots.
-     * @param moduleA a Module object of module A
-     * @param moduleB a Module object of module B
-     * @return an ArrayList of Integers that contains the clashing time slots.
-     */
-    private Optional<ClashCase> getClashCase(Module moduleA, Module moduleB) {
-        int[] timeTableA = moduleA.getTimeSlotToIntArray();
-        int[] timeTableB = moduleB.getTimeSlotToIntArray();
-        ArrayList<Integer> slots = new ArrayList<>();
-
-        for (int i : timeTableA) {
-            for (int j : timeTableB) {
-                if (i == j) {
-                    slots.add(i);
-                }
-            }
-        }
-
-        if (!slots.isEmpty()) {
-            ClashCase c = new ClashCase();
-            c.setModuleA(moduleA);
-            c.setModuleB(moduleB);
-            c.setClashingSlots(slots);
-            return Optional.of(c);
-        }
-
-        return Optional.empty();
+    private Student getStudent(String studentId, Model model) throws CommandException {
+        return model.getStudentEqualsToId(studentId)
+                .orElseThrow(() -> new CommandException(MESSAGE_INVALID_STUDENT));
     }
 
     @Override
@@ -415,7 +362,7 @@ public class ClashCommand extends Command {
     public static class ClashCase {
         private Module moduleA;
         private Module moduleB;
-        private ArrayList<Integer> clashingSlots;
+        private TimeSlotSet clashingSlots;
 
         public String getModuleCodeA() {
             return moduleA.getModuleCode();
@@ -426,7 +373,7 @@ public class ClashCommand extends Command {
         }
 
         public String getClashingSlots() {
-            return generateTempMod().getModuleTimeTableToString();
+            return moduleA.timeSlotsToString(clashingSlots.toArray());
         }
 
         public void setModuleA(Module moduleA) {
@@ -438,20 +385,11 @@ public class ClashCommand extends Command {
         }
 
         public void setClashingSlots(ArrayList<Integer> clashingSlots) {
-            this.clashingSlots = clashingSlots;
+            this.clashingSlots = TimeSlotSet.of(clashingSlots);
         }
 
-        /**
-         * Returns a temporary module object which stores the clashing time slots
-         * @return Returns a temporary module object which stores the clashing time slots
-         */
-        private Module generateTempMod() {
-            StringBuilder sb = new StringBuilder("");
-            for (int slot : clashingSlots) {
-                sb.append(slot).append(",");
-            }
-            return new Module("", "", "", "", sb.toString(),
-                    "", new HashSet<>());
+        public void setClashingSlots(TimeSlotSet clashingSlots) {
+            this.clashingSlots = clashingSlots;
         }
 
         @Override
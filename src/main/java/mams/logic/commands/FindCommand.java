@@ -6,6 +6,7 @@ import static mams.logic.parser.CliSyntax.PREFIX_MODULE;
 import static mams.logic.parser.CliSyntax.PREFIX_STUDENT;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import mams.commons.core.Messages;
@@ -52,7 +53,10 @@ public class FindCommand extends Command {
 
             if (pred instanceof AppealContainsKeywordsPredicate
                     && ((AppealContainsKeywordsPredicate) pred).getListSize() != 0) {
-                model.updateFilteredAppealList(pred);
+                // keyed by appeal ID, so that appeals found stay listed when they are approved or edited
+                Set<String> matchedIds = model.getAppealIdsMatchingKeywords(
+                        ((AppealContainsKeywordsPredicate) pred).getKeywords());
+                model.updateFilteredAppealList(appeal -> matchedIds.contains(appeal.getAppealId()));
                 response.append(String.format(Messages.MESSAGE_APPEALS_LISTED_OVERVIEW,
                         model.getFilteredAppealList().size()));
                 response.append("\n");
@@ -1,11 +1,21 @@
 package mams.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
 import static mams.commons.util.CollectionUtil.requireAllNonNull;
 import static mams.logic.history.InputOutput.PREDICATE_SHOW_ALL;
 import static mams.logic.history.InputOutput.PREDICATE_SHOW_ONLY_SUCCESSFUL;
+import static mams.logic.history.InputOutput.PREDICATE_SHOW_ONLY_UNSUCCESSFUL;
+import static mams.logic.parser.HistoryCommandParser.OPTION_COMMAND_WORD;
 import static mams.logic.parser.HistoryCommandParser.OPTION_HIDE_OUTPUT;
+import static mams.logic.parser.HistoryCommandParser.OPTION_HIDE_SUCCESSFUL;
 import static mams.logic.parser.HistoryCommandParser.OPTION_HIDE_UNSUCCESSFUL;
+import static mams.logic.parser.HistoryCommandParser.OPTION_TIME_RANGE;
+import static mams.logic.parser.HistoryCommandParser.TIME_FORMAT_STRING;
+
+import java.util.Objects;
 
+import mams.commons.core.time.TimeStamp;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.logic.history.HistoryFilterSettings;
 import mams.model.Model;
@@ -19,18 +29,28 @@ public class HistoryCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Displays the command history window, with several display options.\n"
-            + "Parameters: KEYWORD "
+            + "Parameters: "
             + "[" + OPTION_HIDE_OUTPUT + "] "
-            + "[" + OPTION_HIDE_UNSUCCESSFUL + "]\n"
+            + "[" + OPTION_HIDE_UNSUCCESSFUL + " | " + OPTION_HIDE_SUCCESSFUL + " | "
+            + OPTION_COMMAND_WORD + " COMMAND_WORD | " + OPTION_TIME_RANGE + " START END]\n"
+            + "START and END are given as " + TIME_FORMAT_STRING + "\n"
             + "Example: " + COMMAND_WORD + " "
             + OPTION_HIDE_UNSUCCESSFUL + " " + OPTION_HIDE_OUTPUT;
 
     public static final String SHOWING_HISTORY_MESSAGE = "Opened command history window.";
     public static final String HIDING_COMMAND_OUTPUT_MESSAGE = "All command outputs have been hidden.";
     public static final String SHOW_ONLY_SUCCESSFUL_MESSAGE = "Only successful commands will be shown.";
+    public static final String SHOW_ONLY_UNSUCCESSFUL_MESSAGE = "Only the %1$d unsuccessful command(s) will be shown.";
+    public static final String SHOW_ONLY_COMMAND_WORD_MESSAGE =
+            "Only the %1$d command(s) entered with \"%2$s\" will be shown.";
+    public static final String SHOW_ONLY_TIME_RANGE_MESSAGE =
+            "Only the %1$d command(s) entered from %2$s to %3$s will be shown.";
 
     private final boolean hideCommandFeedback;
     private final HistoryFilterSettings displaySettings;
+    private final String commandWord;
+    private final TimeStamp start;
+    private final TimeStamp end;
 
     /**
      * Constructs a HistoryCommand object. The reason why {@code displayOptions} is not of type boolean
@@ -39,8 +59,33 @@ public class HistoryCommand extends Command {
      * @param displaySettings filtering options for the shown history
      */
     public HistoryCommand(boolean hideCommandFeedback, HistoryFilterSettings displaySettings) {
+        this(hideCommandFeedback, displaySettings, null);
+    }
+
+    /**
+     * Constructs a HistoryCommand object that may show only the commands entered with {@code commandWord}.
+     * @param commandWord command word to filter by, used only with {@code SHOW_ONLY_COMMAND_WORD}
+     */
+    public HistoryCommand(boolean hideCommandFeedback, HistoryFilterSettings displaySettings, String commandWord) {
+        this(hideCommandFeedback, displaySettings, commandWord, null, null);
+    }
+
+    /**
+     * Constructs a HistoryCommand object that shows only the commands entered from {@code start}, inclusive, to
+     * {@code end}, exclusive.
+     */
+    public HistoryCommand(boolean hideCommandFeedback, TimeStamp start, TimeStamp end) {
+        this(hideCommandFeedback, HistoryFilterSettings.SHOW_ONLY_TIME_RANGE, null, requireNonNull(start),
+                requireNonNull(end));
+    }
+
+    private HistoryCommand(boolean hideCommandFeedback, HistoryFilterSettings displaySettings, String commandWord,
+                           TimeStamp start, TimeStamp end) {
         this.hideCommandFeedback = hideCommandFeedback;
         this.displaySettings = displaySettings;
+        this.commandWord = commandWord;
+        this.start = start;
+        this.end = end;
     }
 
     @Override
@@ -61,6 +106,21 @@ public class HistoryCommand extends Command {
             commandHistory.updateFilteredCommandHistory(PREDICATE_SHOW_ONLY_SUCCESSFUL);
             userFeedback.append("\n" + SHOW_ONLY_SUCCESSFUL_MESSAGE);
             break;
+        case SHOW_ONLY_UNSUCCESSFUL:
+            commandHistory.updateFilteredCommandHistory(PREDICATE_SHOW_ONLY_UNSUCCESSFUL);
+            userFeedback.append("\n" + String.format(SHOW_ONLY_UNSUCCESSFUL_MESSAGE,
+                    commandHistory.getNumberOfUnsuccessfulCommands()));
+            break;
+        case SHOW_ONLY_COMMAND_WORD:
+            commandHistory.updateFilteredCommandHistory(commandWord);
+            userFeedback.append("\n" + String.format(SHOW_ONLY_COMMAND_WORD_MESSAGE,
+                    commandHistory.getNumberOfCommands(commandWord), commandWord));
+            break;
+        case SHOW_ONLY_TIME_RANGE:
+            commandHistory.updateFilteredCommandHistory(start, end);
+            userFeedback.append("\n" + String.format(SHOW_ONLY_TIME_RANGE_MESSAGE,
+                    commandHistory.getFilteredCommandHistory().size(), start, end));
+            break;
         default:
             break;
         }
@@ -83,6 +143,9 @@ public class HistoryCommand extends Command {
         // state check
         HistoryCommand v = (HistoryCommand) other;
         return hideCommandFeedback == v.hideCommandFeedback
-                && displaySettings == v.displaySettings;
+                && displaySettings == v.displaySettings
+                && Objects.equals(commandWord, v.commandWord)
+                && Objects.equals(start, v.start)
+                && Objects.equals(end, v.end);
     }
 }
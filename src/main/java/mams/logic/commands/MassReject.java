@@ -8,6 +8,7 @@ import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.model.Model;
 import mams.model.appeal.Appeal;
+import mams.model.appeal.AppealResult;
 
 /**
  * Mass rejects appeals in Mams
@@ -39,26 +40,14 @@ public class MassReject extends Reject {
                     Appeal appealToReject = appeal;
                     foundId = true;
                     if (!appealToReject.isResolved()) {
-                        rejectedAppeal = new Appeal(appealToReject.getAppealId(),
-                                appealToReject.getAppealType(),
-                                appealToReject.getStudentId(),
-                                appealToReject.getAcademicYear(),
-                                appealToReject.getStudentWorkload(),
-                                appealToReject.getAppealDescription(),
-                                appealToReject.getPreviousModule(),
-                                appealToReject.getNewModule(),
-                                appealToReject.getModuleToAdd(),
-                                appealToReject.getModuleToDrop(),
-                                true,
-                                "REJECTED",
-                                "");
+                        rejectedAppeal = appealToReject.withResult(AppealResult.REJECTED, "");
                         model.setAppeal(appealToReject, rejectedAppeal);
                         rejectedSuccessfully.add(appealId);
                     } else if (appealToReject.isResolved()
-                            && appealToReject.getResult().equalsIgnoreCase("APPROVED")) {
+                            && appealToReject.getAppealResult() == AppealResult.APPROVED) {
                         alreadyApproved.add(appeal.getAppealId());
                     } else if (appealToReject.isResolved()
-                            && appealToReject.getResult().equalsIgnoreCase("REJECTED")) {
+                            && appealToReject.getAppealResult() == AppealResult.REJECTED) {
                         alreadyRejected.add(appeal.getAppealId());
                     }
                     break;
@@ -3,12 +3,10 @@ package mams.logic.commands;
 import static mams.logic.parser.CliSyntax.PREFIX_MODULE;
 import static mams.logic.parser.CliSyntax.PREFIX_STUDENT;
 
-import java.util.Set;
 
 import mams.model.Model;
 import mams.model.module.Module;
 import mams.model.student.Student;
-import mams.model.tag.Tag;
 
 
 /**
@@ -45,38 +43,15 @@ public abstract class ModCommand extends Command {
     /**
      * Updates the list after AddModCommand and RemoveModCommand
      * @param model mams model
-     * @param studentToEdit student to be edited
-     * @param moduleToEdit module to edited
-     * @param ret new tags for student
-     * @param ret2 new tags for module
+     * @param editedStudent student whose enrolment was changed
      * @param messageRemoveModSuccess result given in GUI window
      * @return commandResult of action
      */
-    protected CommandResult updateList(Model model, Student studentToEdit,
-                                       Module moduleToEdit, Set<Tag> ret, Set<Tag> ret2,
-                                       String messageRemoveModSuccess) {
-        Student studentWithRemovedModule;
-        Module moduleWithRemovedStudent;
-        studentWithRemovedModule = new Student(studentToEdit.getName(),
-                studentToEdit.getCredits(),
-                studentToEdit.getPrevMods(),
-                studentToEdit.getMatricId(),
-                ret);
-
-        moduleWithRemovedStudent = new Module(moduleToEdit.getModuleCode(),
-                moduleToEdit.getModuleName(),
-                moduleToEdit.getModuleDescription(),
-                moduleToEdit.getLecturerName(),
-                moduleToEdit.getTimeSlot(),
-                moduleToEdit.getQuota(),
-                ret2);
-
-        model.setStudent(studentToEdit, studentWithRemovedModule);
-        model.setModule(moduleToEdit, moduleWithRemovedStudent);
+    protected CommandResult updateList(Model model, Student editedStudent, String messageRemoveModSuccess) {
         model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
         model.updateFilteredModuleList(Model.PREDICATE_SHOW_ALL_MODULES);
         return new CommandResult(String.format(messageRemoveModSuccess,
-                studentWithRemovedModule.getName()));
+                editedStudent.getName()));
     }
 
 }
@@ -1,41 +1,24 @@
 package mams.logic.commands;
 
-import java.io.File;
-import java.nio.file.Paths;
-
-import mams.commons.exceptions.DataConversionException;
 import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.model.Model;
-import mams.model.ReadOnlyMams;
-import mams.storage.JsonMamsStorage;
 
 /**
- * loads data from mamshistory_undo.json
+ * Restores the state of MAMS undone by the last undo.
  */
 public class RedoCommand extends StoreCommand {
 
+    public static final String MESSAGE_SUCCESS = "Redo Successful ";
+    public static final String MESSAGE_FAILURE = "Unable to redo";
+
     @Override
     public CommandResult execute(Model model, FilterOnlyCommandHistory commandHistory) throws CommandException {
-        JsonMamsStorage history = new JsonMamsStorage(Paths.get("data/mamshistory_redo.json"));
-
-        ReadOnlyMams mamsToReplace;
-        try {
-            if (history.readMams().isPresent()) {
-                mamsToReplace = history.readMams().get();
-            } else {
-                throw new DataConversionException(new Exception("DataConversionException"));
-            }
-            new SaveCommand("undo").privateExecute(model);
-            model.replaceMams(mamsToReplace);
-            File file = new File("data/mamshistory_redo.json");
-            file.delete();
-
-        } catch (DataConversionException e) {
-            throw new CommandException("Unable to redo");
+        if (!model.canRedoMams()) {
+            throw new CommandException(MESSAGE_FAILURE);
         }
-        return new CommandResult("Redo Successful ");
-
+        model.redoMams();
+        return new CommandResult(MESSAGE_SUCCESS);
     }
 
     @Override
@@ -12,6 +12,7 @@ import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.model.Model;
 import mams.model.appeal.Appeal;
+import mams.model.appeal.AppealResult;
 
 /**
  * Rejects a appeal in mams.
@@ -41,19 +42,7 @@ public class RejectCommand extends Reject {
 
         Appeal appealToReject = lastShownList.get(index.getZeroBased());
         if (appealToReject.isResolved() == false) {
-            rejectedAppeal = new Appeal(appealToReject.getAppealId(),
-                    appealToReject.getAppealType(),
-                    appealToReject.getStudentId(),
-                    appealToReject.getAcademicYear(),
-                    appealToReject.getStudentWorkload(),
-                    appealToReject.getAppealDescription(),
-                    appealToReject.getPreviousModule(),
-                    appealToReject.getNewModule(),
-                    appealToReject.getModuleToAdd(),
-                    appealToReject.getModuleToDrop(),
-                    true,
-                    "REJECTED",
-                    reason);
+            rejectedAppeal = appealToReject.withResult(AppealResult.REJECTED, reason);
             model.setAppeal(appealToReject, rejectedAppeal);
             model.updateFilteredAppealList(Model.PREDICATE_SHOW_ALL_APPEALS);
             return new CommandResult(generateSuccessMessage(appealToReject));
@@ -2,10 +2,7 @@ package mams.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import mams.commons.core.Messages;
 import mams.logic.commands.exceptions.CommandException;
@@ -14,7 +11,6 @@ import mams.model.Model;
 
 import mams.model.module.Module;
 import mams.model.student.Student;
-import mams.model.tag.Tag;
 
 /**
  * Adds a module to a student
@@ -100,52 +96,30 @@ public class RemoveModCommand extends ModCommand {
      */
     public CommandResult execute(Model model, FilterOnlyCommandHistory commandHistory) throws CommandException {
         requireNonNull(model);
-        List<Student> studentList;
-        List<Module> moduleList;
         Student studentToEdit;
-        Student studentWithRemovedModule;
         Module moduleToEdit;
-        Module moduleWithRemovedStudent;
-
-        moduleList = moduleUsingIndex ? model.getFilteredModuleList() : model.getFullModuleList();
-        studentList = studentUsingIndex ? model.getFilteredStudentList() : model.getFullStudentList();
 
         //various checks
-        moduleToEdit = returnModuleIfExist(moduleList);
-        studentToEdit = returnStudentIfExist(studentList);
-        checkIfStudentHasModule(studentToEdit, moduleToEdit.getModuleCode());
-
-        //create a tag list without the module for the new student
-        Set<Tag> ret = new HashSet<>();
-        Set<Tag> studentAllTags = studentToEdit.getTags();
-        for (Tag tag : studentAllTags) {
-            if (!tag.getTagName().equalsIgnoreCase(moduleToEdit.getModuleCode())) {
-                ret.add(tag);
-            }
-        }
-
-        //create a tag list without the student for the new module
-        Set<Tag> ret2 = new HashSet<>();
-        Set<Tag> moduleAllStudents = moduleToEdit.getStudents();
-        for (Tag tag : moduleAllStudents) {
-            if (!tag.getTagName().equalsIgnoreCase(studentToEdit.getMatricId().toString())) {
-                ret2.add(tag);
-            }
-        }
+        moduleToEdit = returnModuleIfExist(model);
+        studentToEdit = returnStudentIfExist(model);
+        checkIfStudentHasModule(studentToEdit, moduleToEdit, model);
 
-        //replace old student and old module objects with edited modules.
-        return updateList(model, studentToEdit, moduleToEdit, ret, ret2, MESSAGE_REMOVE_MOD_SUCCESS);
+        //unenrol student from module, replacing old student and old module objects with edited ones.
+        model.unenrol(studentToEdit, moduleToEdit);
+        return updateList(model, studentToEdit, MESSAGE_REMOVE_MOD_SUCCESS);
     }
 
     /**
      * Checks if module exists
-     * @param moduleList module list being checked
+     * @param model {@code Model} containing the module
      * @return module if found
      * @throws CommandException if module is not found
      */
-    Module returnModuleIfExist(List<Module> moduleList) throws CommandException {
+    Module returnModuleIfExist(Model model) throws CommandException {
+        requireNonNull(model);
 
         if (moduleUsingIndex) {
+            List<Module> moduleList = model.getFilteredModuleList();
             int tempIndex = Integer.parseInt(moduleIdentifier);
             if (tempIndex < 1) {
                 throw new CommandException(ModCommand.MESSAGE_USAGE_ADD_MOD);
@@ -156,24 +130,22 @@ public class RemoveModCommand extends ModCommand {
             }
             return moduleList.get(tempIndexZeroBased);
         } else {
-            List<Module> moduleToCheckList = moduleList.stream()
-                    .filter(m -> m.getModuleCode().equalsIgnoreCase(moduleIdentifier)).collect(Collectors.toList());
-            if (moduleToCheckList.isEmpty()) {
-                throw new CommandException(MESSAGE_INVALID_MODULE);
-            }
-            return moduleToCheckList.get(0);
+            return model.getModuleEqualsToId(moduleIdentifier)
+                    .orElseThrow(() -> new CommandException(MESSAGE_INVALID_MODULE));
         }
     }
 
     /**
      * Checks if student exists for deletion.
-     * @param studentList student list being checked
+     * @param model {@code Model} containing the student
      * @return student if found
      * @throws CommandException if student does not exist
      */
-    Student returnStudentIfExist(List<Student> studentList) throws CommandException {
+    Student returnStudentIfExist(Model model) throws CommandException {
+        requireNonNull(model);
 
         if (studentUsingIndex) {
+            List<Student> studentList = model.getFilteredStudentList();
             int tempIndex = Integer.parseInt(studentIdentifier);
             if (tempIndex < 1) {
                 throw new CommandException(ModCommand.MESSAGE_USAGE_ADD_MOD);
@@ -184,30 +156,21 @@ public class RemoveModCommand extends ModCommand {
             }
             return studentList.get(tempIndexZeroBased);
         } else {
-            List<Student> studentToCheckList = studentList.stream()
-                    .filter(p -> p.getMatricId().toString().equalsIgnoreCase(studentIdentifier))
-                    .collect(Collectors.toList());
-            if (studentToCheckList.isEmpty()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID);
-            }
-            return studentToCheckList.get(0);
+            return model.getStudentEqualsToId(studentIdentifier)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID));
         }
     }
 
     /**
      * Checks if students has the module ready for deletion
      * @param studentToEdit student to be checked
+     * @param moduleToEdit module to be removed
+     * @param model {@code Model} keeping the enrolments
      * @throws CommandException if the student does not have the module
      */
-    private void checkIfStudentHasModule(Student studentToEdit, String moduleCode) throws CommandException {
-        Set<Tag> studentModules = studentToEdit.getCurrentModules();
-        boolean hasModule = false;
-        for (Tag tag: studentModules) {
-            if (tag.getTagName().equalsIgnoreCase(moduleCode)) {
-                hasModule = true;
-            }
-        }
-        if (!hasModule) {
+    private void checkIfStudentHasModule(Student studentToEdit, Module moduleToEdit, Model model)
+            throws CommandException {
+        if (!model.isEnrolled(studentToEdit, moduleToEdit)) {
             throw new CommandException(MESSAGE_MISSING_MODULE);
         }
     }
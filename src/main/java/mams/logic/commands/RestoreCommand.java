@@ -1,16 +1,18 @@
 package mams.logic.commands;
 
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import mams.commons.exceptions.DataConversionException;
 import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.model.Model;
 import mams.model.ReadOnlyMams;
+import mams.storage.BinaryMamsStorage;
 import mams.storage.JsonMamsStorage;
 
 /**
- * saves data under mamshistory_tag.json
+ * restores data saved under mamshistory_tag.bin, or mamshistory_tag.json for older backups
  */
 public class RestoreCommand extends StoreCommand {
     private String tag = "";
@@ -21,14 +23,15 @@ public class RestoreCommand extends StoreCommand {
 
     @Override
     public CommandResult execute(Model model, FilterOnlyCommandHistory commandHistory) throws CommandException {
-        JsonMamsStorage target = new JsonMamsStorage(Paths.get("data/mamshistory_" + this.getTag() + ".json"));
         ReadOnlyMams mamsToReplace;
         try {
-            if (target.readMams().isPresent()) {
-                mamsToReplace = target.readMams().get();
-            } else {
-                throw new DataConversionException(new Exception());
+            Optional<ReadOnlyMams> backup = new BinaryMamsStorage(
+                    Paths.get("data/mamshistory_" + this.getTag() + BinaryMamsStorage.FILE_EXTENSION)).readMams();
+            if (!backup.isPresent()) {
+                // backups made before the binary format are json files
+                backup = new JsonMamsStorage(Paths.get("data/mamshistory_" + this.getTag() + ".json")).readMams();
             }
+            mamsToReplace = backup.orElseThrow(() -> new CommandException("No backup with name found"));
         } catch (DataConversionException e) {
             throw new CommandException("No backup with name found");
         }
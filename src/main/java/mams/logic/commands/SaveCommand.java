@@ -9,10 +9,10 @@ import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.model.Model;
 import mams.model.ReadOnlyMams;
-import mams.storage.JsonMamsStorage;
+import mams.storage.BinaryMamsStorage;
 
 /**
- * saves data under mamshistory_tag.json
+ * saves data under mamshistory_tag.bin
  */
 public class SaveCommand extends StoreCommand {
     private String tag = "";
@@ -30,35 +30,19 @@ public class SaveCommand extends StoreCommand {
         if (this.tag.equals("")) {
             this.tag = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
         }
-        ReadOnlyMams mamsToSave = model.getMams();
-        JsonMamsStorage history = new JsonMamsStorage(Paths.get("data/mamshistory_" + this.tag + ".json"));
+        ReadOnlyMams mamsToSave = model.getMamsSnapshot();
+        BinaryMamsStorage history = new BinaryMamsStorage(
+                Paths.get("data/mamshistory_" + this.tag + BinaryMamsStorage.FILE_EXTENSION));
         try {
             history.saveMams(mamsToSave);
         } catch (IOException e) {
             throw new CommandException("Unable to backup");
         }
         return new CommandResult("Backup Successful, Saved in \"data/mamshistory_ "
-                + this.tag + ".json\"");
+                + this.tag + BinaryMamsStorage.FILE_EXTENSION + "\"");
 
     }
 
-    /** execute used for undo and redo objects
-     *
-     * @param model
-     * @return
-     * @throws CommandException
-     */
-    public CommandResult privateExecute(Model model) throws CommandException {
-        ReadOnlyMams mamsToSave = model.getMams();
-        JsonMamsStorage history = new JsonMamsStorage(Paths.get("data/mamshistory_" + this.tag + ".json"));
-        try {
-            history.saveMams(mamsToSave);
-        } catch (IOException e) {
-            throw new CommandException("Unable to save");
-        }
-        return new CommandResult("Save Successful ");
-    }
-
     public String getTag() {
         return this.tag;
     }
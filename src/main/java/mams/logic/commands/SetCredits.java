@@ -3,7 +3,6 @@ package mams.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import mams.commons.core.Messages;
 import mams.commons.core.index.Index;
@@ -66,12 +65,8 @@ public class SetCredits extends StudentCommand {
             }
             studentToEdit = lastShownStudentList.get(index.getZeroBased());
         } else {
-            List<Student> studentToCheckList = lastShownStudentList.stream()
-                    .filter(p -> p.getMatricId().toString().equals(matricId)).collect(Collectors.toList());
-            if (studentToCheckList.isEmpty()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID);
-            }
-            studentToEdit = studentToCheckList.get(0);
+            studentToEdit = model.getStudentEqualsToId(matricId)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_STUDENT_MATRIC_ID));
         }
 
         // check if credit value is valid
@@ -1,43 +1,28 @@
 package mams.logic.commands;
 
-import java.io.File;
-import java.nio.file.Paths;
-
-import mams.commons.exceptions.DataConversionException;
 import mams.logic.commands.exceptions.CommandException;
 import mams.logic.history.FilterOnlyCommandHistory;
 import mams.model.Model;
-import mams.model.ReadOnlyMams;
-import mams.storage.JsonMamsStorage;
 
 /**
- * loads data from mamshistory_undo.json
+ * Restores MAMS to its state before the last command that changed it.
  */
 public class UndoCommand extends StoreCommand {
 
+    public static final String MESSAGE_SUCCESS = "Undo Successful ";
+    public static final String MESSAGE_FAILURE = "Unable to undo";
+
     public UndoCommand() {
 
     }
 
     @Override
     public CommandResult execute(Model model, FilterOnlyCommandHistory commandHistory) throws CommandException {
-        JsonMamsStorage history = new JsonMamsStorage(Paths.get("data/mamshistory_undo.json"));
-        ReadOnlyMams mamsToReplace;
-        try {
-            if (history.readMams().isPresent()) {
-                mamsToReplace = history.readMams().get();
-            } else {
-                throw new DataConversionException(new Exception());
-            }
-        } catch (DataConversionException e) {
-            throw new CommandException("Unable to undo");
+        if (!model.canUndoMams()) {
+            throw new CommandException(MESSAGE_FAILURE);
         }
-        new SaveCommand("redo").privateExecute(model);
-        model.replaceMams(mamsToReplace);
-        File file = new File("data/mamshistory_undo.json");
-        file.delete();
-        return new CommandResult("Undo Successful ");
-
+        model.undoMams();
+        return new CommandResult(MESSAGE_SUCCESS);
     }
 
     @Override
@@ -4,39 +4,129 @@ import static java.util.Objects.requireNonNull;
 
 import static mams.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import mams.commons.core.LogsCenter;
 import mams.commons.core.time.TimeStamp;
 
-/** Class that stores the history of all user inputs into MAMS */
+/**
+ * Class that stores the history of all user inputs into MAMS.
+ *
+ * A command history backed by a {@link CommandHistoryStore} keeps only its most recent commands in memory, up to
+ * {@code windowSize} commands and about {@code windowMemoryLimit} bytes, and reads older commands back from the
+ * store as they are needed. Filtering searches the store rather than reading every command into memory.
+ *
+ * The commands are also indexed by outcome and by command word as the history is loaded, from the summaries the
+ * store keeps of the commands it no longer holds in memory, and each command is indexed as it is added. Counts and
+ * filters only take time in proportion to the number of commands they find.
+ *
+ * Commands are added in the order they are entered, so they are in time order. Queries over a range of time
+ * find the ends of the range by binary search, and only read the commands in it.
+ */
 public class CommandHistory implements ReadOnlyCommandHistory, FilterOnlyCommandHistory {
-    private final ObservableList<InputOutput> inputOutputHistory = FXCollections.observableArrayList();
-    private final ObservableList<InputOutput> unmodifiableInputOutputHistory =
-            FXCollections.unmodifiableObservableList(inputOutputHistory);
-    private final FilteredList<InputOutput> filteredCommandHistory =
-            new FilteredList<>(unmodifiableInputOutputHistory);
 
-    public CommandHistory() {}
+    public static final int DEFAULT_WINDOW_SIZE = 1000;
+    public static final long DEFAULT_WINDOW_MEMORY_LIMIT = 8L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistory.class);
+
+    private final InputOutputList inputOutputHistory;
+    private final FilteredInputOutputList filteredCommandHistory;
+    private final CommandHistoryIndex index;
+
+    public CommandHistory() {
+        this(new InputOutputList(List.of()));
+    }
 
     /**
-     * Initialize from a List of InputOutput objects.
+     * Initialize from a List of InputOutput objects, all of which are kept in memory.
      * @param inputOutputs
      */
     public CommandHistory(List<InputOutput> inputOutputs) {
-        requireNonNull(inputOutputs);
-        this.inputOutputHistory.addAll(inputOutputs);
+        this(new InputOutputList(requireNonNull(inputOutputs)));
     }
 
     /**
-     * Initialize from a {@code ReadonlyCommandHistory}.
+     * Initialize from a {@code ReadonlyCommandHistory}. A copy of a {@code CommandHistory} shares its store,
+     * so only the commands kept in memory are copied.
      * @param commandHistory
      */
     public CommandHistory(ReadOnlyCommandHistory commandHistory) {
-        this(commandHistory.getInputOutputHistory());
+        this(commandHistory instanceof CommandHistory
+                ? new InputOutputList(((CommandHistory) commandHistory).inputOutputHistory)
+                : new InputOutputList(commandHistory.getInputOutputHistory()), indexOf(commandHistory));
+    }
+
+    /**
+     * Initialize from a {@code ReadonlyCommandHistory}, keeping at most {@code windowSize} commands and about
+     * {@code windowMemoryLimit} bytes of commands in memory if it is backed by a store.
+     */
+    public CommandHistory(ReadOnlyCommandHistory commandHistory, int windowSize, long windowMemoryLimit) {
+        this(commandHistory instanceof CommandHistory
+                ? new InputOutputList(((CommandHistory) commandHistory).inputOutputHistory, windowSize,
+                        windowMemoryLimit)
+                : new InputOutputList(null, 0, commandHistory.getInputOutputHistory(), windowSize,
+                        windowMemoryLimit), indexOf(commandHistory));
+    }
+
+    /**
+     * Initialize from the commands saved in {@code store}, of which {@code recent} are the last ones.
+     * Only {@code recent} are kept in memory, as far as the default limits allow.
+     */
+    public CommandHistory(CommandHistoryStore store, List<InputOutput> recent) {
+        this(new InputOutputList(requireNonNull(store), store.size() - recent.size(), recent,
+                DEFAULT_WINDOW_SIZE, DEFAULT_WINDOW_MEMORY_LIMIT));
+    }
+
+    private CommandHistory(InputOutputList inputOutputHistory) {
+        this(inputOutputHistory, null);
+    }
+
+    /**
+     * Backs this command history by {@code inputOutputHistory}, indexed by {@code index}, or by a new index of it if
+     * {@code index} is null.
+     */
+    private CommandHistory(InputOutputList inputOutputHistory, CommandHistoryIndex index) {
+        this.inputOutputHistory = inputOutputHistory;
+        this.filteredCommandHistory = new FilteredInputOutputList(inputOutputHistory);
+        this.index = index != null ? index : indexOf(inputOutputHistory);
+    }
+
+    /**
+     * Returns a copy of the index of {@code commandHistory} if it is a {@code CommandHistory}, or else null.
+     */
+    private static CommandHistoryIndex indexOf(ReadOnlyCommandHistory commandHistory) {
+        return commandHistory instanceof CommandHistory
+                ? new CommandHistoryIndex(((CommandHistory) commandHistory).index)
+                : null;
+    }
+
+    /**
+     * Returns a new index of the commands in {@code inputOutputs}. Commands no longer kept in memory are indexed
+     * from the summaries of the store rather than read back, and are indexed as unreadable if those cannot be read.
+     */
+    private static CommandHistoryIndex indexOf(InputOutputList inputOutputs) {
+        CommandHistoryIndex index = new CommandHistoryIndex();
+        int firstInMemory = inputOutputs.getFirstInMemory();
+        if (firstInMemory > 0) {
+            try {
+                inputOutputs.getStore().summarize(firstInMemory, index::add);
+            } catch (IOException ioe) {
+                logger.warning("Unable to index saved commands: " + ioe);
+            }
+            while (index.size() < firstInMemory) {
+                index.add(null, false);
+            }
+        }
+        for (InputOutput inputOutput : inputOutputs.getWindow()) {
+            index.add(inputOutput);
+        }
+        return index;
     }
 
     /**
@@ -44,14 +134,24 @@ public class CommandHistory implements ReadOnlyCommandHistory, FilterOnlyCommand
      */
     public void add(String input, String output, boolean wasExecutionSuccessful, TimeStamp timeStamp) {
         requireAllNonNull(input, output, timeStamp);
-        inputOutputHistory.add(new InputOutput(input, output, wasExecutionSuccessful, timeStamp));
+        add(new InputOutput(input, output, wasExecutionSuccessful, timeStamp));
     }
 
     /**
-     * Returns an unmodifiable view of {@code inputOutputHistory}
+     * Adds {@code inputOutput}, which was entered after every command already in the history.
+     */
+    public void add(InputOutput inputOutput) {
+        requireNonNull(inputOutput);
+        inputOutputHistory.append(inputOutput);
+        index.add(inputOutput);
+    }
+
+    /**
+     * Returns an unmodifiable view of {@code inputOutputHistory}. Commands no longer kept in memory are read
+     * from the store when asked for, and are null if they cannot be read.
      */
     public ObservableList<InputOutput> getInputOutputHistory() {
-        return unmodifiableInputOutputHistory;
+        return inputOutputHistory;
     }
 
     /**
@@ -59,10 +159,13 @@ public class CommandHistory implements ReadOnlyCommandHistory, FilterOnlyCommand
      * @return int count of unsuccessful commands.
      */
     public int getNumberOfUnsuccessfulCommands() {
-        return unmodifiableInputOutputHistory.stream()
-                .filter(InputOutput.PREDICATE_SHOW_ONLY_UNSUCCESSFUL)
-                .mapToInt(inputOutput -> 1)
-                .sum();
+        return index.count(false);
+    }
+
+    @Override
+    public int getNumberOfCommands(String commandWord) {
+        requireNonNull(commandWord);
+        return index.count(commandWord);
     }
 
     @Override
@@ -73,7 +176,66 @@ public class CommandHistory implements ReadOnlyCommandHistory, FilterOnlyCommand
     @Override
     public void updateFilteredCommandHistory(Predicate<InputOutput> predicate) {
         requireNonNull(predicate);
-        filteredCommandHistory.setPredicate(predicate);
+        if (predicate == InputOutput.PREDICATE_SHOW_ONLY_SUCCESSFUL) {
+            filteredCommandHistory.setPredicate(predicate, index.getIndices(true));
+        } else if (predicate == InputOutput.PREDICATE_SHOW_ONLY_UNSUCCESSFUL) {
+            filteredCommandHistory.setPredicate(predicate, index.getIndices(false));
+        } else {
+            filteredCommandHistory.setPredicate(predicate);
+        }
+    }
+
+    @Override
+    public void updateFilteredCommandHistory(String commandWord) {
+        requireNonNull(commandWord);
+        filteredCommandHistory.setPredicate(inputOutput ->
+                inputOutput.getCommandWord().equals(commandWord),
+                index.getIndices(commandWord));
+    }
+
+    /**
+     * Returns the commands entered from {@code start}, inclusive, to {@code end}, exclusive, in order.
+     */
+    public List<InputOutput> getCommandsBetween(TimeStamp start, TimeStamp end) {
+        requireAllNonNull(start, end);
+        int from = indexOfFirstCommandFrom(start);
+        int to = Math.max(from, indexOfFirstCommandFrom(end));
+        return new ArrayList<>(inputOutputHistory.subList(from, to));
+    }
+
+    @Override
+    public void updateFilteredCommandHistory(TimeStamp start, TimeStamp end) {
+        requireAllNonNull(start, end);
+        int from = indexOfFirstCommandFrom(start);
+        int to = Math.max(from, indexOfFirstCommandFrom(end));
+        int[] matches = new int[to - from];
+        for (int i = from; i < to; i++) {
+            matches[i - from] = i;
+        }
+        filteredCommandHistory.setPredicate(inputOutput -> inputOutput.getTimeStamp().compareTo(start) >= 0
+                && inputOutput.getTimeStamp().compareTo(end) < 0, matches);
+    }
+
+    /**
+     * Returns the index of the first command entered at or after {@code timeStamp}, or the number of commands if
+     * there is none, by binary search. Commands that cannot be read are skipped over when probed.
+     */
+    private int indexOfFirstCommandFrom(TimeStamp timeStamp) {
+        int low = 0;
+        int high = inputOutputHistory.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int probe = middle;
+            while (probe < high && inputOutputHistory.get(probe) == null) {
+                probe++;
+            }
+            if (probe < high && inputOutputHistory.get(probe).getTimeStamp().compareTo(timeStamp) < 0) {
+                low = probe + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 
     @Override
@@ -102,7 +264,7 @@ public class CommandHistory implements ReadOnlyCommandHistory, FilterOnlyCommand
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (InputOutput inputOutput : unmodifiableInputOutputHistory) {
+        for (InputOutput inputOutput : inputOutputHistory) {
             sb.append(inputOutput);
             sb.append("\n");
         }
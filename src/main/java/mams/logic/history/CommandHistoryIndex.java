@@ -0,0 +1,99 @@
+package mams.logic.history;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import mams.commons.util.SortedIntSet;
+
+/**
+ * The indices of the commands in a {@code CommandHistory}, grouped by outcome and by command word.
+ *
+ * Commands are indexed in order as they are added, so counting or filtering the commands of one group only
+ * takes time in proportion to the size of the group, rather than to the whole command history. Indices are kept
+ * in primitive arrays, so each command only costs a few bytes.
+ */
+class CommandHistoryIndex {
+
+    private final SortedIntSet successful;
+    private final SortedIntSet unsuccessful;
+    private final Map<String, SortedIntSet> byCommandWord = new HashMap<>();
+    private int size;
+
+    CommandHistoryIndex() {
+        successful = new SortedIntSet();
+        unsuccessful = new SortedIntSet();
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}, which commands can be added to without changing {@code toCopy}.
+     */
+    CommandHistoryIndex(CommandHistoryIndex toCopy) {
+        successful = new SortedIntSet(toCopy.successful);
+        unsuccessful = new SortedIntSet(toCopy.unsuccessful);
+        toCopy.byCommandWord.forEach((commandWord, indices) ->
+                byCommandWord.put(commandWord, new SortedIntSet(indices)));
+        size = toCopy.size;
+    }
+
+    /**
+     * Indexes {@code inputOutput} as the next command. A null command, which could not be read, is counted
+     * but not put in any group.
+     */
+    void add(InputOutput inputOutput) {
+        if (inputOutput == null) {
+            add(null, false);
+        } else {
+            add(inputOutput.getCommandWord(), inputOutput.checkSuccessful());
+        }
+    }
+
+    /**
+     * Indexes the next command, entered with {@code commandWord}. A null command word, of a command which could
+     * not be read, is counted but not put in any group.
+     */
+    void add(String commandWord, boolean wasExecutionSuccessful) {
+        int index = size++;
+        if (commandWord == null) {
+            return;
+        }
+        (wasExecutionSuccessful ? successful : unsuccessful).add(index);
+        byCommandWord.computeIfAbsent(commandWord, unused -> new SortedIntSet()).add(index);
+    }
+
+    /**
+     * Returns the number of commands indexed.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of successful or unsuccessful commands.
+     */
+    int count(boolean wasExecutionSuccessful) {
+        return (wasExecutionSuccessful ? successful : unsuccessful).size();
+    }
+
+    /**
+     * Returns the number of commands entered with {@code commandWord}.
+     */
+    int count(String commandWord) {
+        SortedIntSet indices = byCommandWord.get(commandWord);
+        return indices == null ? 0 : indices.size();
+    }
+
+    /**
+     * Returns the indices of the successful or unsuccessful commands, in order.
+     */
+    int[] getIndices(boolean wasExecutionSuccessful) {
+        return (wasExecutionSuccessful ? successful : unsuccessful).toArray();
+    }
+
+    /**
+     * Returns the indices of the commands entered with {@code commandWord}, in order.
+     */
+    int[] getIndices(String commandWord) {
+        SortedIntSet indices = byCommandWord.get(commandWord);
+        return indices == null ? new int[0] : indices.toArray();
+    }
+}
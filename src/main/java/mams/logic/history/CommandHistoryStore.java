@@ -0,0 +1,44 @@
+package mams.logic.history;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The saved commands of a {@code CommandHistory}, which older commands are read back from once they are no
+ * longer kept in memory. Commands are numbered from 0, oldest first, as in the command history.
+ */
+public interface CommandHistoryStore {
+
+    /**
+     * Returns the number of commands saved.
+     */
+    int size();
+
+    /**
+     * Returns the saved commands from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     * Commands that can no longer be read are null.
+     */
+    List<InputOutput> read(int fromIndex, int toIndex) throws IOException;
+
+    /**
+     * Returns the indices of the saved commands before {@code toIndex} that satisfy {@code predicate}, in order.
+     * The commands are read a part at a time rather than all at once.
+     */
+    List<Integer> findAll(Predicate<InputOutput> predicate, int toIndex) throws IOException;
+
+    /**
+     * Passes the command word and outcome of each saved command before {@code toIndex} to {@code visitor}, in order.
+     * A command that can no longer be read is passed with a null command word. Stores that keep these apart from
+     * the commands pass them without reading the commands.
+     */
+    void summarize(int toIndex, SummaryVisitor visitor) throws IOException;
+
+    /**
+     * Receives the command word and outcome of saved commands from {@link #summarize}.
+     */
+    @FunctionalInterface
+    interface SummaryVisitor {
+        void visit(String commandWord, boolean wasExecutionSuccessful);
+    }
+}
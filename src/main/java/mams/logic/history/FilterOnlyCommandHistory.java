@@ -3,6 +3,7 @@ package mams.logic.history;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import mams.commons.core.time.TimeStamp;
 
 /**
  * Unmodifiable view of CommandHistory that also allows for filtering of the
@@ -18,4 +19,14 @@ public interface FilterOnlyCommandHistory extends ReadOnlyCommandHistory {
     public ObservableList<InputOutput> getFilteredCommandHistory();
 
     public void updateFilteredCommandHistory(Predicate<InputOutput> predicate);
+
+    /**
+     * Shows only the commands entered with {@code commandWord}.
+     */
+    public void updateFilteredCommandHistory(String commandWord);
+
+    /**
+     * Shows only the commands entered from {@code start}, inclusive, to {@code end}, exclusive.
+     */
+    public void updateFilteredCommandHistory(TimeStamp start, TimeStamp end);
 }
@@ -0,0 +1,137 @@
+package mams.logic.history;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+import mams.commons.core.LogsCenter;
+import mams.commons.util.SortedIntSet;
+
+/**
+ * A filtered view of an {@code InputOutputList}, which only reads the commands it is asked for.
+ *
+ * Unlike {@code FilteredList}, setting a predicate does not read every command into memory: the commands kept in
+ * memory are tested directly, and the saved commands before them are searched in the store. Only the indices of
+ * the matching commands are kept. Commands appended to the source later are tested as they are added.
+ */
+class FilteredInputOutputList extends ObservableListBase<InputOutput> {
+
+    private static final Logger logger = LogsCenter.getLogger(FilteredInputOutputList.class);
+
+    private final InputOutputList source;
+    private Predicate<InputOutput> predicate = InputOutput.PREDICATE_SHOW_ALL;
+    /** The indices in the source of the matching commands, or null if every command matches. */
+    private SortedIntSet matches;
+
+    FilteredInputOutputList(InputOutputList source) {
+        this.source = source;
+        source.addListener(this::sourceChanged);
+    }
+
+    /**
+     * Shows only the commands that satisfy {@code predicate}.
+     */
+    void setPredicate(Predicate<InputOutput> predicate) {
+        setPredicate(predicate, predicate == InputOutput.PREDICATE_SHOW_ALL ? null : findMatches(predicate));
+    }
+
+    /**
+     * Shows only the commands that satisfy {@code predicate}, which are already known to be those at
+     * {@code matches} in the source, in order. This does not test any command against {@code predicate}.
+     */
+    void setPredicate(Predicate<InputOutput> predicate, int[] matches) {
+        setPredicate(predicate, matches == null ? null : toSet(matches));
+    }
+
+    private void setPredicate(Predicate<InputOutput> predicate, SortedIntSet matches) {
+        List<InputOutput> removed = new IndexedView(this.matches, size());
+        this.predicate = predicate;
+        this.matches = matches;
+
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    @Override
+    public InputOutput get(int index) {
+        return matches == null ? source.get(index) : source.get(matches.get(index));
+    }
+
+    @Override
+    public int size() {
+        return matches == null ? source.size() : matches.size();
+    }
+
+    private static SortedIntSet toSet(int[] indices) {
+        SortedIntSet set = new SortedIntSet();
+        for (int index : indices) {
+            set.add(index);
+        }
+        return set;
+    }
+
+    private SortedIntSet findMatches(Predicate<InputOutput> predicate) {
+        SortedIntSet found = new SortedIntSet();
+        int firstInMemory = source.getFirstInMemory();
+        if (firstInMemory > 0) {
+            try {
+                for (int index : source.getStore().findAll(predicate, firstInMemory)) {
+                    found.add(index);
+                }
+            } catch (IOException ioe) {
+                logger.warning("Unable to search saved commands: " + ioe);
+            }
+        }
+        List<InputOutput> window = source.getWindow();
+        for (int i = 0; i < window.size(); i++) {
+            if (window.get(i) != null && predicate.test(window.get(i))) {
+                found.add(firstInMemory + i);
+            }
+        }
+        return found;
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends InputOutput> change) {
+        // the source only ever has commands appended
+        beginChange();
+        while (change.next()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                if (matches == null) {
+                    nextAdd(i, i + 1);
+                } else if (change.getList().get(i) != null && predicate.test(change.getList().get(i))) {
+                    matches.add(i);
+                    nextAdd(matches.size() - 1, matches.size());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * The first {@code size} commands shown by a filter with the given matches, read only if asked for.
+     */
+    private class IndexedView extends AbstractList<InputOutput> {
+        private final SortedIntSet indices;
+        private final int size;
+
+        IndexedView(SortedIntSet indices, int size) {
+            this.indices = indices;
+            this.size = size;
+        }
+
+        @Override
+        public InputOutput get(int index) {
+            return source.get(indices == null ? index : indices.get(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
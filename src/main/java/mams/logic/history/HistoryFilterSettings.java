@@ -6,5 +6,5 @@ package mams.logic.history;
  *  * of the app will include more options.
  */
 public enum HistoryFilterSettings {
-    SHOW_ALL, SHOW_ONLY_SUCCESSFUL;
+    SHOW_ALL, SHOW_ONLY_SUCCESSFUL, SHOW_ONLY_UNSUCCESSFUL, SHOW_ONLY_COMMAND_WORD, SHOW_ONLY_TIME_RANGE;
 }
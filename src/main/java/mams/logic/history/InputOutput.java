@@ -26,7 +26,7 @@ public class InputOutput {
      * @param input the command input of the user
      * @param output the feedback given to the user
      * @param wasExecutionSuccessful whether execution of this command succeeded without errors
-     * @param timeStamp time of command execution as a java.util.Date object
+     * @param timeStamp time of command execution
      */
     public InputOutput(String input, String output, boolean wasExecutionSuccessful, TimeStamp timeStamp) {
         requireAllNonNull(input, output, timeStamp);
@@ -56,6 +56,18 @@ public class InputOutput {
         return isExecutionSuccessful;
     }
 
+    /**
+     * Returns the first word of the input, or an empty string if it is blank.
+     */
+    public String getCommandWord() {
+        String trimmed = input.trim();
+        int end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(input, output, isExecutionSuccessful, timeStamp);
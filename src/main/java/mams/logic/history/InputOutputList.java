@@ -0,0 +1,178 @@
+package mams.logic.history;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableListBase;
+import mams.commons.core.LogsCenter;
+
+/**
+ * The list of all commands of a {@code CommandHistory}, of which only the most recent are kept in memory.
+ *
+ * Once more than {@code windowSize} commands, or about {@code windowMemoryLimit} bytes of them, are kept, the
+ * oldest commands that have been saved to the {@code CommandHistoryStore} are dropped from memory. They are read
+ * back from the store a page at a time when asked for, and the last few pages read are cached. Without a store,
+ * every command is kept in memory. The list cannot be modified through the {@code List} methods.
+ */
+class InputOutputList extends ObservableListBase<InputOutput> {
+
+    static final int PAGE_SIZE = 256;
+    static final int MAX_CACHED_PAGES = 8;
+    /** Rough cost of a command apart from its text: the object, its time stamp and the list slot. */
+    static final int ESTIMATED_BYTES_PER_ENTRY = 96;
+
+    private static final Logger logger = LogsCenter.getLogger(InputOutputList.class);
+
+    private final CommandHistoryStore store;
+    private final int windowSize;
+    private final long windowMemoryLimit;
+    /** The index of the first command kept in memory. */
+    private int firstInMemory;
+    private final List<InputOutput> window;
+    private long windowBytes;
+    private final Map<Integer, List<InputOutput>> cachedPages =
+            new LinkedHashMap<>(MAX_CACHED_PAGES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<InputOutput>> eldest) {
+                    return size() > MAX_CACHED_PAGES;
+                }
+            };
+
+    /**
+     * Constructs a list that keeps {@code inputOutputs} in memory.
+     */
+    InputOutputList(List<InputOutput> inputOutputs) {
+        this(null, 0, inputOutputs, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a list of the commands before {@code firstInMemory} in {@code store}, followed by
+     * {@code recent}, which are kept in memory as far as the limits allow.
+     */
+    InputOutputList(CommandHistoryStore store, int firstInMemory, List<InputOutput> recent, int windowSize,
+                    long windowMemoryLimit) {
+        if (windowSize < 0 || windowMemoryLimit < 0) {
+            throw new IllegalArgumentException("Command history limits must not be negative");
+        }
+        this.store = store;
+        this.firstInMemory = firstInMemory;
+        this.window = new ArrayList<>(recent);
+        this.windowSize = windowSize;
+        this.windowMemoryLimit = windowMemoryLimit;
+        for (InputOutput inputOutput : recent) {
+            windowBytes += estimateBytes(inputOutput);
+        }
+        evict();
+    }
+
+    /**
+     * Constructs a copy of {@code other}, sharing its store. Only the commands {@code other} keeps in memory are
+     * copied.
+     */
+    InputOutputList(InputOutputList other) {
+        this(other, other.windowSize, other.windowMemoryLimit);
+    }
+
+    /**
+     * Constructs a copy of {@code other} with the given limits, sharing its store.
+     * Only the commands {@code other} keeps in memory are copied.
+     */
+    InputOutputList(InputOutputList other, int windowSize, long windowMemoryLimit) {
+        this(other.store, other.firstInMemory, other.window, windowSize, windowMemoryLimit);
+    }
+
+    CommandHistoryStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the index of the first command kept in memory. The commands before it are read from the store.
+     */
+    int getFirstInMemory() {
+        return firstInMemory;
+    }
+
+    /**
+     * Returns the commands kept in memory.
+     */
+    List<InputOutput> getWindow() {
+        return window;
+    }
+
+    /**
+     * Appends {@code inputOutput} and notifies listeners, then drops saved commands from memory if the list is
+     * over its limits.
+     */
+    void append(InputOutput inputOutput) {
+        window.add(inputOutput);
+        windowBytes += estimateBytes(inputOutput);
+        beginChange();
+        nextAdd(size() - 1, size());
+        endChange();
+        evict();
+    }
+
+    @Override
+    public InputOutput get(int index) {
+        Objects.checkIndex(index, size());
+        if (index >= firstInMemory) {
+            return window.get(index - firstInMemory);
+        }
+
+        int pageStart = index - index % PAGE_SIZE;
+        List<InputOutput> page = cachedPages.get(pageStart);
+        if (page == null || index - pageStart >= page.size()) {
+            page = readPage(pageStart);
+        }
+        return index - pageStart < page.size() ? page.get(index - pageStart) : null;
+    }
+
+    @Override
+    public int size() {
+        return firstInMemory + window.size();
+    }
+
+    private List<InputOutput> readPage(int pageStart) {
+        List<InputOutput> page;
+        try {
+            page = store.read(pageStart, Math.min(pageStart + PAGE_SIZE, firstInMemory));
+        } catch (IOException ioe) {
+            logger.warning("Unable to read saved commands from " + pageStart + ": " + ioe);
+            page = new ArrayList<>();
+        }
+        cachedPages.put(pageStart, page);
+        return page;
+    }
+
+    /**
+     * Drops the oldest saved commands from memory until the commands kept take up three quarters of the limits,
+     * if they are over the limits. Commands that have not been saved yet are always kept.
+     */
+    private void evict() {
+        if (store == null || (window.size() <= windowSize && windowBytes <= windowMemoryLimit)) {
+            return;
+        }
+
+        int evictable = Math.min(window.size(), store.size() - firstInMemory);
+        int evicted = 0;
+        while (evicted < evictable && (window.size() - evicted > windowSize - windowSize / 4
+                || windowBytes > windowMemoryLimit - windowMemoryLimit / 4)) {
+            windowBytes -= estimateBytes(window.get(evicted));
+            evicted++;
+        }
+        window.subList(0, evicted).clear();
+        firstInMemory += evicted;
+    }
+
+    static long estimateBytes(InputOutput inputOutput) {
+        if (inputOutput == null) {
+            return 0;
+        }
+        return ESTIMATED_BYTES_PER_ENTRY + 2L * (inputOutput.getInput().length() + inputOutput.getOutput().length());
+    }
+}
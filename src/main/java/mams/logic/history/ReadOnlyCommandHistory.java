@@ -17,4 +17,9 @@ public interface ReadOnlyCommandHistory {
      * @return int count of unsuccessful commands.
      */
     public int getNumberOfUnsuccessfulCommands();
+
+    /**
+     * Counts number of commands in history entered with {@code commandWord}.
+     */
+    public int getNumberOfCommands(String commandWord);
 }
@@ -2,9 +2,16 @@ package mams.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import mams.commons.core.time.TimeStamp;
 import mams.logic.commands.HistoryCommand;
 import mams.logic.history.HistoryFilterSettings;
 import mams.logic.parser.exceptions.ParseException;
@@ -16,8 +23,19 @@ public class HistoryCommandParser implements Parser<HistoryCommand> {
 
     public static final Option OPTION_HIDE_OUTPUT = new Option("o");
     public static final Option OPTION_HIDE_UNSUCCESSFUL = new Option("s");
+    public static final Option OPTION_HIDE_SUCCESSFUL = new Option("f");
+    public static final Option OPTION_COMMAND_WORD = new Option("c");
+    public static final Option OPTION_TIME_RANGE = new Option("t");
+
+    public static final String TIME_FORMAT_STRING = "yyyy-MM-dd|HH:mm";
 
     public static final String MESSAGE_OPTIONS_NOT_RECOGNIZED = "Invalid parameter(s): %1$s";
+    public static final String MESSAGE_CONFLICTING_OPTIONS = "Options %1$s and %2$s cannot be used together";
+    public static final String MESSAGE_MISSING_COMMAND_WORD = "Option %1$s must be followed by a command word";
+    public static final String MESSAGE_INVALID_TIME_RANGE =
+            "Option %1$s must be followed by a start and an end time, each as " + TIME_FORMAT_STRING;
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern(TIME_FORMAT_STRING);
 
     /**
      * Parses the given {@code String} of arguments in the context of the HistoryCommand
@@ -27,18 +45,78 @@ public class HistoryCommandParser implements Parser<HistoryCommand> {
     @Override
     public HistoryCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        verifyNoUnrecognizedArguments(args, OPTION_HIDE_OUTPUT, OPTION_HIDE_UNSUCCESSFUL);
+        List<String> commandWordValues = parseValuesOf(OPTION_COMMAND_WORD, 1, args,
+                String.format(MESSAGE_MISSING_COMMAND_WORD, OPTION_COMMAND_WORD));
+        List<String> timeRangeValues = parseValuesOf(OPTION_TIME_RANGE, 2, args,
+                String.format(MESSAGE_INVALID_TIME_RANGE, OPTION_TIME_RANGE));
+        List<String> values = new ArrayList<>(commandWordValues);
+        values.addAll(timeRangeValues);
+        verifyNoUnrecognizedArguments(args, values, OPTION_HIDE_OUTPUT, OPTION_HIDE_UNSUCCESSFUL,
+                OPTION_HIDE_SUCCESSFUL, OPTION_COMMAND_WORD, OPTION_TIME_RANGE);
 
         OptionsSet optionsSet = OptionsTokenizer.tokenize(args);
 
-        // determine whether user has decided to filter successful or unsuccessful command out
-        HistoryFilterSettings displayOptions;
-        if (optionsSet.isOptionPresent(OPTION_HIDE_UNSUCCESSFUL)) {
-            displayOptions = HistoryFilterSettings.SHOW_ONLY_SUCCESSFUL;
+        // determine whether user has decided to filter the commands shown, which can only be done one way at a time
+        List<Option> filters = new ArrayList<>();
+        for (Option filter : List.of(OPTION_HIDE_UNSUCCESSFUL, OPTION_HIDE_SUCCESSFUL, OPTION_COMMAND_WORD,
+                OPTION_TIME_RANGE)) {
+            if (optionsSet.isOptionPresent(filter)) {
+                filters.add(filter);
+            }
+        }
+        if (filters.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_CONFLICTING_OPTIONS, filters.get(0), filters.get(1))
+                    + "\n" + HistoryCommand.MESSAGE_USAGE);
+        }
+
+        boolean hideOutput = optionsSet.isOptionPresent(OPTION_HIDE_OUTPUT);
+        if (!commandWordValues.isEmpty()) {
+            return new HistoryCommand(hideOutput, HistoryFilterSettings.SHOW_ONLY_COMMAND_WORD,
+                    commandWordValues.get(0));
+        } else if (!timeRangeValues.isEmpty()) {
+            return new HistoryCommand(hideOutput, parseTime(timeRangeValues.get(0)),
+                    parseTime(timeRangeValues.get(1)));
+        } else if (optionsSet.isOptionPresent(OPTION_HIDE_UNSUCCESSFUL)) {
+            return new HistoryCommand(hideOutput, HistoryFilterSettings.SHOW_ONLY_SUCCESSFUL);
+        } else if (optionsSet.isOptionPresent(OPTION_HIDE_SUCCESSFUL)) {
+            return new HistoryCommand(hideOutput, HistoryFilterSettings.SHOW_ONLY_UNSUCCESSFUL);
         } else {
-            displayOptions = HistoryFilterSettings.SHOW_ALL;
+            return new HistoryCommand(hideOutput, HistoryFilterSettings.SHOW_ALL);
+        }
+    }
+
+    /**
+     * Returns the {@code count} values following {@code option} in {@code args}, or an empty list if the option is
+     * not present.
+     * @param args String to be parsed
+     * @param messageIfMissing message of the {@code ParseException} thrown if the values are missing
+     * @throws ParseException if the option is not followed by {@code count} values.
+     */
+    private static List<String> parseValuesOf(Option option, int count, String args, String messageIfMissing)
+            throws ParseException {
+        List<String> tokens = Arrays.asList(args.trim().split("\\s+"));
+        int position = tokens.indexOf(option.toString());
+        if (position < 0) {
+            return Collections.emptyList();
+        }
+        List<String> values = tokens.subList(position + 1, Math.min(tokens.size(), position + 1 + count));
+        if (values.size() < count || values.stream().anyMatch(Option::isValidOption)) {
+            throw new ParseException(messageIfMissing + "\n" + HistoryCommand.MESSAGE_USAGE);
+        }
+        return values;
+    }
+
+    /**
+     * Parses {@code time}, given as {@code TIME_FORMAT_STRING}, as a time in the system time zone.
+     * @throws ParseException if {@code time} is not in that format.
+     */
+    private static TimeStamp parseTime(String time) throws ParseException {
+        try {
+            return new TimeStamp(LocalDateTime.parse(time, TIME_FORMAT));
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_TIME_RANGE, OPTION_TIME_RANGE)
+                    + "\n" + HistoryCommand.MESSAGE_USAGE);
         }
-        return new HistoryCommand(optionsSet.isOptionPresent(OPTION_HIDE_OUTPUT), displayOptions);
     }
 
     /**
@@ -64,11 +142,16 @@ public class HistoryCommandParser implements Parser<HistoryCommand> {
      * {@link OptionsTokenizer#getUnrecognizedArguments(String, String...)} method to throw errors specific to
      * HistoryCommand.
      * @param args String to be parsed
+     * @param values the values given to options that take them, which are also acceptable
      * @param recognized Array of {@code Option} that are deemed acceptable
      * @throws ParseException if args contain any arguments other than those in {@code recognized}
      */
-    private void verifyNoUnrecognizedArguments(String args, Option... recognized) throws ParseException {
+    private void verifyNoUnrecognizedArguments(String args, List<String> values, Option... recognized)
+            throws ParseException {
         List<String> unrecognized = OptionsTokenizer.getUnrecognizedArguments(args, recognized);
+        for (String value : values) {
+            unrecognized.remove(value);
+        }
         if (!unrecognized.isEmpty()) {
             String unrecognizedParamsAsSingleString = String.join(" ", unrecognized).trim();
             throw new ParseException(String.format(MESSAGE_OPTIONS_NOT_RECOGNIZED,
@@ -3,14 +3,20 @@ package mams.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import mams.commons.util.CollectionUtil;
 import mams.model.appeal.Appeal;
 import mams.model.appeal.UniqueAppealList;
+import mams.model.enrolment.EnrolmentStore;
 import mams.model.module.Module;
 import mams.model.module.UniqueModuleList;
 import mams.model.student.Student;
+import mams.model.student.StudentTimetables;
 import mams.model.student.UniqueStudentList;
+import mams.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -21,6 +27,13 @@ public class Mams implements ReadOnlyMams {
     private final UniqueStudentList students;
     private final UniqueModuleList modules;
     private final UniqueAppealList appeals;
+    private final StudentTimetables timetables;
+    private final EnrolmentStore enrolments;
+
+    /** The snapshot last returned by {@link #snapshot()}, reused until MAMS is changed. */
+    private MamsSnapshot lastSnapshot;
+    /** The number of entries changed since {@code lastSnapshot}, used to estimate the size of the next snapshot. */
+    private int editsSinceSnapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -33,6 +46,8 @@ public class Mams implements ReadOnlyMams {
         students = new UniqueStudentList();
         modules = new UniqueModuleList();
         appeals = new UniqueAppealList();
+        timetables = new StudentTimetables(modules::findByModuleCode);
+        enrolments = new EnrolmentStore();
         // todo: add own object to test.
     }
 
@@ -54,6 +69,9 @@ public class Mams implements ReadOnlyMams {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        timetables.rebuild(this.students.asUnmodifiableObservableList());
+        rebuildEnrolments();
+        editsSinceSnapshot += students.size();
     }
 
     /**
@@ -62,6 +80,9 @@ public class Mams implements ReadOnlyMams {
      */
     public void setModules(List<Module> modules) {
         this.modules.setModules(modules);
+        rebuildTimetables();
+        rebuildEnrolments();
+        editsSinceSnapshot += modules.size();
     }
 
     /**
@@ -70,6 +91,7 @@ public class Mams implements ReadOnlyMams {
      */
     public void setAppeals(List<Appeal> appeals) {
         this.appeals.setAppeals(appeals);
+        editsSinceSnapshot += appeals.size();
     }
 
     /**
@@ -77,12 +99,73 @@ public class Mams implements ReadOnlyMams {
      */
     public void resetData(ReadOnlyMams newData) {
         requireNonNull(newData);
+        if (newData == this) {
+            return;
+        }
+
+        if (newData instanceof Mams) {
+            // the lists of another Mams are already known to be unique, so they are copied without checking
+            Mams otherMams = (Mams) newData;
+            students.setStudents(otherMams.students);
+            modules.setModules(otherMams.modules);
+            appeals.setAppeals(otherMams.appeals);
+            rebuildTimetables();
+            rebuildEnrolments();
+            editsSinceSnapshot += students.snapshot().size() + modules.snapshot().size() + appeals.snapshot().size();
+            return;
+        }
+
+        if (newData instanceof MamsSnapshot) {
+            // the lists are shared with the snapshot rather than copied into new ones
+            MamsSnapshot snapshot = (MamsSnapshot) newData;
+            students.setStudents(snapshot.getStudents());
+            modules.setModules(snapshot.getModules());
+            appeals.setAppeals(snapshot.getAppeals());
+            rebuildTimetables();
+            rebuildEnrolments();
+            lastSnapshot = snapshot;
+            editsSinceSnapshot = 0;
+            return;
+        }
 
         setStudents(newData.getStudentList());
         setModules(newData.getModuleList());
         setAppeals(newData.getAppealList());
     }
 
+    //// bulk insert operations
+
+    /**
+     * Adds all of {@code students} to MAMS in a single pass.
+     * None of them may have the same identity as each other or as a student already in MAMS.
+     */
+    public void addStudents(List<Student> students) {
+        this.students.addAll(students);
+        students.forEach(timetables::add);
+        rebuildEnrolments();
+        editsSinceSnapshot += students.size();
+    }
+
+    /**
+     * Adds all of {@code modules} to MAMS in a single pass.
+     * None of them may have the same identity as each other or as a module already in MAMS.
+     */
+    public void addModules(List<Module> modules) {
+        this.modules.addAll(modules);
+        rebuildTimetables();
+        rebuildEnrolments();
+        editsSinceSnapshot += modules.size();
+    }
+
+    /**
+     * Adds all of {@code appeals} to MAMS in a single pass.
+     * None of them may have the same identity as each other or as an appeal already in MAMS.
+     */
+    public void addAppeals(List<Appeal> appeals) {
+        this.appeals.addAll(appeals);
+        editsSinceSnapshot += appeals.size();
+    }
+
     //// student-level operations
 
     /**
@@ -99,6 +182,9 @@ public class Mams implements ReadOnlyMams {
      */
     public void addStudent(Student p) {
         students.add(p);
+        timetables.add(p);
+        registerEnrolments(p);
+        editsSinceSnapshot++;
     }
 
     /**
@@ -111,6 +197,9 @@ public class Mams implements ReadOnlyMams {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
+        timetables.replace(target, editedStudent);
+        syncEnrolments(target, editedStudent);
+        editsSinceSnapshot++;
     }
 
     /**
@@ -119,6 +208,30 @@ public class Mams implements ReadOnlyMams {
      */
     public void removeStudent(Student key) {
         students.remove(key);
+        timetables.remove(key);
+        enrolments.unregisterStudent(key.getMatricId().toString());
+        editsSinceSnapshot++;
+    }
+
+    /**
+     * Returns the student in MAMS whose matric ID matches {@code matricId}, ignoring case.
+     */
+    public Optional<Student> getStudentEqualsToId(String matricId) {
+        return students.findByMatricId(matricId);
+    }
+
+    /**
+     * Returns true if {@code module} shares a time slot with any module currently taken by {@code student}.
+     */
+    public boolean hasTimetableClash(Student student, Module module) {
+        return timetables.hasClash(student, module);
+    }
+
+    /**
+     * Returns the total workload of the modules currently taken by {@code student}.
+     */
+    public int getStudentWorkload(Student student) {
+        return timetables.getWorkload(student);
     }
 
 
@@ -138,6 +251,9 @@ public class Mams implements ReadOnlyMams {
      */
     public void addModule(Module module) {
         modules.add(module);
+        registerEnrolments(module);
+        refreshTimetables(enrolments.getMatricIdsOf(module.getModuleCode()));
+        editsSinceSnapshot++;
     }
 
     /**
@@ -150,6 +266,13 @@ public class Mams implements ReadOnlyMams {
         requireNonNull(editedModule);
 
         modules.setModule(target, editedModule);
+        // enrolment changes keep the time slots, so the timetables only need rebuilding when the slots move
+        if (!target.getTimeSlots().equals(editedModule.getTimeSlots())
+                || target.getWorkload() != editedModule.getWorkload()) {
+            rebuildTimetables();
+        }
+        syncEnrolments(target, editedModule);
+        editsSinceSnapshot++;
     }
 
     /**
@@ -157,7 +280,75 @@ public class Mams implements ReadOnlyMams {
      * {@code key} must exist in MAMS.
      */
     public void removeModule(Module key) {
+        Set<String> enrolledMatricIds = enrolments.getMatricIdsOf(key.getModuleCode());
         modules.remove(key);
+        enrolments.unregisterModule(key.getModuleCode());
+        refreshTimetables(enrolledMatricIds);
+        editsSinceSnapshot++;
+    }
+
+    /**
+     * Returns the module in MAMS whose module code matches {@code moduleCode}, ignoring case.
+     */
+    public Optional<Module> getModuleEqualsToId(String moduleCode) {
+        return modules.findByModuleCode(moduleCode);
+    }
+
+    //// enrolment operations
+
+    /**
+     * Returns true if {@code student} is enrolled in {@code module}.
+     */
+    public boolean isEnrolled(Student student, Module module) {
+        CollectionUtil.requireAllNonNull(student, module);
+        return enrolments.isEnrolled(student.getMatricId().toString(), module.getModuleCode());
+    }
+
+    /**
+     * Returns the codes of the modules {@code student} is enrolled in.
+     */
+    public Set<String> getEnrolledModuleCodes(Student student) {
+        requireNonNull(student);
+        return enrolments.getModuleCodesOf(student.getMatricId().toString());
+    }
+
+    /**
+     * Returns the matric IDs of the students enrolled in {@code module}.
+     */
+    public Set<String> getEnrolledMatricIds(Module module) {
+        requireNonNull(module);
+        return enrolments.getMatricIdsOf(module.getModuleCode());
+    }
+
+    /**
+     * Enrols {@code student} in {@code module} and replaces both with copies that record the enrolment.
+     * Both must exist in MAMS, and the student must not already be enrolled in the module.
+     */
+    public void enrol(Student student, Module module) {
+        CollectionUtil.requireAllNonNull(student, module);
+        String matricId = student.getMatricId().toString();
+        String moduleCode = module.getModuleCode();
+        replaceEnrolled(student, student.withModule(moduleCode), module, module.withStudent(matricId));
+        enrolments.enrol(matricId, moduleCode);
+    }
+
+    /**
+     * Removes {@code student} from {@code module} and replaces both with copies that record the change.
+     * Both must exist in MAMS, and the student must be enrolled in the module.
+     */
+    public void unenrol(Student student, Module module) {
+        CollectionUtil.requireAllNonNull(student, module);
+        String matricId = student.getMatricId().toString();
+        String moduleCode = module.getModuleCode();
+        replaceEnrolled(student, student.withoutModule(moduleCode), module, module.withoutStudent(matricId));
+        enrolments.unenrol(matricId, moduleCode);
+    }
+
+    private void replaceEnrolled(Student student, Student editedStudent, Module module, Module editedModule) {
+        students.setStudent(student, editedStudent);
+        modules.setModule(module, editedModule);
+        timetables.replace(student, editedStudent);
+        editsSinceSnapshot += 2;
     }
 
     //// appeal-level operations
@@ -176,6 +367,7 @@ public class Mams implements ReadOnlyMams {
      */
     public void addAppeal(Appeal appeal) {
         appeals.add(appeal);
+        editsSinceSnapshot++;
     }
 
     /**
@@ -188,6 +380,7 @@ public class Mams implements ReadOnlyMams {
         requireNonNull(editedAppeal);
 
         appeals.setAppeal(target, editedAppeal);
+        editsSinceSnapshot++;
     }
 
     /**
@@ -196,10 +389,185 @@ public class Mams implements ReadOnlyMams {
      */
     public void removeAppeal(Appeal key) {
         appeals.remove(key);
+        editsSinceSnapshot++;
+    }
+
+    /**
+     * Returns the appeal in MAMS whose appeal ID matches {@code appealId}, ignoring case.
+     */
+    public Optional<Appeal> getAppealEqualsToId(String appealId) {
+        return appeals.findByAppealId(appealId);
+    }
+
+    /**
+     * Returns all appeals in MAMS made by the student with matric ID {@code studentId}.
+     */
+    public List<Appeal> getAppealsOfStudent(String studentId) {
+        return appeals.findByStudentId(studentId);
+    }
+
+    /**
+     * Returns all appeals in MAMS that request to add or drop the module {@code moduleCode}.
+     */
+    public List<Appeal> getAppealsOfModule(String moduleCode) {
+        return appeals.findByModuleCode(moduleCode);
+    }
+
+    /**
+     * Returns all appeals in MAMS of type {@code appealType}.
+     */
+    public List<Appeal> getAppealsOfType(String appealType) {
+        return appeals.findByAppealType(appealType);
+    }
+
+    /**
+     * Returns all resolved appeals in MAMS if {@code isResolved} is true, or all pending appeals otherwise.
+     */
+    public List<Appeal> getAppealsByResolved(boolean isResolved) {
+        return appeals.findByResolved(isResolved);
+    }
+
+    /**
+     * Returns the IDs of the appeals in MAMS that match any of {@code keywords}.
+     *
+     * @see mams.model.appeal.AppealContainsKeywordsPredicate
+     */
+    public Set<String> getAppealIdsMatchingKeywords(List<String> keywords) {
+        return appeals.findByKeywords(keywords);
+    }
+
+    //// snapshots
+
+    /**
+     * Returns an immutable snapshot of the current data, in O(1).
+     * Later changes to this {@code Mams} do not affect the snapshot, and the same snapshot is returned
+     * until this {@code Mams} is changed.
+     */
+    public MamsSnapshot snapshot() {
+        // every change to a list replaces its persistent version, so unchanged versions mean unchanged data
+        if (lastSnapshot == null || lastSnapshot.getStudents() != students.snapshot()
+                || lastSnapshot.getModules() != modules.snapshot() || lastSnapshot.getAppeals() != appeals.snapshot()) {
+            lastSnapshot = new MamsSnapshot(students.snapshot(), modules.snapshot(), appeals.snapshot(),
+                    editsSinceSnapshot);
+            editsSinceSnapshot = 0;
+        }
+        return lastSnapshot;
     }
 
     //// util methods
 
+    private void rebuildTimetables() {
+        timetables.rebuild(students.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Recomputes the enrolment store from the module tags of every student and the roster of every module.
+     * A student is enrolled in a module if either side records it and both exist in MAMS.
+     */
+    private void rebuildEnrolments() {
+        enrolments.clear();
+        for (Module module : modules) {
+            enrolments.registerModule(module.getModuleCode());
+        }
+        for (Student student : students) {
+            String matricId = student.getMatricId().toString();
+            enrolments.registerStudent(matricId);
+            for (Tag tag : student.getCurrentModules()) {
+                modules.findByModuleCode(tag.getTagName())
+                        .ifPresent(module -> enrolments.enrol(matricId, module.getModuleCode()));
+            }
+        }
+        for (Module module : modules) {
+            for (Tag tag : module.getStudents()) {
+                students.findByMatricId(tag.getTagName())
+                        .ifPresent(student -> enrolments.enrol(student.getMatricId().toString(),
+                                module.getModuleCode()));
+            }
+        }
+    }
+
+    /**
+     * Registers a student just added to MAMS, and enrols it in the modules its module tags name.
+     * Module rosters are not searched, as {@link #enrol} and {@link #unenrol} keep both sides in step.
+     */
+    private void registerEnrolments(Student student) {
+        String matricId = student.getMatricId().toString();
+        enrolments.registerStudent(matricId);
+        for (Tag tag : student.getCurrentModules()) {
+            modules.findByModuleCode(tag.getTagName())
+                    .ifPresent(module -> enrolments.enrol(matricId, module.getModuleCode()));
+        }
+    }
+
+    /**
+     * Registers a module just added to MAMS, and enrols the students its roster names.
+     * Student tags are not searched, as {@link #enrol} and {@link #unenrol} keep both sides in step.
+     */
+    private void registerEnrolments(Module module) {
+        String moduleCode = module.getModuleCode();
+        enrolments.registerModule(moduleCode);
+        for (Tag tag : module.getStudents()) {
+            students.findByMatricId(tag.getTagName())
+                    .ifPresent(student -> enrolments.enrol(student.getMatricId().toString(), moduleCode));
+        }
+    }
+
+    /**
+     * Recomputes the timetables of the students with {@code matricIds}, after a module they take was added or
+     * removed.
+     */
+    private void refreshTimetables(Set<String> matricIds) {
+        for (String matricId : matricIds) {
+            students.findByMatricId(matricId).ifPresent(timetables::add);
+        }
+    }
+
+    /**
+     * Applies the module tags added to or removed from a student to the enrolment store.
+     */
+    private void syncEnrolments(Student target, Student editedStudent) {
+        if (!target.getMatricId().equals(editedStudent.getMatricId())) {
+            rebuildEnrolments();
+            return;
+        }
+        String matricId = editedStudent.getMatricId().toString();
+        Set<Tag> before = target.getCurrentModules();
+        Set<Tag> after = editedStudent.getCurrentModules();
+        for (Tag tag : before) {
+            if (!after.contains(tag)) {
+                enrolments.unenrol(matricId, tag.getTagName());
+            }
+        }
+        for (Tag tag : after) {
+            if (!before.contains(tag) && modules.findByModuleCode(tag.getTagName()).isPresent()) {
+                enrolments.enrol(matricId, tag.getTagName());
+            }
+        }
+    }
+
+    /**
+     * Applies the students added to or removed from the roster of a module to the enrolment store.
+     */
+    private void syncEnrolments(Module target, Module editedModule) {
+        if (!target.getModuleCode().equalsIgnoreCase(editedModule.getModuleCode())) {
+            rebuildEnrolments();
+            return;
+        }
+        String moduleCode = editedModule.getModuleCode();
+        Set<Tag> before = target.getStudents();
+        Set<Tag> after = editedModule.getStudents();
+        for (Tag tag : before) {
+            if (!after.contains(tag)) {
+                enrolments.unenrol(tag.getTagName(), moduleCode);
+            }
+        }
+        for (Tag tag : after) {
+            if (!before.contains(tag) && students.findByMatricId(tag.getTagName()).isPresent()) {
+                enrolments.enrol(tag.getTagName(), moduleCode);
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return students.asUnmodifiableObservableList().size() + " students";
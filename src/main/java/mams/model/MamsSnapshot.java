@@ -0,0 +1,102 @@
+package mams.model;
+
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import mams.commons.util.PersistentList;
+import mams.model.appeal.Appeal;
+import mams.model.module.Module;
+import mams.model.student.Student;
+
+/**
+ * An immutable version of MAMS, taken with {@link Mams#snapshot()}.
+ * A snapshot shares all unchanged students, modules and appeals, and most of the lists holding them,
+ * with the {@code Mams} it was taken from and with earlier snapshots. It can be read from any thread.
+ */
+public final class MamsSnapshot implements ReadOnlyMams {
+
+    private final PersistentList<Student> students;
+    private final PersistentList<Module> modules;
+    private final PersistentList<Appeal> appeals;
+    private final int editCount;
+
+    private final ObservableList<Student> studentList;
+    private final ObservableList<Module> moduleList;
+    private final ObservableList<Appeal> appealList;
+
+    MamsSnapshot(PersistentList<Student> students, PersistentList<Module> modules, PersistentList<Appeal> appeals,
+            int editCount) {
+        this.students = students;
+        this.modules = modules;
+        this.appeals = appeals;
+        this.editCount = editCount;
+        // the observable wrappers only delegate to the persistent lists, so no elements are copied
+        this.studentList = FXCollections.unmodifiableObservableList(FXCollections.observableList(students));
+        this.moduleList = FXCollections.unmodifiableObservableList(FXCollections.observableList(modules));
+        this.appealList = FXCollections.unmodifiableObservableList(FXCollections.observableList(appeals));
+    }
+
+    public PersistentList<Student> getStudents() {
+        return students;
+    }
+
+    public PersistentList<Module> getModules() {
+        return modules;
+    }
+
+    public PersistentList<Appeal> getAppeals() {
+        return appeals;
+    }
+
+    /**
+     * Returns the number of students, modules and appeals changed in MAMS between the previous snapshot
+     * and this one, which is roughly how much of this snapshot is not shared with the previous one.
+     */
+    int getEditCount() {
+        return editCount;
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return studentList;
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return moduleList;
+    }
+
+    @Override
+    public ObservableList<Appeal> getAppealList() {
+        return appealList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MamsSnapshot)) {
+            return false;
+        }
+
+        MamsSnapshot otherSnapshot = (MamsSnapshot) other;
+        return students.equals(otherSnapshot.students)
+                && modules.equals(otherSnapshot.modules)
+                && appeals.equals(otherSnapshot.appeals);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(students, modules, appeals);
+    }
+
+    @Override
+    public String toString() {
+        return students.size() + " students";
+    }
+}
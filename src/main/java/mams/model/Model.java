@@ -1,7 +1,9 @@
 package mams.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -59,6 +61,12 @@ public interface Model {
     /** Returns the Mams */
     ReadOnlyMams getMams();
 
+    /**
+     * Returns an immutable snapshot of MAMS, in O(1). Later changes to the model do not affect it,
+     * so it can be read while the model keeps changing, e.g. by backups.
+     */
+    ReadOnlyMams getMamsSnapshot();
+
     /**
      * Returns true if a student with the same identity as {@code student} exists in MAMS.
      */
@@ -173,6 +181,77 @@ public interface Model {
      */
     public Optional<Module> getModuleEqualsToId(String id);
 
+    /**
+     * Returns an {@code Optional} containing the student in MAMS whose matric ID matches the given id.
+     * If no student in MAMS matches the given id, then this returns Optional.empty()
+     * Note: the search is performed on the global list, not the filtered list.
+     * @param id matric id to be queried against
+     * @return Optional.of(Student) if found, else Optional.empty()
+     */
+    public Optional<Student> getStudentEqualsToId(String id);
+
+    /**
+     * Returns true if {@code module} shares a time slot with any module the given student is currently taking.
+     */
+    boolean hasTimetableClash(Student student, Module module);
+
+    /**
+     * Returns the total workload of the modules the given student is currently taking.
+     */
+    int getStudentWorkload(Student student);
+
+    /**
+     * Returns true if the given student is enrolled in the given module.
+     */
+    boolean isEnrolled(Student student, Module module);
+
+    /**
+     * Returns the codes of the modules the given student is enrolled in.
+     */
+    Set<String> getEnrolledModuleCodes(Student student);
+
+    /**
+     * Enrols the given student in the given module, replacing both with copies that record the enrolment.
+     * Both must exist in MAMS.
+     */
+    void enrol(Student student, Module module);
+
+    /**
+     * Removes the given student from the given module, replacing both with copies that record the change.
+     * Both must exist in MAMS.
+     */
+    void unenrol(Student student, Module module);
+
+    /**
+     * Returns all appeals in MAMS made by the student with the given matric id, ignoring case.
+     * Note: the search is performed on the global list, not the filtered list.
+     */
+    List<Appeal> getAppealsOfStudent(String studentId);
+
+    /**
+     * Returns all appeals in MAMS that request to add or drop the given module, ignoring case.
+     * Note: the search is performed on the global list, not the filtered list.
+     */
+    List<Appeal> getAppealsOfModule(String moduleCode);
+
+    /**
+     * Returns all appeals in MAMS of the given type, ignoring case.
+     * Note: the search is performed on the global list, not the filtered list.
+     */
+    List<Appeal> getAppealsOfType(String appealType);
+
+    /**
+     * Returns all resolved appeals in MAMS if {@code isResolved} is true, or all pending appeals otherwise.
+     * Note: the search is performed on the global list, not the filtered list.
+     */
+    List<Appeal> getAppealsByResolved(boolean isResolved);
+
+    /**
+     * Returns the IDs of the appeals in MAMS accepted by an {@code AppealContainsKeywordsPredicate} of
+     * {@code keywords}. The result is computed from the appeal indexes rather than by testing every appeal.
+     */
+    Set<String> getAppealIdsMatchingKeywords(List<String> keywords);
+
     /**
      * Updates the filter of the filtered student list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -196,4 +275,32 @@ public interface Model {
      *
      */
     void replaceMams(ReadOnlyMams mams);
+
+    /**
+     * Saves {@code previousState}, taken with {@link #getMamsSnapshot()} before the last change, so that the change
+     * can be undone, and discards all undone states.
+     */
+    void commitMams(ReadOnlyMams previousState);
+
+    /**
+     * Returns true if there is a saved state of MAMS to return to.
+     */
+    boolean canUndoMams();
+
+    /**
+     * Returns true if there is an undone state of MAMS to restore.
+     */
+    boolean canRedoMams();
+
+    /**
+     * Restores MAMS to its state before the last committed change.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    void undoMams();
+
+    /**
+     * Restores the state of MAMS undone last.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redoMams();
 }
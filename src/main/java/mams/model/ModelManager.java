@@ -5,9 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -29,13 +29,21 @@ public class ModelManager implements Model {
     private final FilteredList<Student> filteredStudents;
     private final FilteredList<Module> filteredModules;
     private final FilteredList<Appeal> filteredAppeals;
+    private final UndoRedoStack undoRedoStack;
 
     /**
      * Initializes a ModelManager with the given MAMS and userPrefs.
      */
     public ModelManager(ReadOnlyMams mams, ReadOnlyUserPrefs userPrefs) {
+        this(mams, userPrefs, new UndoRedoStack());
+    }
+
+    /**
+     * Initializes a ModelManager with the given MAMS and userPrefs, keeping undo states in {@code undoRedoStack}.
+     */
+    public ModelManager(ReadOnlyMams mams, ReadOnlyUserPrefs userPrefs, UndoRedoStack undoRedoStack) {
         super();
-        CollectionUtil.requireAllNonNull(mams, userPrefs);
+        CollectionUtil.requireAllNonNull(mams, userPrefs, undoRedoStack);
 
         logger.fine("Initializing with MAMS: " + mams + " and user prefs " + userPrefs);
 
@@ -44,6 +52,7 @@ public class ModelManager implements Model {
         filteredStudents = new FilteredList<>(this.mams.getStudentList());
         filteredModules = new FilteredList<>(this.mams.getModuleList());
         filteredAppeals = new FilteredList<>(this.mams.getAppealList());
+        this.undoRedoStack = undoRedoStack;
     }
 
     public ModelManager() {
@@ -97,6 +106,11 @@ public class ModelManager implements Model {
         return mams;
     }
 
+    @Override
+    public ReadOnlyMams getMamsSnapshot() {
+        return mams.snapshot();
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         requireNonNull(student);
@@ -239,31 +253,119 @@ public class ModelManager implements Model {
     //=========== Individual Items Accessors =============================================================
     @Override
     public Optional<Appeal> getAppealEqualsToId(String id) {
-        List<Appeal> resultList = getFullAppealList().stream()
-                .filter(a -> a.getAppealId().equalsIgnoreCase(id))
-                .collect(Collectors.toList());
-        assert resultList.size() < 2 : "Assertion Error: Appeal List in MAMS has duplicate IDs";
-        return (resultList.isEmpty())
-                ? Optional.empty()
-                : Optional.of(resultList.get(0));
+        requireNonNull(id);
+        return mams.getAppealEqualsToId(id);
     }
 
     @Override
     public Optional<Module> getModuleEqualsToId(String id) {
-        List<Module> resultList = getFullModuleList().stream()
-                .filter(m -> m.getModuleCode().equalsIgnoreCase(id))
-                .collect(Collectors.toList());
-        assert resultList.size() < 2 : "Assertion Error: Module List in MAMS has duplicate IDs";
-        return (resultList.isEmpty())
-                ? Optional.empty()
-                : Optional.of(resultList.get(0));
+        requireNonNull(id);
+        return mams.getModuleEqualsToId(id);
+    }
+
+    @Override
+    public Optional<Student> getStudentEqualsToId(String id) {
+        requireNonNull(id);
+        return mams.getStudentEqualsToId(id);
+    }
+
+    @Override
+    public boolean hasTimetableClash(Student student, Module module) {
+        CollectionUtil.requireAllNonNull(student, module);
+        return mams.hasTimetableClash(student, module);
+    }
+
+    @Override
+    public int getStudentWorkload(Student student) {
+        requireNonNull(student);
+        return mams.getStudentWorkload(student);
+    }
+
+    @Override
+    public boolean isEnrolled(Student student, Module module) {
+        CollectionUtil.requireAllNonNull(student, module);
+        return mams.isEnrolled(student, module);
+    }
+
+    @Override
+    public Set<String> getEnrolledModuleCodes(Student student) {
+        requireNonNull(student);
+        return mams.getEnrolledModuleCodes(student);
+    }
+
+    @Override
+    public void enrol(Student student, Module module) {
+        CollectionUtil.requireAllNonNull(student, module);
+        mams.enrol(student, module);
+    }
+
+    @Override
+    public void unenrol(Student student, Module module) {
+        CollectionUtil.requireAllNonNull(student, module);
+        mams.unenrol(student, module);
+    }
+
+    @Override
+    public List<Appeal> getAppealsOfStudent(String studentId) {
+        requireNonNull(studentId);
+        return mams.getAppealsOfStudent(studentId);
+    }
+
+    @Override
+    public List<Appeal> getAppealsOfModule(String moduleCode) {
+        requireNonNull(moduleCode);
+        return mams.getAppealsOfModule(moduleCode);
+    }
+
+    @Override
+    public List<Appeal> getAppealsOfType(String appealType) {
+        requireNonNull(appealType);
+        return mams.getAppealsOfType(appealType);
+    }
+
+    @Override
+    public List<Appeal> getAppealsByResolved(boolean isResolved) {
+        return mams.getAppealsByResolved(isResolved);
+    }
+
+    @Override
+    public Set<String> getAppealIdsMatchingKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return mams.getAppealIdsMatchingKeywords(keywords);
     }
 
     @Override
     public void replaceMams(ReadOnlyMams mams) {
-        this.mams.setAppeals(mams.getAppealList());
-        this.mams.setModules(mams.getModuleList());
-        this.mams.setStudents(mams.getStudentList());
+        requireNonNull(mams);
+        this.mams.resetData(mams);
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitMams(ReadOnlyMams previousState) {
+        requireNonNull(previousState);
+        undoRedoStack.push(previousState);
+    }
+
+    @Override
+    public boolean canUndoMams() {
+        return undoRedoStack.canUndo();
+    }
+
+    @Override
+    public boolean canRedoMams() {
+        return undoRedoStack.canRedo();
+    }
+
+    @Override
+    public void undoMams() {
+        mams.resetData(undoRedoStack.undo(mams.snapshot()));
+    }
+
+    @Override
+    public void redoMams() {
+        mams.resetData(undoRedoStack.redo(mams.snapshot()));
     }
 
     @Override
@@ -0,0 +1,158 @@
+package mams.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps earlier states of MAMS in memory so that commands can be undone and redone.
+ *
+ * At most {@code maxDepth} undo states are kept, and the oldest are dropped once the estimated size of all kept
+ * states goes over {@code maxBytes}. The newest undo state is always kept. States are usually
+ * {@link MamsSnapshot}s, which share everything but the entries changed between them, so only those entries
+ * are counted. Any other state is counted as a full copy of the MAMS lists.
+ */
+public class UndoRedoStack {
+
+    public static final int DEFAULT_MAX_DEPTH = 20;
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    /** Rough cost of one student, module or appeal in a copied state: list slots, index entries and hash nodes. */
+    static final int ESTIMATED_BYTES_PER_ENTRY = 256;
+    /** Rough cost of one changed entry in a snapshot: the entry itself and the tree path copied to reach it. */
+    static final int ESTIMATED_BYTES_PER_EDIT = 1024;
+
+    private final int maxDepth;
+    private final long maxBytes;
+    private final Deque<State> undoStates = new ArrayDeque<>();
+    private final Deque<State> redoStates = new ArrayDeque<>();
+    private long retainedBytes;
+
+    /**
+     * Constructs an empty {@code UndoRedoStack} with the default limits.
+     */
+    public UndoRedoStack() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Constructs an empty {@code UndoRedoStack} that keeps at most {@code maxDepth} undo states and
+     * about {@code maxBytes} of states in total.
+     */
+    public UndoRedoStack(int maxDepth, long maxBytes) {
+        if (maxDepth < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("Undo limits must not be negative");
+        }
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records {@code state} as the state to return to on the next undo, and forgets all redo states.
+     * {@code state} must not be modified afterwards.
+     */
+    public void push(ReadOnlyMams state) {
+        requireNonNull(state);
+        redoStates.forEach(this::release);
+        redoStates.clear();
+        retain(undoStates, state);
+        trim();
+    }
+
+    public boolean canUndo() {
+        return !undoStates.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStates.isEmpty();
+    }
+
+    /**
+     * Returns the state before the last change, and records {@code current} for redo.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public ReadOnlyMams undo(ReadOnlyMams current) {
+        requireNonNull(current);
+        if (!canUndo()) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        State previous = undoStates.pollFirst();
+        release(previous);
+        retain(redoStates, current);
+        return previous.mams;
+    }
+
+    /**
+     * Returns the state undone last, and records {@code current} for undo.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public ReadOnlyMams redo(ReadOnlyMams current) {
+        requireNonNull(current);
+        if (!canRedo()) {
+            throw new IllegalStateException("Nothing to redo");
+        }
+        State next = redoStates.pollFirst();
+        release(next);
+        retain(undoStates, current);
+        trim();
+        return next.mams;
+    }
+
+    /**
+     * Returns the number of states that can be undone.
+     */
+    public int getUndoDepth() {
+        return undoStates.size();
+    }
+
+    /**
+     * Returns the estimated size in bytes of all states kept.
+     */
+    public long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    private void retain(Deque<State> states, ReadOnlyMams mams) {
+        State state = new State(mams);
+        states.addFirst(state);
+        retainedBytes += state.estimatedBytes;
+    }
+
+    private void release(State state) {
+        retainedBytes -= state.estimatedBytes;
+    }
+
+    /**
+     * Drops the oldest undo states until both limits are met, always keeping the newest one.
+     */
+    private void trim() {
+        while (undoStates.size() > Math.max(maxDepth, 1)
+                || (undoStates.size() > 1 && retainedBytes > maxBytes)) {
+            release(undoStates.pollLast());
+        }
+        if (maxDepth == 0) {
+            undoStates.forEach(this::release);
+            undoStates.clear();
+        }
+    }
+
+    /**
+     * A kept state and its estimated size.
+     */
+    private static class State {
+        private final ReadOnlyMams mams;
+        private final long estimatedBytes;
+
+        State(ReadOnlyMams mams) {
+            this.mams = mams;
+            if (mams instanceof MamsSnapshot) {
+                this.estimatedBytes = ((long) ((MamsSnapshot) mams).getEditCount() + 1) * ESTIMATED_BYTES_PER_EDIT;
+            } else {
+                long entries = (long) mams.getStudentList().size() + mams.getModuleList().size()
+                        + mams.getAppealList().size();
+                this.estimatedBytes = entries * ESTIMATED_BYTES_PER_ENTRY;
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Objects;
 
 import mams.commons.util.CollectionUtil;
+import mams.commons.util.ValidationUtil;
 
 /**
  * Represents an appeal in appeal list
@@ -34,17 +35,15 @@ public class Appeal {
             "Academic year should start with AY";
     //Identity fields
     private final String appealId;
-    private final String appealType;
+    private final AppealType appealType;
     private final String studentId;
     private final String academicYear;
     private final int studentWorkload;
     private final String appealDescription;
-    private final String previousModule;
-    private final String newModule;
-    private final String moduleToAdd;
-    private final String moduleToDrop;
+    // the module to add or drop; only add module and drop module appeals have one
+    private final String moduleCode;
     private final boolean resolved;
-    private final String result;
+    private final AppealResult result;
     private final String remark;
     private boolean isModified;
 
@@ -75,30 +74,15 @@ public class Appeal {
                   String moduleToDrop,
                   boolean resolved,
                   String remark) {
-
-        CollectionUtil.requireAllNonNull(appealId, appealType, studentId, academicYear,
-                appealDescription);
-        this.appealId = appealId;
-        this.appealType = appealType;
-        this.studentId = studentId;
-        this.academicYear = academicYear;
-        this.studentWorkload = studentWorkload;
-        this.appealDescription = appealDescription;
-        this.previousModule = previousModule;
-        this.newModule = newModule;
-        this.moduleToAdd = moduleToAdd;
-        this.moduleToDrop = moduleToDrop;
-        this.resolved = resolved;
-        this.result = "Pending";
-        this.remark = remark;
-        this.isModified = false;
-        // to check if this is an already resolved appeal,
-        // since we are working with immutability.
-        //  Only appeals that are not modified will be shown/added to file
+        this(appealId, appealType, studentId, academicYear, studentWorkload, appealDescription,
+                previousModule, newModule, moduleToAdd, moduleToDrop, resolved, AppealResult.PENDING.toString(),
+                remark);
     }
 
     /**
-     *  Constructor when an existing appeal is resolved
+     *  Constructor when an existing appeal is resolved.
+     *  Only the module field used by {@code appealType} is kept; {@code previousModule} and {@code newModule}
+     *  are not used by any appeal type.
      * @param appealId
      * @param appealType
      * @param studentId
@@ -126,26 +110,53 @@ public class Appeal {
                   boolean resolved,
                   String result,
                   String remark) {
+        this(appealId, AppealType.fromString(appealType), studentId, academicYear, studentWorkload,
+                appealDescription, selectModuleCode(AppealType.fromString(appealType), moduleToAdd, moduleToDrop),
+                resolved, AppealResult.fromString(result), remark);
+    }
+
+    /**
+     * Every field except {@code remark} must be present and not null.
+     * {@code moduleCode} is the module to add or drop, and is empty for other appeal types.
+     */
+    public Appeal(String appealId,
+                  AppealType appealType,
+                  String studentId,
+                  String academicYear,
+                  int studentWorkload,
+                  String appealDescription,
+                  String moduleCode,
+                  boolean resolved,
+                  AppealResult result,
+                  String remark) {
 
         CollectionUtil.requireAllNonNull(appealId, appealType, studentId, academicYear,
-                 appealDescription);
+                appealDescription, moduleCode, result);
         this.appealId = appealId;
         this.appealType = appealType;
         this.studentId = studentId;
-        this.academicYear = academicYear;
+        // every appeal of a semester shares the same few academic years
+        this.academicYear = academicYear.intern();
         this.studentWorkload = studentWorkload;
         this.appealDescription = appealDescription;
-        this.previousModule = previousModule;
-        this.newModule = newModule;
-        this.moduleToAdd = moduleToAdd;
-        this.moduleToDrop = moduleToDrop;
+        this.moduleCode = moduleCode;
         this.resolved = resolved;
         this.result = result;
         this.remark = remark;
         this.isModified = false; // to check if this is an already resolved appeal,
         // since we are working with immutability.
         //  Only appeals that are not modified will be shown/added to file
+    }
 
+    private static String selectModuleCode(AppealType appealType, String moduleToAdd, String moduleToDrop) {
+        switch (appealType) {
+        case ADD_MODULE:
+            return moduleToAdd == null ? "" : moduleToAdd;
+        case DROP_MODULE:
+            return moduleToDrop == null ? "" : moduleToDrop;
+        default:
+            return "";
+        }
     }
 
     public String getAppealId() {
@@ -153,6 +164,10 @@ public class Appeal {
     }
 
     public String getAppealType() {
+        return appealType.toString();
+    }
+
+    public AppealType getType() {
         return appealType;
     }
 
@@ -172,31 +187,39 @@ public class Appeal {
         return appealDescription;
     }
 
+    /**
+     * No appeal type swaps modules, so this is always empty. Kept for the storage format.
+     */
     public String getPreviousModule() {
-        return previousModule;
+        return "";
     }
 
+    /**
+     * No appeal type swaps modules, so this is always empty. Kept for the storage format.
+     */
     public String getNewModule() {
-        return newModule;
+        return "";
     }
 
     public String getModuleToAdd() {
-        return moduleToAdd;
+        return appealType == AppealType.ADD_MODULE ? moduleCode : "";
     }
 
     public String getModuleToDrop() {
-        return moduleToDrop;
+        return appealType == AppealType.DROP_MODULE ? moduleCode : "";
+    }
+
+    /**
+     * Returns the module to add or drop, which is empty for appeals that do not change modules.
+     */
+    public String getModuleCode() {
+        return moduleCode;
     }
 
     public ArrayList<String> getModulesToChange() {
         ArrayList<String> modulesAffected = new ArrayList<>();
-        if (!previousModule.isEmpty() || !newModule.isEmpty()) {
-            modulesAffected.add(previousModule);
-            modulesAffected.add(newModule);
-        } else if (!moduleToAdd.isEmpty()) {
-            modulesAffected.add(moduleToDrop);
-        } else if (!moduleToAdd.isEmpty()) {
-            modulesAffected.add(moduleToAdd);
+        if (!moduleCode.isEmpty()) {
+            modulesAffected.add(moduleCode);
         }
         return modulesAffected;
     }
@@ -214,6 +237,10 @@ public class Appeal {
     }
 
     public String getResult() {
+        return result.toString();
+    }
+
+    public AppealResult getAppealResult() {
         return result;
     }
 
@@ -221,6 +248,14 @@ public class Appeal {
         return remark;
     }
 
+    /**
+     * Returns a resolved copy of this appeal with the given {@code result} and {@code remark}.
+     */
+    public Appeal withResult(AppealResult result, String remark) {
+        return new Appeal(appealId, appealType, studentId, academicYear, studentWorkload, appealDescription,
+                moduleCode, true, result, remark);
+    }
+
     /**
      * Returns true if both appeals of the same name have at least one other identity field that is the same.
      * This defines a weaker notion of equality between two appeals.
@@ -232,8 +267,8 @@ public class Appeal {
 
         return otherAppeal != null
                 && otherAppeal.getAppealId().equals(getAppealId())
-                && otherAppeal.getResult().equals(getResult())
-                && (otherAppeal.getAppealType().equals(getAppealType())
+                && otherAppeal.getAppealResult() == getAppealResult()
+                && (otherAppeal.getType() == getType()
                 || otherAppeal.getAppealDescription().equals(getAppealDescription()));
     }
 
@@ -253,13 +288,14 @@ public class Appeal {
 
         Appeal otherAppeal = (Appeal) other;
         return otherAppeal.getAppealId().equals(getAppealId())
-                && otherAppeal.getAppealType().equals(getAppealType())
+                && otherAppeal.getType() == getType()
                 && otherAppeal.getStudentId().equals(getStudentId())
                 && (otherAppeal.getStudentWorkload() == getStudentWorkload());
     }
 
     public int hashCode() {
-        return Objects.hash(appealId, appealType, studentId, studentWorkload, appealDescription);
+        // only the fields compared by equals
+        return Objects.hash(appealId, appealType, studentId, studentWorkload);
     }
 
     @Override
@@ -302,38 +338,31 @@ public class Appeal {
      * @returns a new appeal with same identities
      */
     public Appeal resolve(String action, String remark) {
-        Appeal appeal;
+        this.setModified();
         if (action.equalsIgnoreCase("approve")) {
-            this.setModified();
-            appeal = new Appeal(this.appealId, this.appealType, this.studentId, this.academicYear,
-                    this.studentWorkload, this.appealDescription, this.previousModule, this.newModule,
-                    this.moduleToAdd, this.moduleToDrop, true, "approved", remark);
+            return new Appeal(appealId, appealType, studentId, academicYear, studentWorkload, appealDescription,
+                    moduleCode, true, AppealResult.APPROVED, remark);
         } else {
-            this.setModified();
-            appeal = new Appeal(this.appealId, this.appealType, this.studentId, this.academicYear,
-                    this.studentWorkload, this.appealDescription, this.previousModule, this.newModule,
-                    this.moduleToAdd, this.moduleToDrop, false, "rejected", remark);
+            return new Appeal(appealId, appealType, studentId, academicYear, studentWorkload, appealDescription,
+                    moduleCode, false, AppealResult.REJECTED, remark);
         }
-        return appeal;
     }
 
     /**
      * Returns true if a given string is a valid appeal Id.
      */
     public static boolean isValidAppealId(String test) {
-        return test.matches(VALIDATION_REGEX_APPEAL_CODE);
+        return ValidationUtil.isPrefixedDigits(test, "C", 6);
     }
 
     /**
      * Returns true if given string is of correct type
      */
     public static boolean isValidAppealType(String test) {
-        return test.equalsIgnoreCase("increase workload")
-                || test.equalsIgnoreCase("add module")
-                || test.equalsIgnoreCase("drop module");
+        return AppealType.isValidAppealType(test);
     }
 
     public static boolean isValidAcademicYear(String test) {
-        return test.matches(VALIDATION_REGEX_ACADEMIC_YEAR);
+        return ValidationUtil.isPrefixedDigits(test, "AY", 4);
     }
 }
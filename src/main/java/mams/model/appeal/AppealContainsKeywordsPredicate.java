@@ -24,6 +24,10 @@ public class AppealContainsKeywordsPredicate implements Predicate<Appeal> {
         return keywords.size();
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Appeal appeal) {
         return keywords.stream()
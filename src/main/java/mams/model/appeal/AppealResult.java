@@ -0,0 +1,36 @@
+package mams.model.appeal;
+
+/**
+ * The outcome of an appeal.
+ */
+public enum AppealResult {
+    PENDING("Pending"),
+    APPROVED("APPROVED"),
+    REJECTED("REJECTED");
+
+    private final String displayName;
+
+    AppealResult(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the result named by {@code name}, ignoring case.
+     * Anything other than approved or rejected, including {@code null} and blank results in older data files,
+     * is taken to be pending.
+     */
+    public static AppealResult fromString(String name) {
+        if (APPROVED.displayName.equalsIgnoreCase(name)) {
+            return APPROVED;
+        } else if (REJECTED.displayName.equalsIgnoreCase(name)) {
+            return REJECTED;
+        } else {
+            return PENDING;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
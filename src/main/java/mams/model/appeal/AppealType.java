@@ -0,0 +1,50 @@
+package mams.model.appeal;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The kinds of appeal a student can make. Each type determines which fields of an {@code Appeal} are used.
+ */
+public enum AppealType {
+    INCREASE_WORKLOAD("Increase workload"),
+    ADD_MODULE("Add module"),
+    DROP_MODULE("Drop module");
+
+    private final String displayName;
+
+    AppealType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns true if {@code test} names an appeal type, ignoring case.
+     */
+    public static boolean isValidAppealType(String test) {
+        requireNonNull(test);
+        for (AppealType type : values()) {
+            if (type.displayName.equalsIgnoreCase(test)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the appeal type named by {@code name}, ignoring case.
+     * @throws IllegalArgumentException if {@code name} is not a valid appeal type.
+     */
+    public static AppealType fromString(String name) {
+        requireNonNull(name);
+        for (AppealType type : values()) {
+            if (type.displayName.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(Appeal.MESSAGE_CONSTRAINTS_APPEAL_TYPE);
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
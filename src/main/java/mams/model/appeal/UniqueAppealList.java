@@ -2,12 +2,24 @@ package mams.model.appeal;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import mams.commons.util.CollectionUtil;
+import mams.commons.util.KeyIndex;
+import mams.commons.util.PersistentList;
+import mams.commons.util.StringUtil;
 import mams.model.appeal.exceptions.AppealNotFoundException;
 import mams.model.appeal.exceptions.DuplicateAppealException;
 
@@ -20,15 +32,29 @@ import mams.model.appeal.exceptions.DuplicateAppealException;
  * the removal of a appeal uses Appeal#equals(Object) so
  * as to ensure that the student with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Appeals are additionally indexed by appeal ID,
+ * student ID, module to add, module to drop, appeal type and status, so that lookups by any of
+ * these fields do not need to scan the list.
  *
  * @see Appeal#isSameAppeal(Appeal)
  */
 public class UniqueAppealList implements Iterable<Appeal> {
 
+    /** Keywords that can be a substring of an appeal ID such as C000123. */
+    private static final Pattern APPEAL_ID_FRAGMENT = Pattern.compile("(?i)c?\\d*");
+
     private final ObservableList<Appeal> internalList = FXCollections.observableArrayList();
     private final ObservableList<Appeal> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentList<Appeal> version = PersistentList.empty();
+    private final KeyIndex<Appeal> appealIdIndex = new KeyIndex<>(Appeal::getAppealId);
+    private final KeyIndex<Appeal> studentIdIndex = new KeyIndex<>(Appeal::getStudentId);
+    private final KeyIndex<Appeal> moduleToAddIndex = new KeyIndex<>(Appeal::getModuleToAdd);
+    private final KeyIndex<Appeal> moduleToDropIndex = new KeyIndex<>(Appeal::getModuleToDrop);
+    private final KeyIndex<Appeal> appealTypeIndex = new KeyIndex<>(Appeal::getAppealType);
+    private final KeyIndex<Appeal> statusIndex = new KeyIndex<>(Appeal::getStatus);
+    private final List<KeyIndex<Appeal>> indexes = Arrays.asList(appealIdIndex, studentIdIndex,
+            moduleToAddIndex, moduleToDropIndex, appealTypeIndex, statusIndex);
 
     /**
      * returns true if this list contains an equivalent appeal as argument
@@ -50,6 +76,24 @@ public class UniqueAppealList implements Iterable<Appeal> {
             throw new DuplicateAppealException();
         }
         internalList.add(toAdd);
+        version = version.withAdded(toAdd);
+        indexes.forEach(keyIndex -> keyIndex.add(toAdd));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list.
+     * None of {@code toAdd} may share an identity with each other or with a appeal already in the list.
+     * The whole batch is checked in a single pass, and nothing is added if any duplicates are found.
+     */
+    public void addAll(List<Appeal> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        List<Appeal> duplicates = findDuplicates(internalList, toAdd);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateAppealException(duplicates);
+        }
+        internalList.addAll(toAdd);
+        version = version.withAddedAll(toAdd);
+        toAdd.forEach(appeal -> indexes.forEach(keyIndex -> keyIndex.add(appeal)));
     }
 
     /**
@@ -69,6 +113,8 @@ public class UniqueAppealList implements Iterable<Appeal> {
 
 
         internalList.set(index, editedAppeal);
+        version = version.withSet(index, editedAppeal);
+        indexes.forEach(keyIndex -> keyIndex.replace(target, editedAppeal));
     }
 
     /**
@@ -77,11 +123,14 @@ public class UniqueAppealList implements Iterable<Appeal> {
      */
     public void setAppeals(List<Appeal> appeals) {
         CollectionUtil.requireAllNonNull(appeals);
-        if (!appealsAreUnique(appeals)) {
-            throw new DuplicateAppealException();
+        List<Appeal> duplicates = findDuplicates(Collections.emptyList(), appeals);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateAppealException(duplicates);
         }
 
         internalList.setAll(appeals);
+        version = PersistentList.copyOf(appeals);
+        indexes.forEach(keyIndex -> keyIndex.setAll(internalList));
     }
 
     /**
@@ -91,6 +140,8 @@ public class UniqueAppealList implements Iterable<Appeal> {
     public void setAppeals(UniqueAppealList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        version = replacement.version;
+        indexes.forEach(keyIndex -> keyIndex.setAll(internalList));
     }
 
     /**
@@ -99,11 +150,99 @@ public class UniqueAppealList implements Iterable<Appeal> {
      */
     public void remove(Appeal toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new AppealNotFoundException();
         }
+        internalList.remove(index);
+        version = version.withRemoved(index);
+        indexes.forEach(keyIndex -> keyIndex.remove(toRemove));
+    }
+
+
+    /**
+     * Returns the appeal in the list whose appeal ID matches {@code appealId}, ignoring case.
+     */
+    public Optional<Appeal> findByAppealId(String appealId) {
+        requireNonNull(appealId);
+        return appealIdIndex.getFirst(appealId);
+    }
+
+    /**
+     * Returns all appeals made by the student with matric ID {@code studentId}, ignoring case.
+     */
+    public List<Appeal> findByStudentId(String studentId) {
+        requireNonNull(studentId);
+        return studentIdIndex.getAll(studentId);
+    }
+
+    /**
+     * Returns all appeals that request to add or drop the module {@code moduleCode}, ignoring case.
+     */
+    public List<Appeal> findByModuleCode(String moduleCode) {
+        requireNonNull(moduleCode);
+        Set<Appeal> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(moduleToAddIndex.getAll(moduleCode));
+        matches.addAll(moduleToDropIndex.getAll(moduleCode));
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns all appeals of type {@code appealType}, ignoring case.
+     */
+    public List<Appeal> findByAppealType(String appealType) {
+        requireNonNull(appealType);
+        return appealTypeIndex.getAll(appealType);
+    }
+
+    /**
+     * Returns all appeals that are resolved if {@code isResolved} is true, or all pending appeals otherwise.
+     */
+    public List<Appeal> findByResolved(boolean isResolved) {
+        return statusIndex.getAll(isResolved ? "resolved" : "unresolved");
+    }
+
+    /**
+     * Returns the IDs of the appeals that {@code AppealContainsKeywordsPredicate} would accept for {@code keywords}.
+     * Only the distinct keys of the appeal type, module to add and status indexes are tested against each
+     * keyword. Appeal IDs are only scanned when the keyword could be part of an appeal ID.
+     */
+    public Set<String> findByKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            addMatchingBuckets(appealTypeIndex, keyword, matches);
+            addMatchingBuckets(moduleToAddIndex, keyword, matches);
+            addMatchingBuckets(statusIndex, keyword, matches);
+
+            String trimmedKeyword = keyword.trim();
+            if (Appeal.isValidAppealId(trimmedKeyword.toUpperCase(Locale.ROOT))) {
+                appealIdIndex.getFirst(trimmedKeyword).ifPresent(appeal -> matches.add(appeal.getAppealId()));
+            } else if (APPEAL_ID_FRAGMENT.matcher(trimmedKeyword).matches()) {
+                addMatchingBuckets(appealIdIndex, keyword, matches);
+            }
+        }
+        return matches;
     }
 
+    /**
+     * Adds the ID of every appeal of {@code index} whose key contains {@code keyword} to {@code matches}.
+     */
+    private static void addMatchingBuckets(KeyIndex<Appeal> index, String keyword, Set<String> matches) {
+        for (String key : index.keys()) {
+            if (StringUtil.containsWordIgnoreCase(key, keyword)) {
+                index.getAll(key).forEach(appeal -> matches.add(appeal.getAppealId()));
+            }
+        }
+    }
+
+    /**
+     * Returns the current contents of the list as an immutable list, in O(1).
+     * Later changes to this list do not affect it.
+     */
+    public PersistentList<Appeal> snapshot() {
+        return version;
+    }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -129,16 +268,29 @@ public class UniqueAppealList implements Iterable<Appeal> {
     }
 
     /**
-     * Returns true if {@code appeals} contains only unique appeals.
+     * Returns the appeals in {@code appeals} that have the same identity as an earlier appeal in {@code appeals}
+     * or as any appeal in {@code existing}. Runs in linear time.
+     * Two appeals have the same identity exactly when they share appeal ID and result, and also share
+     * either the appeal type or the description, so one hash set is kept for each combination.
      */
-    private boolean appealsAreUnique(List<Appeal> appeals) {
-        for (int i = 0; i < appeals.size() - 1; i++) {
-            for (int j = i + 1; j < appeals.size(); j++) {
-                if (appeals.get(i).isSameAppeal(appeals.get(j))) {
-                    return false;
-                }
+    private static List<Appeal> findDuplicates(Iterable<Appeal> existing, List<Appeal> appeals) {
+        Set<List<Object>> idsResultsAndTypes = new HashSet<>();
+        Set<List<Object>> idsResultsAndDescriptions = new HashSet<>();
+        List<Appeal> duplicates = new ArrayList<>();
+        for (Appeal appeal : existing) {
+            idsResultsAndTypes.add(Arrays.asList(appeal.getAppealId(), appeal.getAppealResult(), appeal.getType()));
+            idsResultsAndDescriptions.add(
+                    Arrays.asList(appeal.getAppealId(), appeal.getAppealResult(), appeal.getAppealDescription()));
+        }
+        for (Appeal appeal : appeals) {
+            boolean isNewType = idsResultsAndTypes.add(
+                    Arrays.asList(appeal.getAppealId(), appeal.getAppealResult(), appeal.getType()));
+            boolean isNewDescription = idsResultsAndDescriptions.add(
+                    Arrays.asList(appeal.getAppealId(), appeal.getAppealResult(), appeal.getAppealDescription()));
+            if (!isNewType || !isNewDescription) {
+                duplicates.add(appeal);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,11 +1,37 @@
 package mams.model.appeal.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import mams.model.appeal.Appeal;
+
 /**
  * Signals that the operation will result in duplicate Appeals (Appeals are considered duplicates
  * if they have the same identity).
  */
 public class DuplicateAppealException extends RuntimeException {
+    private final List<Appeal> duplicates;
+
     public DuplicateAppealException() {
         super("Operation would result in duplicate appeal");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateAppealException} that reports every one of {@code duplicates}.
+     */
+    public DuplicateAppealException(List<Appeal> duplicates) {
+        super("Operation would result in duplicate appeal: " + duplicates.stream()
+                .map(Appeal::getAppealId)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the offending appeals, or an empty list if they were not recorded.
+     */
+    public List<Appeal> getDuplicates() {
+        return duplicates;
     }
 }
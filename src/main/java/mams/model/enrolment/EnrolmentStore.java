@@ -0,0 +1,216 @@
+package mams.model.enrolment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import mams.commons.util.CollectionUtil;
+import mams.commons.util.SortedIntSet;
+
+/**
+ * Stores which students are enrolled in which modules, as a two-way adjacency between dense integer IDs.
+ * Matric IDs and module codes are matched ignoring case, and each is given an ID the first time it is seen,
+ * either when it is registered or when it is first enrolled. An ID stays the same until its student or module
+ * is unregistered or the store is cleared, after which it may be handed out again.
+ *
+ * Guarantees: both directions of the relation are updated together, so a student is in the roster of a module
+ * if and only if the module is in the timetable of the student.
+ */
+public class EnrolmentStore {
+
+    public static final int NO_ID = IdRegistry.NO_ID;
+
+    private final IdRegistry studentIds = new IdRegistry();
+    private final List<SortedIntSet> modulesOfStudent = new ArrayList<>();
+
+    private final IdRegistry moduleIds = new IdRegistry();
+    private final List<SortedIntSet> studentsOfModule = new ArrayList<>();
+
+    private int size;
+
+    /**
+     * Removes all enrolments and frees all IDs.
+     */
+    public void clear() {
+        studentIds.clear();
+        modulesOfStudent.clear();
+        moduleIds.clear();
+        studentsOfModule.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the ID of the student with {@code matricId}, assigning one if it does not have one yet.
+     */
+    public int registerStudent(String matricId) {
+        int studentId = studentIds.getOrAssign(matricId);
+        if (studentId == modulesOfStudent.size()) {
+            modulesOfStudent.add(new SortedIntSet());
+        }
+        return studentId;
+    }
+
+    /**
+     * Returns the ID of the module with {@code moduleCode}, assigning one if it does not have one yet.
+     */
+    public int registerModule(String moduleCode) {
+        int moduleId = moduleIds.getOrAssign(moduleCode);
+        if (moduleId == studentsOfModule.size()) {
+            studentsOfModule.add(new SortedIntSet());
+        }
+        return moduleId;
+    }
+
+    /**
+     * Removes all enrolments of the student with {@code matricId}, and frees its ID.
+     */
+    public void unregisterStudent(String matricId) {
+        requireNonNull(matricId);
+        int studentId = studentIds.get(matricId);
+        if (studentId == NO_ID) {
+            return;
+        }
+        SortedIntSet moduleIdsOfStudent = modulesOfStudent.get(studentId);
+        for (int i = 0; i < moduleIdsOfStudent.size(); i++) {
+            studentsOfModule.get(moduleIdsOfStudent.get(i)).remove(studentId);
+        }
+        size -= moduleIdsOfStudent.size();
+        moduleIdsOfStudent.clear();
+        studentIds.release(studentId);
+    }
+
+    /**
+     * Removes all enrolments in the module with {@code moduleCode}, and frees its ID.
+     */
+    public void unregisterModule(String moduleCode) {
+        requireNonNull(moduleCode);
+        int moduleId = moduleIds.get(moduleCode);
+        if (moduleId == NO_ID) {
+            return;
+        }
+        SortedIntSet studentIdsOfModule = studentsOfModule.get(moduleId);
+        for (int i = 0; i < studentIdsOfModule.size(); i++) {
+            modulesOfStudent.get(studentIdsOfModule.get(i)).remove(moduleId);
+        }
+        size -= studentIdsOfModule.size();
+        studentIdsOfModule.clear();
+        moduleIds.release(moduleId);
+    }
+
+    /**
+     * Returns the ID of the student with {@code matricId}, or {@link #NO_ID} if it has none.
+     */
+    public int getStudentId(String matricId) {
+        return studentIds.get(matricId);
+    }
+
+    /**
+     * Returns the ID of the module with {@code moduleCode}, or {@link #NO_ID} if it has none.
+     */
+    public int getModuleId(String moduleCode) {
+        return moduleIds.get(moduleCode);
+    }
+
+    /**
+     * Enrols the student with {@code matricId} in the module with {@code moduleCode}.
+     * Returns true if the student was not already enrolled.
+     */
+    public boolean enrol(String matricId, String moduleCode) {
+        CollectionUtil.requireAllNonNull(matricId, moduleCode);
+        int studentId = registerStudent(matricId);
+        int moduleId = registerModule(moduleCode);
+        if (!modulesOfStudent.get(studentId).add(moduleId)) {
+            return false;
+        }
+        studentsOfModule.get(moduleId).add(studentId);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the student with {@code matricId} from the module with {@code moduleCode}.
+     * Returns true if the student was enrolled.
+     */
+    public boolean unenrol(String matricId, String moduleCode) {
+        CollectionUtil.requireAllNonNull(matricId, moduleCode);
+        int studentId = studentIds.get(matricId);
+        int moduleId = moduleIds.get(moduleCode);
+        if (studentId == NO_ID || moduleId == NO_ID || !modulesOfStudent.get(studentId).remove(moduleId)) {
+            return false;
+        }
+        studentsOfModule.get(moduleId).remove(studentId);
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns true if the student with {@code matricId} is enrolled in the module with {@code moduleCode}.
+     */
+    public boolean isEnrolled(String matricId, String moduleCode) {
+        CollectionUtil.requireAllNonNull(matricId, moduleCode);
+        return isEnrolled(studentIds.get(matricId), moduleIds.get(moduleCode));
+    }
+
+    /**
+     * Returns true if the student with ID {@code studentId} is enrolled in the module with ID {@code moduleId}.
+     */
+    public boolean isEnrolled(int studentId, int moduleId) {
+        return studentId >= 0 && studentId < modulesOfStudent.size()
+                && moduleId >= 0 && modulesOfStudent.get(studentId).contains(moduleId);
+    }
+
+    /**
+     * Returns the codes of the modules the student with {@code matricId} is enrolled in.
+     */
+    public Set<String> getModuleCodesOf(String matricId) {
+        requireNonNull(matricId);
+        int studentId = studentIds.get(matricId);
+        return studentId == NO_ID ? Collections.emptySet() : toKeys(modulesOfStudent.get(studentId), moduleIds);
+    }
+
+    /**
+     * Returns the matric IDs of the students enrolled in the module with {@code moduleCode}.
+     */
+    public Set<String> getMatricIdsOf(String moduleCode) {
+        requireNonNull(moduleCode);
+        int moduleId = moduleIds.get(moduleCode);
+        return moduleId == NO_ID ? Collections.emptySet() : toKeys(studentsOfModule.get(moduleId), studentIds);
+    }
+
+    /**
+     * Returns the number of students enrolled in the module with {@code moduleCode}.
+     */
+    public int getEnrolmentCount(String moduleCode) {
+        requireNonNull(moduleCode);
+        int moduleId = moduleIds.get(moduleCode);
+        return moduleId == NO_ID ? 0 : studentsOfModule.get(moduleId).size();
+    }
+
+    /**
+     * Returns the number of modules the student with {@code matricId} is enrolled in.
+     */
+    public int getModuleCount(String matricId) {
+        requireNonNull(matricId);
+        int studentId = studentIds.get(matricId);
+        return studentId == NO_ID ? 0 : modulesOfStudent.get(studentId).size();
+    }
+
+    /**
+     * Returns the total number of enrolments.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static Set<String> toKeys(SortedIntSet ids, IdRegistry registry) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            result.add(registry.keyOf(ids.get(i)));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+}
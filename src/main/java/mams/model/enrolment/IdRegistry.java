@@ -0,0 +1,171 @@
+package mams.model.enrolment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import mams.commons.util.SortedIntSet;
+
+/**
+ * Hands out dense {@code int} IDs (0, 1, 2, ...) for string keys, matched ignoring case.
+ * An ID stays with its key until the key is released, after which the smallest free ID is handed out next,
+ * so IDs can index into arrays kept by the owner without those arrays growing past the number of live keys.
+ *
+ * Keys are looked up in an open-addressed table of primitive IDs, so no ID is ever boxed.
+ */
+class IdRegistry {
+
+    static final int NO_ID = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // IDs by hash of their normalised key, probed linearly; NO_ID marks an empty slot. At most half full.
+    private int[] slots;
+    // keys as first seen, and normalised, by ID; null for a free ID
+    private String[] keys;
+    private String[] normalisedKeys;
+    private final SortedIntSet freeIds = new SortedIntSet();
+    private int size;
+    private int liveCount;
+
+    IdRegistry() {
+        clear();
+    }
+
+    /**
+     * Releases every ID, so that IDs are handed out from 0 again.
+     */
+    void clear() {
+        slots = new int[INITIAL_CAPACITY];
+        Arrays.fill(slots, NO_ID);
+        keys = new String[INITIAL_CAPACITY];
+        normalisedKeys = new String[INITIAL_CAPACITY];
+        freeIds.clear();
+        size = 0;
+        liveCount = 0;
+    }
+
+    /**
+     * Returns the ID of {@code key}, assigning the smallest free ID if the key does not have one.
+     */
+    int getOrAssign(String key) {
+        requireNonNull(key);
+        String normalised = normalise(key);
+        int slot = findSlot(normalised);
+        if (slots[slot] != NO_ID) {
+            return slots[slot];
+        }
+
+        int id;
+        if (freeIds.size() > 0) {
+            id = freeIds.get(0);
+            freeIds.remove(id);
+        } else {
+            id = size++;
+            if (id == keys.length) {
+                keys = Arrays.copyOf(keys, id * 2);
+                normalisedKeys = Arrays.copyOf(normalisedKeys, id * 2);
+            }
+        }
+        keys[id] = key;
+        normalisedKeys[id] = normalised;
+        slots[slot] = id;
+        if (++liveCount * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the ID of {@code key}, or {@link #NO_ID} if it has not been assigned one.
+     */
+    int get(String key) {
+        requireNonNull(key);
+        return slots[findSlot(normalise(key))];
+    }
+
+    /**
+     * Frees {@code id}, so that its key no longer has an ID and the ID can be handed out again.
+     */
+    void release(int id) {
+        String normalised = normalisedKeys[id];
+        if (normalised == null) {
+            return;
+        }
+        removeSlot(findSlot(normalised));
+        keys[id] = null;
+        normalisedKeys[id] = null;
+        freeIds.add(id);
+        liveCount--;
+    }
+
+    /**
+     * Returns the key as it was first seen for {@code id}.
+     */
+    String keyOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No such ID: " + id);
+        }
+        return keys[id];
+    }
+
+    /**
+     * Returns one more than the largest ID handed out since the registry was last cleared.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot holding the ID of {@code normalised}, or the empty slot where it would go.
+     */
+    private int findSlot(String normalised) {
+        int mask = slots.length - 1;
+        int slot = homeSlot(normalised, mask);
+        while (slots[slot] != NO_ID && !normalisedKeys[slots[slot]].equals(normalised)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties {@code slot}, moving later IDs of the same probe run back so that every ID can still be found.
+     */
+    private void removeSlot(int slot) {
+        int mask = slots.length - 1;
+        int empty = slot;
+        slots[empty] = NO_ID;
+        for (int next = (empty + 1) & mask; slots[next] != NO_ID; next = (next + 1) & mask) {
+            int home = homeSlot(normalisedKeys[slots[next]], mask);
+            // the ID at next may move back only if its home slot is not cyclically in (empty, next]
+            boolean isHomeBetween = empty <= next
+                    ? empty < home && home <= next
+                    : empty < home || home <= next;
+            if (!isHomeBetween) {
+                slots[empty] = slots[next];
+                slots[next] = NO_ID;
+                empty = next;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        Arrays.fill(slots, NO_ID);
+        for (int id = 0; id < size; id++) {
+            if (normalisedKeys[id] != null) {
+                slots[findSlot(normalisedKeys[id])] = id;
+            }
+        }
+    }
+
+    private static int homeSlot(String normalised, int mask) {
+        int hash = normalised.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static String normalise(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,12 +1,13 @@
 package mams.model.module;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Objects;
 import java.util.Set;
 
+import mams.commons.util.AppUtil;
 import mams.commons.util.CollectionUtil;
+import mams.commons.util.ValidationUtil;
 import mams.model.tag.Tag;
 
 /**
@@ -63,6 +64,10 @@ public class Module {
      */
     public static final String VALIDATION_REGEX_LECTURER_NAME = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    /*
+     * All modules workload is 4 MC for now.
+     */
+    public static final int MODULE_WORKLOAD = 4;
 
     // Identity fields
     private final String moduleCode;
@@ -71,66 +76,130 @@ public class Module {
     // Data fields
     private final String moduleDescription;
     private final String lecturerName;
-    private final String timeSlot;
-    private final String quota;
-    private final Set<Tag> students = new HashSet<>(); // to be added
+    private final TimeSlotSet timeSlots;
+    private final int quota;
+    private final Roster students;
 
     /**
      * Every field must be present and not null.
+     * {@code timeSlot} and {@code quota} are validated and parsed here, once, into their typed forms.
+     *
+     * @throws IllegalArgumentException if {@code timeSlot} or {@code quota} is not valid.
      */
     public Module(String moduleCode, String moduleName, String moduleDescription,
                   String lecturerName, String timeSlot, String quota,
                   Set<Tag> students) {
-        CollectionUtil.requireAllNonNull(moduleCode, moduleName, timeSlot, students);
+        this(moduleCode, moduleName, moduleDescription, lecturerName, parseTimeSlots(timeSlot),
+                parseQuota(quota), students);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Module(String moduleCode, String moduleName, String moduleDescription,
+                  String lecturerName, TimeSlotSet timeSlots, int quota,
+                  Set<Tag> students) {
+        this(moduleCode, moduleName, moduleDescription, lecturerName, timeSlots, quota,
+                Roster.of(requireNonNull(students)));
+    }
+
+    private Module(String moduleCode, String moduleName, String moduleDescription,
+                   String lecturerName, TimeSlotSet timeSlots, int quota,
+                   Roster students) {
+        CollectionUtil.requireAllNonNull(moduleCode, moduleName, timeSlots, students);
         this.moduleCode = moduleCode;
         this.moduleName = moduleName;
         this.moduleDescription = moduleDescription;
         this.lecturerName = lecturerName;
-        this.timeSlot = timeSlot;
+        this.timeSlots = timeSlots;
         this.quota = quota;
-        this.students.addAll(students);
+        this.students = students;
+    }
+
+    /**
+     * Returns a copy of this module with the student {@code matricId} added to its roster.
+     * The roster is shared with this module except for the part that changes.
+     */
+    public Module withStudent(String matricId) {
+        return withRoster(students.with(matricId));
+    }
+
+    /**
+     * Returns a copy of this module with the student {@code matricId}, matched ignoring case, removed from its roster.
+     * The roster is shared with this module except for the part that changes.
+     */
+    public Module withoutStudent(String matricId) {
+        return withRoster(students.without(matricId));
+    }
+
+    private static TimeSlotSet parseTimeSlots(String timeSlot) {
+        requireNonNull(timeSlot);
+        try {
+            return TimeSlotSet.parse(timeSlot);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_TIME_SLOT, e);
+        }
+    }
+
+    private static int parseQuota(String quota) {
+        requireNonNull(quota);
+        AppUtil.checkArgument(isValidQuota(quota), MESSAGE_CONSTRAINTS_QUOTA);
+        return Integer.parseInt(quota);
+    }
+
+    private Module withRoster(Roster roster) {
+        if (roster == students) {
+            return this;
+        }
+        return new Module(moduleCode, moduleName, moduleDescription, lecturerName, timeSlots, quota, roster);
     }
 
     /**
      * Returns true if a given string is a valid module code.
      */
     public static boolean isValidModuleCode(String test) {
-        return test.matches(VALIDATION_REGEX_MODULE_CODE);
+        return ValidationUtil.isPrefixedDigits(test, "CS", 4);
     }
 
     /**
      * Returns true if a given string is a valid module name.
      */
     public static boolean isValidModuleName(String test) {
-        return test.matches(VALIDATION_REGEX_MODULE_NAME);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
     /**
      * Returns true if a given string is a valid module description.
      */
     public static boolean isValidModuleDescription(String test) {
-        return test.matches(VALIDATION_REGEX_MODULE_DESCRIPTION);
+        return ValidationUtil.isLineNotStartingWithWhitespace(test);
     }
 
     /**
      * Returns true if a given string is a valid module description.
      */
     public static boolean isValidLecturerName(String test) {
-        return test.matches(VALIDATION_REGEX_LECTURER_NAME);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
     /**
-     * Returns if a given quota is valid. Quota must be more than zero.
+     * Returns if a given quota is valid. Quota must be a number more than zero.
      */
     public static boolean isValidQuota(String test) {
-        int result = Integer.parseInt(test);
-        if (result > 0) {
-            return true;
-        } else {
+        try {
+            return isValidQuota(Integer.parseInt(test));
+        } catch (NumberFormatException e) {
             return false;
         }
     }
 
+    /**
+     * Returns if a given parsed quota is valid. Quota must be more than zero.
+     */
+    public static boolean isValidQuota(int test) {
+        return test > 0;
+    }
+
     /**
      * Returns true if a given time slot is valid
      * @param test time slots to be tested
@@ -156,6 +225,22 @@ public class Module {
         return true;
     }
 
+    /**
+     * Returns true if the given parsed time slots are valid, i.e. there is at least one slot
+     * and none of them is the 21:00 end-of-day slot.
+     */
+    public static boolean isValidTimeSlots(TimeSlotSet test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int slot = 14; slot < TimeSlotSet.NUMBER_OF_SLOTS; slot += 14) {
+            if (test.contains(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public String getModuleCode() {
         return moduleCode;
     }
@@ -173,40 +258,45 @@ public class Module {
     }
 
     public String getTimeSlot() {
-        return timeSlot;
+        return timeSlots.toString();
     }
 
     public String getQuota() {
-        return quota;
+        return Integer.toString(quota);
     }
 
-    /*
-     * All modules workload is 4 MC for now.
-     */
     public String getModuleWorkload() {
-        return "4";
+        return Integer.toString(MODULE_WORKLOAD);
+    }
+
+    public int getWorkload() {
+        return MODULE_WORKLOAD;
     }
 
     public int getQuotaInt() {
-        return Integer.parseInt(quota);
+        return quota;
     }
 
     public int getCurrentEnrolment() {
         return students.size();
     }
 
-    public int[] getTimeSlotToIntArray() {
-        String []arr = timeSlot.split(",");
-        int[] slots = new int[arr.length];
+    /**
+     * Returns the time slots of this module, parsed once when the module was created.
+     */
+    public TimeSlotSet getTimeSlots() {
+        return timeSlots;
+    }
 
-        int x = 0;
-        for (String str : arr) {
-            slots[x] = Integer.parseInt(str);
-            x++;
-        }
+    /**
+     * Returns true if this module shares at least one time slot with {@code otherModule}.
+     */
+    public boolean clashesWith(Module otherModule) {
+        return timeSlots.overlaps(otherModule.timeSlots);
+    }
 
-        Arrays.sort(slots);
-        return slots;
+    public int[] getTimeSlotToIntArray() {
+        return timeSlots.toArray();
     }
 
     /**
@@ -214,7 +304,14 @@ public class Module {
      * if modification is attempted.
      */
     public Set<Tag> getStudents() {
-        return Collections.unmodifiableSet(students);
+        return students.asTags();
+    }
+
+    /**
+     * Returns true if the student {@code matricId}, matched ignoring case, is on the roster of this module.
+     */
+    public boolean hasStudent(String matricId) {
+        return students.contains(matricId);
     }
 
     /**
@@ -0,0 +1,274 @@
+package mams.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import mams.model.tag.Tag;
+
+/**
+ * An immutable set of the matric IDs enrolled in a module.
+ *
+ * Matric IDs are matched ignoring case, and each is kept as the tag it was first added as. The roster keeps the tags
+ * sorted in chunks of at most {@value #CHUNK_CAPACITY}. Adding or removing a student copies only the chunk it falls
+ * in and the array of chunk references; every other chunk is shared with the previous roster. A roster of 1,000
+ * students takes about 4 KB, besides the tags, which are shared with every other roster of the same students.
+ */
+public final class Roster {
+
+    static final int CHUNK_CAPACITY = 64;
+
+    public static final Roster EMPTY = new Roster(new Tag[0][], 0);
+
+    private static final Comparator<String> ORDER = String.CASE_INSENSITIVE_ORDER;
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(Tag::getTagName, ORDER);
+
+    private final Tag[][] chunks;
+    private final int size;
+    private final Set<Tag> tagView = new TagView();
+
+    private Roster(Tag[][] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Returns a roster of the students named by {@code students}.
+     */
+    public static Roster of(Collection<Tag> students) {
+        requireNonNull(students);
+        Tag[] sorted = students.toArray(new Tag[0]);
+        // stable, so the first spelling of a matric ID is the one kept
+        Arrays.sort(sorted, TAG_ORDER);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (distinct == 0 || TAG_ORDER.compare(sorted[distinct - 1], sorted[i]) != 0) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+
+        Tag[][] chunks = new Tag[(distinct + CHUNK_CAPACITY - 1) / CHUNK_CAPACITY][];
+        for (int c = 0; c < chunks.length; c++) {
+            int from = c * CHUNK_CAPACITY;
+            chunks[c] = Arrays.copyOfRange(sorted, from, Math.min(from + CHUNK_CAPACITY, distinct));
+        }
+        return new Roster(chunks, distinct);
+    }
+
+    /**
+     * Returns a roster that also contains {@code matricId}, sharing all chunks but one with this roster.
+     */
+    public Roster with(String matricId) {
+        requireNonNull(matricId);
+        if (chunks.length == 0) {
+            return new Roster(new Tag[][] {{Tag.of(matricId)}}, 1);
+        }
+
+        int c = chunkFor(matricId);
+        Tag[] chunk = chunks[c];
+        int position = search(chunk, matricId);
+        if (position >= 0) {
+            return this;
+        }
+        int insertionPoint = -position - 1;
+        Tag[] grown = new Tag[chunk.length + 1];
+        System.arraycopy(chunk, 0, grown, 0, insertionPoint);
+        grown[insertionPoint] = Tag.of(matricId);
+        System.arraycopy(chunk, insertionPoint, grown, insertionPoint + 1, chunk.length - insertionPoint);
+
+        if (grown.length <= CHUNK_CAPACITY) {
+            Tag[][] newChunks = chunks.clone();
+            newChunks[c] = grown;
+            return new Roster(newChunks, size + 1);
+        }
+
+        // split the full chunk in two
+        int half = grown.length / 2;
+        Tag[][] newChunks = new Tag[chunks.length + 1][];
+        System.arraycopy(chunks, 0, newChunks, 0, c);
+        newChunks[c] = Arrays.copyOfRange(grown, 0, half);
+        newChunks[c + 1] = Arrays.copyOfRange(grown, half, grown.length);
+        System.arraycopy(chunks, c + 1, newChunks, c + 2, chunks.length - c - 1);
+        return new Roster(newChunks, size + 1);
+    }
+
+    /**
+     * Returns a roster without {@code matricId}, sharing all chunks but one with this roster.
+     */
+    public Roster without(String matricId) {
+        requireNonNull(matricId);
+        if (chunks.length == 0) {
+            return this;
+        }
+
+        int c = chunkFor(matricId);
+        Tag[] chunk = chunks[c];
+        int position = search(chunk, matricId);
+        if (position < 0) {
+            return this;
+        }
+
+        if (chunk.length == 1) {
+            Tag[][] newChunks = new Tag[chunks.length - 1][];
+            System.arraycopy(chunks, 0, newChunks, 0, c);
+            System.arraycopy(chunks, c + 1, newChunks, c, chunks.length - c - 1);
+            return new Roster(newChunks, size - 1);
+        }
+
+        Tag[] shrunk = new Tag[chunk.length - 1];
+        System.arraycopy(chunk, 0, shrunk, 0, position);
+        System.arraycopy(chunk, position + 1, shrunk, position, chunk.length - position - 1);
+        Tag[][] newChunks = chunks.clone();
+        newChunks[c] = shrunk;
+        return new Roster(newChunks, size - 1);
+    }
+
+    /**
+     * Returns true if {@code matricId} is in this roster, ignoring case.
+     */
+    public boolean contains(String matricId) {
+        return find(matricId) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an unmodifiable view of this roster as student tags.
+     */
+    public Set<Tag> asTags() {
+        return tagView;
+    }
+
+    /**
+     * Returns the tag of {@code matricId} in this roster, or null if it is not in this roster.
+     */
+    private Tag find(String matricId) {
+        requireNonNull(matricId);
+        if (chunks.length == 0) {
+            return null;
+        }
+        Tag[] chunk = chunks[chunkFor(matricId)];
+        int position = search(chunk, matricId);
+        return position < 0 ? null : chunk[position];
+    }
+
+    /**
+     * Searches {@code chunk} for {@code matricId}, with the same result as {@code Arrays#binarySearch}.
+     */
+    private static int search(Tag[] chunk, String matricId) {
+        int low = 0;
+        int high = chunk.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = ORDER.compare(chunk[mid].getTagName(), matricId);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the first chunk whose last matric ID is at least {@code matricId}, or the last chunk
+     * if there is none.
+     */
+    private int chunkFor(String matricId) {
+        int low = 0;
+        int high = chunks.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Tag[] chunk = chunks[mid];
+            if (ORDER.compare(chunk[chunk.length - 1].getTagName(), matricId) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Roster)) {
+            return false;
+        }
+
+        return tagView.equals(((Roster) other).tagView);
+    }
+
+    @Override
+    public int hashCode() {
+        return tagView.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return tagView.toString();
+    }
+
+    /**
+     * The students of this roster as tags, in matric ID order. Tags are matched exactly, as other tag sets do.
+     */
+    private class TagView extends AbstractSet<Tag> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Tag)) {
+                return false;
+            }
+            return o.equals(find(((Tag) o).getTagName()));
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return new Iterator<>() {
+                private int chunk = 0;
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return chunk < chunks.length;
+                }
+
+                @Override
+                public Tag next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Tag student = chunks[chunk][index++];
+                    if (index == chunks[chunk].length) {
+                        chunk++;
+                        index = 0;
+                    }
+                    return student;
+                }
+            };
+        }
+    }
+}
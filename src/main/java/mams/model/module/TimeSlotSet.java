@@ -0,0 +1,170 @@
+package mams.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+/**
+ * An immutable set of weekly time slots, stored as a 70-bit mask split over two {@code long} words.
+ * Slot {@code n} (0 to 69) is held in bit {@code n % 64} of word {@code n / 64}.
+ *
+ * Set operations are constant time; the slots are only expanded into an array when a report needs them.
+ */
+public final class TimeSlotSet {
+
+    public static final int NUMBER_OF_SLOTS = 70;
+
+    public static final TimeSlotSet EMPTY = new TimeSlotSet(0L, 0L);
+
+    private static final int BITS_PER_WORD = 64;
+    private static final long HIGH_WORD_MASK = (1L << (NUMBER_OF_SLOTS - BITS_PER_WORD)) - 1;
+
+    private final long low;
+    private final long high;
+
+    private TimeSlotSet(long low, long high) {
+        this.low = low;
+        this.high = high & HIGH_WORD_MASK;
+    }
+
+    /**
+     * Parses a comma separated list of time slots, e.g. {@code "1,2,45"}. Blank entries are ignored.
+     * @throws IllegalArgumentException if an entry is not a number from 0 to 69.
+     */
+    public static TimeSlotSet parse(String timeSlots) {
+        requireNonNull(timeSlots);
+        long low = 0L;
+        long high = 0L;
+        for (String entry : timeSlots.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int slot = Integer.parseInt(trimmed);
+            checkSlot(slot);
+            if (slot < BITS_PER_WORD) {
+                low |= 1L << slot;
+            } else {
+                high |= 1L << (slot - BITS_PER_WORD);
+            }
+        }
+        return new TimeSlotSet(low, high);
+    }
+
+    /**
+     * Returns the set containing exactly {@code slots}.
+     * @throws IllegalArgumentException if a slot is not from 0 to 69.
+     */
+    public static TimeSlotSet of(Collection<Integer> slots) {
+        requireNonNull(slots);
+        long low = 0L;
+        long high = 0L;
+        for (int slot : slots) {
+            checkSlot(slot);
+            if (slot < BITS_PER_WORD) {
+                low |= 1L << slot;
+            } else {
+                high |= 1L << (slot - BITS_PER_WORD);
+            }
+        }
+        return new TimeSlotSet(low, high);
+    }
+
+    private static void checkSlot(int slot) {
+        if (slot < 0 || slot >= NUMBER_OF_SLOTS) {
+            throw new IllegalArgumentException("Time slot out of range: " + slot);
+        }
+    }
+
+    /**
+     * Returns true if this set and {@code other} share at least one slot.
+     */
+    public boolean overlaps(TimeSlotSet other) {
+        return (low & other.low) != 0 || (high & other.high) != 0;
+    }
+
+    /**
+     * Returns the slots common to this set and {@code other}.
+     */
+    public TimeSlotSet intersect(TimeSlotSet other) {
+        return new TimeSlotSet(low & other.low, high & other.high);
+    }
+
+    /**
+     * Returns the slots in either this set or {@code other}.
+     */
+    public TimeSlotSet union(TimeSlotSet other) {
+        return new TimeSlotSet(low | other.low, high | other.high);
+    }
+
+    /**
+     * Returns the slots in this set that are not in {@code other}.
+     */
+    public TimeSlotSet minus(TimeSlotSet other) {
+        return new TimeSlotSet(low & ~other.low, high & ~other.high);
+    }
+
+    public boolean contains(int slot) {
+        if (slot < 0 || slot >= NUMBER_OF_SLOTS) {
+            return false;
+        }
+        return slot < BITS_PER_WORD
+                ? (low & (1L << slot)) != 0
+                : (high & (1L << (slot - BITS_PER_WORD))) != 0;
+    }
+
+    public int size() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    public boolean isEmpty() {
+        return low == 0 && high == 0;
+    }
+
+    /**
+     * Returns the slots in this set in ascending order.
+     */
+    public int[] toArray() {
+        int[] slots = new int[size()];
+        int x = 0;
+        for (long word = low; word != 0; word &= word - 1) {
+            slots[x++] = Long.numberOfTrailingZeros(word);
+        }
+        for (long word = high; word != 0; word &= word - 1) {
+            slots[x++] = BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+        }
+        return slots;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TimeSlotSet)) {
+            return false;
+        }
+
+        TimeSlotSet otherSet = (TimeSlotSet) other;
+        return low == otherSet.low && high == otherSet.high;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(low) * 31 + Long.hashCode(high);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int slot : toArray()) {
+            if (builder.length() != 0) {
+                builder.append(",");
+            }
+            builder.append(slot);
+        }
+        return builder.toString();
+    }
+}
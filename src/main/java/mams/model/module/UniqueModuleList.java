@@ -2,12 +2,19 @@ package mams.model.module;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import mams.commons.util.CollectionUtil;
+import mams.commons.util.KeyIndex;
+import mams.commons.util.PersistentList;
 import mams.model.module.exceptions.DuplicateModuleException;
 import mams.model.module.exceptions.ModuleNotFoundException;
 
@@ -28,6 +35,8 @@ public class UniqueModuleList implements Iterable<Module> {
     private final ObservableList<Module> internalList = FXCollections.observableArrayList();
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentList<Module> version = PersistentList.empty();
+    private final KeyIndex<Module> moduleCodeIndex = new KeyIndex<>(Module::getModuleCode);
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
@@ -47,6 +56,24 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
         internalList.add(toAdd);
+        version = version.withAdded(toAdd);
+        moduleCodeIndex.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list.
+     * None of {@code toAdd} may share an identity with each other or with a module already in the list.
+     * The whole batch is checked in a single pass, and nothing is added if any duplicates are found.
+     */
+    public void addAll(List<Module> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        List<Module> duplicates = findDuplicates(internalList, toAdd);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateModuleException(duplicates);
+        }
+        internalList.addAll(toAdd);
+        version = version.withAddedAll(toAdd);
+        toAdd.forEach(moduleCodeIndex::add);
     }
 
     /**
@@ -67,6 +94,8 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.set(index, editedModule);
+        version = version.withSet(index, editedModule);
+        moduleCodeIndex.replace(target, editedModule);
     }
 
     /**
@@ -75,14 +104,20 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public void remove(Module toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ModuleNotFoundException();
         }
+        internalList.remove(index);
+        version = version.withRemoved(index);
+        moduleCodeIndex.remove(toRemove);
     }
 
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        version = replacement.version;
+        moduleCodeIndex.setAll(internalList);
     }
 
     /**
@@ -91,13 +126,32 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public void setModules(List<Module> modules) {
         CollectionUtil.requireAllNonNull(modules);
-        if (!modulesAreUnique(modules)) {
-            throw new DuplicateModuleException();
+        List<Module> duplicates = findDuplicates(Collections.emptyList(), modules);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateModuleException(duplicates);
         }
 
         internalList.setAll(modules);
+        version = PersistentList.copyOf(modules);
+        moduleCodeIndex.setAll(internalList);
+    }
+
+
+    /**
+     * Returns the module in the list whose module code matches {@code moduleCode}, ignoring case.
+     */
+    public Optional<Module> findByModuleCode(String moduleCode) {
+        requireNonNull(moduleCode);
+        return moduleCodeIndex.getFirst(moduleCode);
     }
 
+    /**
+     * Returns the current contents of the list as an immutable list, in O(1).
+     * Later changes to this list do not affect it.
+     */
+    public PersistentList<Module> snapshot() {
+        return version;
+    }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -124,16 +178,21 @@ public class UniqueModuleList implements Iterable<Module> {
     }
 
     /**
-     * Returns true if {@code modules} contains only unique modules.
+     * Returns the modules in {@code modules} that have the same identity as an earlier module in {@code modules}
+     * or as any module in {@code existing}. Runs in linear time.
+     * Two modules have the same identity exactly when they share the same module code.
      */
-    private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).isSameModule(modules.get(j))) {
-                    return false;
-                }
+    private static List<Module> findDuplicates(Iterable<Module> existing, List<Module> modules) {
+        Set<String> moduleCodes = new HashSet<>();
+        List<Module> duplicates = new ArrayList<>();
+        for (Module module : existing) {
+            moduleCodes.add(module.getModuleCode());
+        }
+        for (Module module : modules) {
+            if (!moduleCodes.add(module.getModuleCode())) {
+                duplicates.add(module);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,11 +1,37 @@
 package mams.model.module.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import mams.model.module.Module;
+
 /**
  * Signals that the operation will result in duplicate Modules (Modules are considered duplicates
  * if they have the same identity).
  */
 public class DuplicateModuleException extends RuntimeException {
+    private final List<Module> duplicates;
+
     public DuplicateModuleException() {
         super("Operation would result in duplicate modules");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateModuleException} that reports every one of {@code duplicates}.
+     */
+    public DuplicateModuleException(List<Module> duplicates) {
+        super("Operation would result in duplicate modules: " + duplicates.stream()
+                .map(Module::getModuleCode)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the offending modules, or an empty list if they were not recorded.
+     */
+    public List<Module> getDuplicates() {
+        return duplicates;
     }
 }
@@ -3,6 +3,7 @@ package mams.model.student;
 import static java.util.Objects.requireNonNull;
 
 import mams.commons.util.AppUtil;
+import mams.commons.util.ValidationUtil;
 
 /**
  * Represents a Student's credits number in MAMS.
@@ -34,7 +35,7 @@ public class Credits {
      * Returns true if a given string is a valid credits number.
      */
     public static boolean isValidCredits(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, 2);
     }
 
     public int getIntVal() {
@@ -3,6 +3,8 @@ package mams.model.student;
 import static java.util.Objects.requireNonNull;
 import static mams.commons.util.AppUtil.checkArgument;
 
+import mams.commons.util.ValidationUtil;
+
 /**
  * Represents a Student's MatricId in MAMS.
  * Guarantees: immutable; is valid as declared in {@link #isValidMatricId(String)} (String)}
@@ -34,7 +36,7 @@ public class MatricId {
      * Returns true if a given string is a valid prevMods.
      */
     public static boolean isValidMatricId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isLineNotStartingWithWhitespace(test);
     }
 
     @Override
@@ -3,6 +3,7 @@ package mams.model.student;
 import static java.util.Objects.requireNonNull;
 
 import mams.commons.util.AppUtil;
+import mams.commons.util.ValidationUtil;
 /**
  * Represents a Student's name in MAMS.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -35,7 +36,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
 
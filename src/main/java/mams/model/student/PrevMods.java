@@ -2,7 +2,12 @@ package mams.model.student;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import mams.commons.util.AppUtil;
+import mams.commons.util.ValidationUtil;
 
 /**
  * Represents a Student's prevMods in MAMS.
@@ -15,6 +20,7 @@ public class PrevMods {
     public static final String VALIDATION_REGEX_SINGLE = "\\p{Alnum}+";
 
     public final String value;
+    private final Set<String> moduleCodes;
 
     /**
      * Constructs an {@code PrevMods}.
@@ -25,13 +31,48 @@ public class PrevMods {
         requireNonNull(prevMods);
         AppUtil.checkArgument(isValidPrevMods(prevMods), MESSAGE_CONSTRAINTS);
         value = prevMods;
+        moduleCodes = Collections.unmodifiableSet(parseModuleCodes(prevMods));
+    }
+
+    /**
+     * Splits {@code prevMods} into the module codes it lists, dropping the separating commas and whitespace.
+     */
+    private static Set<String> parseModuleCodes(String prevMods) {
+        Set<String> codes = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= prevMods.length(); i++) {
+            boolean isSeparator = i == prevMods.length()
+                    || prevMods.charAt(i) == ','
+                    || Character.isWhitespace(prevMods.charAt(i));
+            if (isSeparator && start >= 0) {
+                codes.add(prevMods.substring(start, i));
+                start = -1;
+            } else if (!isSeparator && start < 0) {
+                start = i;
+            }
+        }
+        return codes;
     }
 
     /**
      * Returns if a given string is a valid prevMods.
      */
     public static boolean isValidPrevMods(String test) {
-        return (test.matches(VALIDATION_REGEX) || test.matches(VALIDATION_REGEX_SINGLE));
+        return ValidationUtil.isCommaSeparatedList(test) || ValidationUtil.isAlphanumeric(test);
+    }
+
+    /**
+     * Returns the module codes listed in this {@code PrevMods}.
+     */
+    public Set<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    /**
+     * Returns true if {@code moduleCode} is one of the modules listed in this {@code PrevMods}.
+     */
+    public boolean hasCompleted(String moduleCode) {
+        return moduleCodes.contains(moduleCode);
     }
 
     @Override
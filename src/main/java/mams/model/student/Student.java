@@ -21,7 +21,12 @@ public class Student {
 
     // Data fields
     private final MatricId matricId;
-    private final Set<Tag> tags = new HashSet<>();
+
+    // Tags partitioned by type when the student is created, as the student is immutable
+    private final Set<Tag> moduleTags;
+    private final Set<Tag> appealTags;
+    // every tag, or null until it is first asked for. Building it twice is harmless.
+    private Set<Tag> tags;
 
     /**
      * Every field must be present and not null.
@@ -32,7 +37,63 @@ public class Student {
         this.credits = credits;
         this.prevMods = prevMods;
         this.matricId = matricId;
-        this.tags.addAll(tags);
+
+        Set<Tag> modules = new HashSet<>();
+        Set<Tag> appeals = new HashSet<>();
+        for (Tag tag : tags) {
+            if (tag.isModuleTag()) {
+                modules.add(tag);
+            } else if (tag.isAppealTag()) {
+                appeals.add(tag);
+            }
+        }
+        this.moduleTags = Collections.unmodifiableSet(modules);
+        this.appealTags = Collections.unmodifiableSet(appeals);
+    }
+
+    /**
+     * Creates a copy of {@code source} with {@code moduleTags} as its module tags, sharing its appeal tags.
+     */
+    private Student(Student source, Set<Tag> moduleTags) {
+        this.name = source.name;
+        this.credits = source.credits;
+        this.prevMods = source.prevMods;
+        this.matricId = source.matricId;
+        this.moduleTags = Collections.unmodifiableSet(moduleTags);
+        this.appealTags = source.appealTags;
+    }
+
+    /**
+     * Returns a copy of this student enrolled in the module {@code moduleCode}, or this student if it already is.
+     * Only the module tags are copied; the appeal tags are shared with this student.
+     */
+    public Student withModule(String moduleCode) {
+        Tag tag = Tag.of(moduleCode);
+        if (!tag.isModuleTag()) {
+            Set<Tag> allTags = new HashSet<>(getTags());
+            allTags.add(tag);
+            return new Student(name, credits, prevMods, matricId, allTags);
+        }
+        if (moduleTags.contains(tag)) {
+            return this;
+        }
+        Set<Tag> modules = new HashSet<>(moduleTags);
+        modules.add(tag);
+        return new Student(this, modules);
+    }
+
+    /**
+     * Returns a copy of this student no longer enrolled in the module {@code moduleCode}, matched ignoring case.
+     * Only the module tags are copied; the appeal tags are shared with this student.
+     */
+    public Student withoutModule(String moduleCode) {
+        Set<Tag> modules = new HashSet<>();
+        for (Tag tag : moduleTags) {
+            if (!tag.getTagName().equalsIgnoreCase(moduleCode)) {
+                modules.add(tag);
+            }
+        }
+        return new Student(this, modules);
     }
 
     public Name getName() {
@@ -56,37 +117,36 @@ public class Student {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        Set<Tag> result = tags;
+        if (result == null) {
+            Set<Tag> allTags = new HashSet<>(moduleTags);
+            allTags.addAll(appealTags);
+            result = Collections.unmodifiableSet(allTags);
+            tags = result;
+        }
+        return result;
     }
 
+    /**
+     * Returns the immutable set of module tags of this student.
+     */
     public Set<Tag> getCurrentModules() {
-        Set<Tag> ret = new HashSet<>();
-        for (Tag tag : tags) {
-            if (tag.type.equals("module")) {
-                ret.add(tag);
-            }
-        }
-        return Collections.unmodifiableSet(ret);
+        return moduleTags;
     }
 
     public int getNumberOfMods() {
-        int count = 0;
-        for (Tag tag : tags) {
-            if (tag.type.equals("module")) {
-                count++;
-            }
-        }
-        return count;
+        return moduleTags.size();
     }
 
+    /**
+     * Returns the immutable set of appeal tags of this student.
+     */
     public Set<Tag> getCurrentAppeals() {
-        Set<Tag> ret = new HashSet<>();
-        for (Tag tag : tags) {
-            if (tag.type.equals("appeal")) {
-                ret.add(tag);
-            }
-        }
-        return Collections.unmodifiableSet(ret);
+        return appealTags;
+    }
+
+    public int getNumberOfAppeals() {
+        return appealTags.size();
     }
 
     /**
@@ -123,8 +183,8 @@ public class Student {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, credits, prevMods, matricId, tags);
+        // only the fields compared by equals, so that hashing a student does not walk its tags
+        return Objects.hash(name, matricId);
     }
 
     @Override
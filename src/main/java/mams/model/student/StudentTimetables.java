@@ -0,0 +1,158 @@
+package mams.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import mams.commons.util.CollectionUtil;
+import mams.model.module.Module;
+import mams.model.module.TimeSlotSet;
+import mams.model.tag.Tag;
+
+/**
+ * Keeps the timetable occupancy and total workload of every student, updated incrementally as modules
+ * are added to or removed from students. Checking whether a module fits into a student's timetable is
+ * then a single AND, no matter how many modules the student holds.
+ *
+ * Module tags are resolved through the lookup given at construction. Tags that do not resolve to a module
+ * are not counted. The owner must call {@link #rebuild} whenever the set of modules or their time slots change,
+ * and {@link #add}, {@link #remove} and {@link #replace} whenever its student list changes.
+ */
+public class StudentTimetables {
+
+    private final Function<String, Optional<Module>> moduleLookup;
+    private final Map<Student, Occupancy> occupancies = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty {@code StudentTimetables} that resolves module codes with {@code moduleLookup}.
+     */
+    public StudentTimetables(Function<String, Optional<Module>> moduleLookup) {
+        requireNonNull(moduleLookup);
+        this.moduleLookup = moduleLookup;
+    }
+
+    /**
+     * Discards all occupancies and recomputes them for {@code students}.
+     */
+    public void rebuild(Collection<Student> students) {
+        requireNonNull(students);
+        occupancies.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Starts tracking {@code student}.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        occupancies.put(student, computeOccupancy(student));
+    }
+
+    /**
+     * Stops tracking {@code student}.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        occupancies.remove(student);
+    }
+
+    /**
+     * Moves the occupancy of {@code target} to {@code editedStudent}, applying only the modules that
+     * were added or removed between the two.
+     */
+    public void replace(Student target, Student editedStudent) {
+        CollectionUtil.requireAllNonNull(target, editedStudent);
+        Occupancy occupancy = occupancies.remove(target);
+        if (occupancy == null) {
+            add(editedStudent);
+            return;
+        }
+
+        Set<Tag> before = target.getCurrentModules();
+        Set<Tag> after = editedStudent.getCurrentModules();
+        for (Tag tag : before) {
+            if (!after.contains(tag)) {
+                moduleLookup.apply(tag.getTagName()).ifPresent(occupancy::remove);
+            }
+        }
+        for (Tag tag : after) {
+            if (!before.contains(tag)) {
+                moduleLookup.apply(tag.getTagName()).ifPresent(occupancy::add);
+            }
+        }
+        occupancies.put(editedStudent, occupancy);
+    }
+
+    /**
+     * Returns the time slots taken up by the modules of {@code student}.
+     */
+    public TimeSlotSet getOccupiedSlots(Student student) {
+        return getOccupancy(student).occupied;
+    }
+
+    /**
+     * Returns the total workload of the modules of {@code student}.
+     */
+    public int getWorkload(Student student) {
+        return getOccupancy(student).workload;
+    }
+
+    /**
+     * Returns true if {@code module} shares a time slot with any module of {@code student}.
+     */
+    public boolean hasClash(Student student, Module module) {
+        requireNonNull(module);
+        return getOccupiedSlots(student).overlaps(module.getTimeSlots());
+    }
+
+    private Occupancy getOccupancy(Student student) {
+        requireNonNull(student);
+        Occupancy occupancy = occupancies.get(student);
+        // students that are not in MAMS are computed on demand
+        return occupancy == null ? computeOccupancy(student) : occupancy;
+    }
+
+    private Occupancy computeOccupancy(Student student) {
+        Occupancy occupancy = new Occupancy();
+        for (Tag tag : student.getCurrentModules()) {
+            moduleLookup.apply(tag.getTagName()).ifPresent(occupancy::add);
+        }
+        return occupancy;
+    }
+
+    /**
+     * The timetable of a single student. Each slot keeps a count of the modules using it, so that
+     * removing one of two clashing modules leaves the shared slot occupied.
+     */
+    private static class Occupancy {
+        private final byte[] slotCounts = new byte[TimeSlotSet.NUMBER_OF_SLOTS];
+        private TimeSlotSet occupied = TimeSlotSet.EMPTY;
+        private int workload;
+
+        void add(Module module) {
+            for (int slot : module.getTimeSlots().toArray()) {
+                slotCounts[slot]++;
+            }
+            occupied = occupied.union(module.getTimeSlots());
+            workload += module.getWorkload();
+        }
+
+        void remove(Module module) {
+            List<Integer> freedSlots = new ArrayList<>();
+            for (int slot : module.getTimeSlots().toArray()) {
+                if (--slotCounts[slot] == 0) {
+                    freedSlots.add(slot);
+                }
+            }
+            occupied = occupied.minus(TimeSlotSet.of(freedSlots));
+            workload -= module.getWorkload();
+        }
+    }
+}
@@ -2,12 +2,20 @@ package mams.model.student;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import mams.commons.util.CollectionUtil;
+import mams.commons.util.KeyIndex;
+import mams.commons.util.PersistentList;
 import mams.model.student.exceptions.DuplicateStudentException;
 import mams.model.student.exceptions.StudentNotFoundException;
 
@@ -29,6 +37,8 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentList<Student> version = PersistentList.empty();
+    private final KeyIndex<Student> matricIndex = new KeyIndex<>(p -> p.getMatricId().toString());
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
@@ -48,6 +58,24 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(toAdd);
+        version = version.withAdded(toAdd);
+        matricIndex.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list.
+     * None of {@code toAdd} may share an identity with each other or with a student already in the list.
+     * The whole batch is checked in a single pass, and nothing is added if any duplicates are found.
+     */
+    public void addAll(List<Student> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        List<Student> duplicates = findDuplicates(internalList, toAdd);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateStudentException(duplicates);
+        }
+        internalList.addAll(toAdd);
+        version = version.withAddedAll(toAdd);
+        toAdd.forEach(matricIndex::add);
     }
 
     /**
@@ -68,6 +96,8 @@ public class UniqueStudentList implements Iterable<Student> {
         }
 
         internalList.set(index, editedStudent);
+        version = version.withSet(index, editedStudent);
+        matricIndex.replace(target, editedStudent);
     }
 
     /**
@@ -76,14 +106,20 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        internalList.remove(index);
+        version = version.withRemoved(index);
+        matricIndex.remove(toRemove);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        version = replacement.version;
+        matricIndex.setAll(internalList);
     }
 
     /**
@@ -92,11 +128,30 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         CollectionUtil.requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        List<Student> duplicates = findDuplicates(Collections.emptyList(), students);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateStudentException(duplicates);
         }
 
         internalList.setAll(students);
+        version = PersistentList.copyOf(students);
+        matricIndex.setAll(internalList);
+    }
+
+    /**
+     * Returns the student in the list whose matric ID matches {@code matricId}, ignoring case.
+     */
+    public Optional<Student> findByMatricId(String matricId) {
+        requireNonNull(matricId);
+        return matricIndex.getFirst(matricId);
+    }
+
+    /**
+     * Returns the current contents of the list as an immutable list, in O(1).
+     * Later changes to this list do not affect it.
+     */
+    public PersistentList<Student> snapshot() {
+        return version;
     }
 
     /**
@@ -124,16 +179,27 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the students in {@code students} that have the same identity as an earlier student in {@code students}
+     * or as any student in {@code existing}. Runs in linear time.
+     * Two students have the same identity exactly when they share both name and credits, or both name and
+     * previous modules, so one hash set is kept for each pair.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private static List<Student> findDuplicates(Iterable<Student> existing, List<Student> students) {
+        Set<List<Object>> namesAndCredits = new HashSet<>();
+        Set<List<Object>> namesAndPrevMods = new HashSet<>();
+        List<Student> duplicates = new ArrayList<>();
+        for (Student student : existing) {
+            namesAndCredits.add(Arrays.asList(student.getName(), student.getCredits()));
+            namesAndPrevMods.add(Arrays.asList(student.getName(), student.getPrevMods()));
+        }
+        for (Student student : students) {
+            boolean isNewNameAndCredits = namesAndCredits.add(Arrays.asList(student.getName(), student.getCredits()));
+            boolean isNewNameAndPrevMods = namesAndPrevMods.add(
+                    Arrays.asList(student.getName(), student.getPrevMods()));
+            if (!isNewNameAndCredits || !isNewNameAndPrevMods) {
+                duplicates.add(student);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,11 +1,37 @@
 package mams.model.student.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import mams.model.student.Student;
+
 /**
  * Signals that the operation will result in duplicate Students (Students are considered duplicates
  * if they have the same identity).
  */
 public class DuplicateStudentException extends RuntimeException {
+    private final List<Student> duplicates;
+
     public DuplicateStudentException() {
         super("Operation would result in duplicate students");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateStudentException} that reports every one of {@code duplicates}.
+     */
+    public DuplicateStudentException(List<Student> duplicates) {
+        super("Operation would result in duplicate students: " + duplicates.stream()
+                .map(student -> student.getMatricId().toString())
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the offending students, or an empty list if they were not recorded.
+     */
+    public List<Student> getDuplicates() {
+        return duplicates;
     }
 }
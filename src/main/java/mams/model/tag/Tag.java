@@ -2,8 +2,12 @@ package mams.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import mams.commons.util.AppUtil;
-import mams.model.appeal.Appeal;
+import mams.commons.util.ValidationUtil;
 
 /**
  * Represents a Tag in MAMS.
@@ -14,6 +18,17 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    public static final String TYPE_APPEAL = "appeal";
+    public static final String TYPE_MODULE = "module";
+
+    /*
+     * Canonical instances handed out by {@link #of(String)}. Tags are immutable, so one instance per
+     * distinct name can be shared by every student and module that carries it. Each entry is keyed by the
+     * name held by its tag and only refers to the tag weakly, so it is dropped once no student or module
+     * carries the tag any more.
+     */
+    private static final Map<String, WeakReference<Tag>> POOL = new WeakHashMap<>();
+
     public final String tagName;
     public final String type;
 
@@ -25,19 +40,36 @@ public class Tag {
     public Tag(String tagName) {
         requireNonNull(tagName);
         AppUtil.checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        if (Appeal.isValidAppealId(tagName)) {
-            this.type = "appeal";
-        } else {
-            this.type = "module";
-        }
+        this.type = ValidationUtil.isPrefixedDigits(tagName, "C", 6) ? TYPE_APPEAL : TYPE_MODULE;
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given name, creating and validating it if no tag with the name
+     * is in use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        synchronized (POOL) {
+            WeakReference<Tag> reference = POOL.get(tagName);
+            Tag tag = reference == null ? null : reference.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                // removed first, so that the entry is keyed by the name of the new tag rather than a stale one
+                POOL.remove(tagName);
+                POOL.put(tag.tagName, new WeakReference<>(tag));
+            }
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
@@ -59,6 +91,14 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    public boolean isAppealTag() {
+        return TYPE_APPEAL.equals(type);
+    }
+
+    public boolean isModuleTag() {
+        return TYPE_MODULE.equals(type);
+    }
+
     /**
      * Returns the tag name.
      * @return string of tag name.
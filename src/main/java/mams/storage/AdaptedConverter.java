@@ -0,0 +1,66 @@
+package mams.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import mams.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts a Jackson-friendly adapted entry into the model's type, such as {@code JsonAdaptedStudent::toModelType}.
+ */
+@FunctionalInterface
+interface AdaptedConverter<J, M> {
+
+    /**
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    M convert(J adapted) throws IllegalValueException;
+
+    /**
+     * Starts converting all of {@code batch} on {@code pool}. The result is collected with {@link #join}.
+     */
+    default ForkJoinTask<List<M>> convertAllOn(ForkJoinPool pool, List<J> batch) {
+        return pool.submit(() -> {
+            List<M> converted = new ArrayList<>(batch.size());
+            for (J adapted : batch) {
+                converted.add(convert(adapted));
+            }
+            return converted;
+        });
+    }
+
+    /**
+     * Waits for a conversion started with {@link #convertAllOn} and returns its result.
+     *
+     * @throws IOException if the wait was interrupted.
+     * @throws IllegalValueException if any entry of the batch is invalid, including entries whose conversion
+     *     failed with an unchecked exception.
+     */
+    static <M> List<M> join(ForkJoinTask<List<M>> task) throws IOException, IllegalValueException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading MAMS data", e);
+        } catch (ExecutionException e) {
+            // the pool wraps checked exceptions, sometimes more than once
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                // a model constructor rejected a value that the adapted entry did not check
+                throw new IllegalValueException(String.valueOf(e.getCause().getMessage()), e.getCause());
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package mams.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+
+import mams.commons.exceptions.IllegalValueException;
+import mams.commons.util.FileUtil;
+import mams.model.ReadOnlyMams;
+import mams.model.appeal.Appeal;
+import mams.model.module.Module;
+import mams.model.student.Student;
+import mams.model.tag.Tag;
+
+/**
+ * Reads and writes MAMS as a compact binary snapshot.
+ *
+ * The file starts with a magic number and a format version, followed by length-prefixed sections:
+ * a header holding the last delta log sequence number and the file the snapshot is an image of, if any,
+ * a table of every distinct string, and the modules,
+ * students and appeals. Each section is followed by the CRC-32 of its contents. Records refer to strings by
+ * their varint index in the table, so module codes and matric IDs repeated across rosters, tags and appeals
+ * are stored once. Rosters and tags are written as ascending varint deltas of those indices.
+ *
+ * Records are converted back through the json-adapted classes, in parallel, so they are validated exactly as
+ * json data is.
+ */
+final class BinaryMamsFormat {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "Not a MAMS binary snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported MAMS binary snapshot version %d";
+    public static final String MESSAGE_DAMAGED_SECTION = "Section %d of the MAMS binary snapshot is damaged";
+
+    static final int MAGIC = 0x4D414D53; // "MAMS"
+    static final int VERSION = 1;
+
+    private static final int SECTION_HEADER = 0;
+    private static final int SECTION_STRINGS = 1;
+    private static final int SECTION_MODULES = 2;
+    private static final int SECTION_STUDENTS = 3;
+    private static final int SECTION_APPEALS = 4;
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final long NO_SOURCE = -1;
+    private static final int CONVERSION_BATCH_SIZE = 1024;
+
+    private BinaryMamsFormat() {}
+
+    /**
+     * Writes {@code mams}, recorded as including log records up to {@code lastSequence}, to a temporary file
+     * next to {@code filePath}, forces it to disk and moves it over {@code filePath}.
+     */
+    static void write(ReadOnlyMams mams, long lastSequence, Path filePath) throws IOException {
+        write(mams, lastSequence, filePath, NO_SOURCE, NO_SOURCE);
+    }
+
+    /**
+     * Writes {@code mams} like {@link #write(ReadOnlyMams, long, Path)}, as an image of the file {@code source}
+     * that holds the same data. {@link #readImage} ignores the image once {@code source} changes.
+     */
+    static void writeImage(ReadOnlyMams mams, long lastSequence, Path filePath, Path source) throws IOException {
+        write(mams, lastSequence, filePath, Files.size(source), Files.getLastModifiedTime(source).toMillis());
+    }
+
+    private static void write(ReadOnlyMams mams, long lastSequence, Path filePath, long sourceSize,
+            long sourceModified) throws IOException {
+        StringTable strings = new StringTable();
+        Section header = new Section();
+        header.writeVarLong(lastSequence);
+        header.writeVarLong(zigZag(sourceSize));
+        header.writeVarLong(zigZag(sourceModified));
+        Section modules = new Section();
+        modules.writeVarLong(mams.getModuleList().size());
+        for (Module module : mams.getModuleList()) {
+            writeModule(modules, strings, module);
+        }
+        Section students = new Section();
+        students.writeVarLong(mams.getStudentList().size());
+        for (Student student : mams.getStudentList()) {
+            writeStudent(students, strings, student);
+        }
+        Section appeals = new Section();
+        appeals.writeVarLong(mams.getAppealList().size());
+        for (Appeal appeal : mams.getAppealList()) {
+            writeAppeal(appeals, strings, appeal);
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer preamble = ByteBuffer.allocate(2 * Integer.BYTES).putInt(MAGIC).putInt(VERSION);
+                preamble.flip();
+                writeFully(channel, preamble);
+                OutputStream out = Channels.newOutputStream(channel);
+                header.writeTo(out, SECTION_HEADER);
+                strings.toSection().writeTo(out, SECTION_STRINGS);
+                modules.writeTo(out, SECTION_MODULES);
+                students.writeTo(out, SECTION_STUDENTS);
+                appeals.writeTo(out, SECTION_APPEALS);
+                channel.force(true);
+            }
+            FileUtil.moveReplacing(tempFile, filePath);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the snapshot in {@code filePath}, which must exist. The whole file is read into the heap, even when
+     * large: snapshots are replaced on every save, which fails on Windows while the old file is still mapped.
+     *
+     * @throws IOException if the file cannot be read, or is not an intact snapshot of a supported version.
+     * @throws IllegalValueException if any record violates the data constraints.
+     */
+    static StoredMams read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, null).get();
+    }
+
+    /**
+     * Reads the image of {@code source} in {@code filePath}, which must exist, or returns an empty
+     * {@code Optional} if {@code source} has changed since the image was written.
+     *
+     * @see #read(Path)
+     */
+    static Optional<StoredMams> readImage(Path filePath, Path source) throws IOException, IllegalValueException {
+        requireNonNull(source);
+        return read(filePath, source);
+    }
+
+    private static Optional<StoredMams> read(Path filePath, Path source) throws IOException, IllegalValueException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+        }
+
+        try {
+            if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            ByteBuffer header = nextSection(buffer, SECTION_HEADER);
+            long lastSequence = readVarLong(header);
+            long sourceSize = unZigZag(readVarLong(header));
+            long sourceModified = unZigZag(readVarLong(header));
+            if (source != null && (!Files.exists(source) || sourceSize != Files.size(source)
+                    || sourceModified != Files.getLastModifiedTime(source).toMillis())) {
+                return Optional.empty();
+            }
+            String[] strings = readStrings(nextSection(buffer, SECTION_STRINGS));
+
+            ByteBuffer moduleSection = nextSection(buffer, SECTION_MODULES);
+            int moduleCount = readCount(moduleSection);
+            List<JsonAdaptedModule> modules = new ArrayList<>(moduleCount);
+            for (int i = 0; i < moduleCount; i++) {
+                modules.add(readModule(moduleSection, strings));
+            }
+
+            ByteBuffer studentSection = nextSection(buffer, SECTION_STUDENTS);
+            int studentCount = readCount(studentSection);
+            List<JsonAdaptedStudent> students = new ArrayList<>(studentCount);
+            for (int i = 0; i < studentCount; i++) {
+                students.add(readStudent(studentSection, strings));
+            }
+
+            ByteBuffer appealSection = nextSection(buffer, SECTION_APPEALS);
+            int appealCount = readCount(appealSection);
+            List<JsonAdaptedAppeal> appeals = new ArrayList<>(appealCount);
+            for (int i = 0; i < appealCount; i++) {
+                appeals.add(readAppeal(appealSection, strings));
+            }
+            return Optional.of(new StoredMams(convertAll(students, JsonAdaptedStudent::toModelType),
+                    convertAll(modules, JsonAdaptedModule::toModelType),
+                    convertAll(appeals, JsonAdaptedAppeal::toModelType), lastSequence));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT, e);
+        }
+    }
+
+    //// records
+
+    private static void writeModule(Section out, StringTable strings, Module module) {
+        out.writeVarLong(strings.indexOf(module.getModuleCode()));
+        out.writeVarLong(strings.indexOf(module.getModuleName()));
+        out.writeVarLong(strings.indexOf(module.getModuleDescription()));
+        out.writeVarLong(strings.indexOf(module.getLecturerName()));
+        out.writeVarLong(strings.indexOf(module.getTimeSlot()));
+        out.writeVarLong(module.getQuotaInt());
+        writeTags(out, strings, module.getStudents());
+    }
+
+    private static JsonAdaptedModule readModule(ByteBuffer in, String[] strings) {
+        String code = readString(in, strings);
+        String name = readString(in, strings);
+        String description = readString(in, strings);
+        String lecturerName = readString(in, strings);
+        String timeSlot = readString(in, strings);
+        String quota = Long.toString(readVarLong(in));
+        return new JsonAdaptedModule(code, name, description, lecturerName, timeSlot, quota, readTags(in, strings));
+    }
+
+    private static void writeStudent(Section out, StringTable strings, Student student) {
+        out.writeVarLong(strings.indexOf(student.getName().fullName));
+        out.writeVarLong(strings.indexOf(student.getCredits().value));
+        out.writeVarLong(strings.indexOf(student.getPrevMods().value));
+        out.writeVarLong(strings.indexOf(student.getMatricId().value));
+        writeTags(out, strings, student.getTags());
+    }
+
+    private static JsonAdaptedStudent readStudent(ByteBuffer in, String[] strings) {
+        String name = readString(in, strings);
+        String credits = readString(in, strings);
+        String prevMods = readString(in, strings);
+        String matricId = readString(in, strings);
+        return new JsonAdaptedStudent(name, credits, prevMods, matricId, readTags(in, strings));
+    }
+
+    private static void writeAppeal(Section out, StringTable strings, Appeal appeal) {
+        out.writeVarLong(strings.indexOf(appeal.getAppealId()));
+        out.writeVarLong(strings.indexOf(appeal.getAppealType()));
+        out.writeVarLong(strings.indexOf(appeal.getStudentId()));
+        out.writeVarLong(strings.indexOf(appeal.getAcademicYear()));
+        out.writeVarLong(zigZag(appeal.getStudentWorkload()));
+        out.writeVarLong(strings.indexOf(appeal.getAppealDescription()));
+        out.writeVarLong(strings.indexOf(appeal.getPreviousModule()));
+        out.writeVarLong(strings.indexOf(appeal.getNewModule()));
+        out.writeVarLong(strings.indexOf(appeal.getModuleToAdd()));
+        out.writeVarLong(strings.indexOf(appeal.getModuleToDrop()));
+        out.writeVarLong(appeal.isResolved() ? 1 : 0);
+        out.writeVarLong(strings.indexOf(appeal.getResult()));
+        out.writeVarLong(strings.indexOf(appeal.getRemark()));
+    }
+
+    private static JsonAdaptedAppeal readAppeal(ByteBuffer in, String[] strings) {
+        String appealId = readString(in, strings);
+        String appealType = readString(in, strings);
+        String studentId = readString(in, strings);
+        String academicYear = readString(in, strings);
+        int studentWorkload = (int) unZigZag(readVarLong(in));
+        String appealDescription = readString(in, strings);
+        String previousModule = readString(in, strings);
+        String newModule = readString(in, strings);
+        String moduleToAdd = readString(in, strings);
+        String moduleToDrop = readString(in, strings);
+        boolean resolved = readVarLong(in) != 0;
+        String result = readString(in, strings);
+        String remark = readString(in, strings);
+        return new JsonAdaptedAppeal(appealId, appealType, studentId, academicYear, studentWorkload,
+                appealDescription, previousModule, newModule, moduleToAdd, moduleToDrop, resolved, result, remark);
+    }
+
+    /**
+     * Writes the names of {@code tags} as the count followed by their ascending string indices, each stored as
+     * the difference from the previous one.
+     */
+    private static void writeTags(Section out, StringTable strings, Collection<Tag> tags) {
+        int[] indices = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            indices[count++] = strings.indexOf(tag.tagName);
+        }
+        Arrays.sort(indices);
+        out.writeVarLong(count);
+        int previous = 0;
+        for (int index : indices) {
+            out.writeVarLong(index - previous);
+            previous = index;
+        }
+    }
+
+    private static List<JsonAdaptedTag> readTags(ByteBuffer in, String[] strings) {
+        int count = readCount(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>(count);
+        long index = 0;
+        for (int i = 0; i < count; i++) {
+            index += readVarLong(in);
+            tags.add(new JsonAdaptedTag(stringAt(strings, index)));
+        }
+        return tags;
+    }
+
+    /**
+     * Converts {@code adapted} to the model's types in batches on the common fork-join pool, keeping their order.
+     */
+    private static <J, M> List<M> convertAll(List<J> adapted, AdaptedConverter<J, M> converter)
+            throws IOException, IllegalValueException {
+        List<ForkJoinTask<List<M>>> tasks = new ArrayList<>();
+        for (int from = 0; from < adapted.size(); from += CONVERSION_BATCH_SIZE) {
+            int to = Math.min(adapted.size(), from + CONVERSION_BATCH_SIZE);
+            tasks.add(converter.convertAllOn(ForkJoinPool.commonPool(), adapted.subList(from, to)));
+        }
+
+        List<M> converted = new ArrayList<>(adapted.size());
+        try {
+            for (ForkJoinTask<List<M>> task : tasks) {
+                converted.addAll(AdaptedConverter.join(task));
+            }
+        } finally {
+            tasks.forEach(task -> task.cancel(false));
+        }
+        return converted;
+    }
+
+    //// sections and primitives
+
+    /**
+     * Returns the contents of the next section, after checking that it is {@code expectedId} and intact.
+     * {@code buffer} is left at the start of the section after it.
+     */
+    private static ByteBuffer nextSection(ByteBuffer buffer, int expectedId) throws IOException {
+        int id = buffer.getInt();
+        int length = buffer.getInt();
+        if (id != expectedId || length < 0 || length > buffer.remaining() - Integer.BYTES) {
+            throw new IOException(String.format(MESSAGE_DAMAGED_SECTION, expectedId));
+        }
+        ByteBuffer section = buffer.slice();
+        section.limit(length);
+        buffer.position(buffer.position() + length);
+        int expectedCrc = buffer.getInt();
+
+        CRC32 crc = new CRC32();
+        crc.update(section.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException(String.format(MESSAGE_DAMAGED_SECTION, expectedId));
+        }
+        return section;
+    }
+
+    private static String[] readStrings(ByteBuffer in) {
+        String[] strings = new String[readCount(in)];
+        for (int i = 0; i < strings.length; i++) {
+            int length = readCount(in);
+            if (length > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (in.hasArray()) {
+                strings[i] = new String(in.array(), in.arrayOffset() + in.position(), length,
+                        StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                in.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Returns the string the next index refers to. Index 0 stands for {@code null}, and index {@code i + 1} for
+     * the {@code i}-th string of the table.
+     */
+    private static String readString(ByteBuffer in, String[] strings) {
+        return stringAt(strings, readVarLong(in));
+    }
+
+    private static String stringAt(String[] strings, long index) {
+        // an index past the table, which only a damaged file has, throws IndexOutOfBoundsException
+        return index == 0 ? null : strings[(int) Math.min(index - 1, Integer.MAX_VALUE)];
+    }
+
+    private static int readCount(ByteBuffer in) {
+        long count = readVarLong(in);
+        if (count < 0 || count > in.remaining() + 1L) {
+            // every entry takes at least one byte, so a larger count can only come from a damaged file
+            throw new BufferUnderflowException();
+        }
+        return (int) count;
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BufferUnderflowException();
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * The contents of a section, built up in memory so that its length and checksum can precede and follow it.
+     */
+    private static class Section {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeBytes(byte[] data) {
+            ensureCapacity(size + data.length);
+            System.arraycopy(data, 0, bytes, size, data.length);
+            size += data.length;
+        }
+
+        private void writeByte(int b) {
+            ensureCapacity(size + 1);
+            bytes[size++] = (byte) b;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, 2 * bytes.length));
+            }
+        }
+
+        void writeTo(OutputStream out, int id) throws IOException {
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, size);
+            ByteBuffer prefix = ByteBuffer.allocate(2 * Integer.BYTES).putInt(id).putInt(size);
+            out.write(prefix.array());
+            out.write(bytes, 0, size);
+            out.write(ByteBuffer.allocate(Integer.BYTES).putInt((int) crc.getValue()).array());
+        }
+    }
+
+    /**
+     * The distinct strings written so far, numbered in order of first use.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        /**
+         * Returns the index that refers to {@code string}, adding it to the table if it is new.
+         */
+        int indexOf(String string) {
+            if (string == null) {
+                return 0;
+            }
+            Integer index = indices.get(string);
+            if (index == null) {
+                strings.add(string);
+                index = strings.size();
+                indices.put(string, index);
+            }
+            return index;
+        }
+
+        Section toSection() {
+            Section section = new Section();
+            section.writeVarLong(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                section.writeVarLong(bytes.length);
+                section.writeBytes(bytes);
+            }
+            return section;
+        }
+    }
+}
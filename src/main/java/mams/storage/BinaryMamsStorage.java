@@ -0,0 +1,86 @@
+package mams.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import mams.commons.core.LogsCenter;
+import mams.commons.exceptions.DataConversionException;
+import mams.commons.exceptions.IllegalValueException;
+import mams.model.ReadOnlyMams;
+
+/**
+ * A class to access Mams data stored as a binary snapshot on the hard disk.
+ * The snapshot is smaller and much faster to read than json; see {@link BinaryMamsFormat} for the layout.
+ */
+public class BinaryMamsStorage implements MamsStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryMamsStorage.class);
+
+    private Path filePath;
+
+    public BinaryMamsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getMamsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMams> readMams() throws DataConversionException {
+        return readMams(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMams()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not an intact snapshot, or holds invalid data.
+     */
+    @Override
+    public Optional<ReadOnlyMams> readMams(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryMamsFormat.read(filePath).toModelType());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveMams(ReadOnlyMams mams) throws IOException {
+        saveMams(mams, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMams(ReadOnlyMams)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMams(ReadOnlyMams mams, Path filePath) throws IOException {
+        requireNonNull(mams);
+        requireNonNull(filePath);
+
+        BinaryMamsFormat.write(mams, 0, filePath);
+    }
+
+}
@@ -29,6 +29,15 @@ public interface CommandHistoryStorage {
      */
     Optional<ReadOnlyCommandHistory> readCommandHistory(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns CommandHistory data of which at least the last {@code count} commands are read.
+     *   Storages that keep commands in a {@link mams.logic.history.CommandHistoryStore} read older commands
+     *   from it when they are needed; other storages read every command.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<ReadOnlyCommandHistory> readRecentCommandHistory(int count) throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyCommandHistory} to storage.
      * @param commandHistory cannot be null.
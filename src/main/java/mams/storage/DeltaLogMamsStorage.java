@@ -0,0 +1,423 @@
+package mams.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import mams.commons.core.LogsCenter;
+import mams.commons.exceptions.DataConversionException;
+import mams.commons.exceptions.IllegalValueException;
+import mams.commons.util.CollectionUtil;
+import mams.commons.util.FileUtil;
+import mams.commons.util.JsonUtil;
+import mams.model.Mams;
+import mams.model.MamsSnapshot;
+import mams.model.ReadOnlyMams;
+import mams.model.appeal.Appeal;
+import mams.model.module.Module;
+import mams.model.student.Student;
+
+/**
+ * A class to access Mams data stored as a json checkpoint file plus a write-ahead log of the changes made since.
+ *
+ * Each save appends only the students, modules and appeals that changed since the last save to the log, as one
+ * checksummed line, and a save that changes nothing writes nothing. Once {@code checkpointInterval} records
+ * have been logged, the log is sealed and a background thread writes a new checkpoint, then deletes the sealed
+ * log. Reading loads the checkpoint and replays the records it does not include yet, stopping at the first
+ * record that is torn or fails its checksum.
+ *
+ * The checkpoint has the same format as the file written by {@link JsonMamsStorage}, so either storage can read
+ * the other's data file once the log has been compacted. Each checkpoint is also written as a binary image next
+ * to it, which is read instead of the json file unless the json file has been changed since.
+ */
+public class DeltaLogMamsStorage implements MamsStorage {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(DeltaLogMamsStorage.class);
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private final Path filePath;
+    private final Path logPath;
+    private final Path sealedLogPath;
+    private final Path imagePath;
+    private final int checkpointInterval;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mams-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The data as last saved or read, which the next save is compared against. */
+    private MamsSnapshot lastSaved;
+    private long lastSequence;
+    private int recordsInLog;
+    private Future<?> compaction;
+
+    public DeltaLogMamsStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructs a {@code DeltaLogMamsStorage} that checkpoints {@code filePath} after every
+     * {@code checkpointInterval} logged changes.
+     */
+    public DeltaLogMamsStorage(Path filePath, int checkpointInterval) {
+        requireNonNull(filePath);
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.filePath = filePath;
+        this.logPath = siblingOf(filePath, ".log");
+        this.sealedLogPath = siblingOf(filePath, ".log.old");
+        this.imagePath = siblingOf(filePath, BinaryMamsStorage.FILE_EXTENSION);
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public Path getMamsFilePath() {
+        return filePath;
+    }
+
+    public Path getLogFilePath() {
+        return logPath;
+    }
+
+    public Path getImageFilePath() {
+        return imagePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMams> readMams() throws DataConversionException, IOException {
+        return readMams(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMams()}. Files other than the data file of this storage are read as plain json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or the log is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyMams> readMams(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonMamsStorage(filePath).readMams(filePath);
+        }
+
+        awaitCompaction();
+        try {
+            Optional<StoredMams> checkpoint = readCheckpoint();
+            List<LogRecord> sealedRecords = readRecords(sealedLogPath);
+            List<LogRecord> records = readRecords(logPath);
+            if (!checkpoint.isPresent() && sealedRecords.isEmpty() && records.isEmpty()) {
+                return Optional.empty();
+            }
+
+            StoredMams data = checkpoint.orElseGet(() -> StoredMams.of(new Mams(), 0));
+            if (!sealedRecords.isEmpty()
+                    && sealedRecords.get(sealedRecords.size() - 1).sequence <= data.getLastSequence()) {
+                // the checkpoint already includes the sealed log, but the sealed log was not deleted
+                Files.delete(sealedLogPath);
+                sealedRecords = Collections.emptyList();
+            }
+            List<LogRecord> allRecords = new ArrayList<>(sealedRecords);
+            allRecords.addAll(records);
+            data = replay(data, allRecords);
+            Mams mams = data.toModelType();
+            lastSaved = mams.snapshot();
+            lastSequence = data.getLastSequence();
+            recordsInLog = records.size();
+            return Optional.of(mams);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its log: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveMams(ReadOnlyMams mams) throws IOException {
+        saveMams(mams, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMams(ReadOnlyMams)}. Files other than the data file of this storage are written
+     * in full as plain json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveMams(ReadOnlyMams mams, Path filePath) throws IOException {
+        CollectionUtil.requireAllNonNull(mams, filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonMamsStorage(filePath).saveMams(mams);
+            return;
+        }
+
+        MamsSnapshot snapshot = mams instanceof MamsSnapshot ? (MamsSnapshot) mams : new Mams(mams).snapshot();
+        if (lastSaved == null) {
+            // nothing to compare against, e.g. the data file could not be read
+            checkpointNow(snapshot);
+            lastSaved = snapshot;
+            return;
+        }
+        if (snapshot == lastSaved) {
+            return;
+        }
+
+        JsonAdaptedMamsDelta delta = JsonAdaptedMamsDelta.between(lastSaved, snapshot);
+        if (!delta.isEmpty()) {
+            append(delta);
+        }
+        // the delta is logged, so it must not be logged again even if the checkpoint below fails
+        lastSaved = snapshot;
+
+        if (recordsInLog >= checkpointInterval) {
+            try {
+                startCheckpoint(snapshot);
+            } catch (IOException ioe) {
+                // the log still holds every change, so the checkpoint is simply tried again at the next save
+                logger.warning("Unable to checkpoint " + filePath + ": " + ioe);
+            }
+        }
+    }
+
+    //// log
+
+    private void append(JsonAdaptedMamsDelta delta) throws IOException {
+        long sequence = lastSequence + 1;
+        String payload = JsonUtil.toCompactJsonString(delta);
+        String line = sequence + FIELD_SEPARATOR + checksum(sequence, payload) + FIELD_SEPARATOR + payload + "\n";
+
+        FileUtil.createParentDirsOfFile(logPath);
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        lastSequence = sequence;
+        recordsInLog++;
+    }
+
+    /**
+     * Returns the intact records in the log at {@code path}, in order. Anything after the first record that is
+     * torn, fails its checksum or is out of sequence is cut off the file, so that later records are not appended
+     * after it.
+     */
+    private static List<LogRecord> readRecords(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return Collections.emptyList();
+        }
+
+        byte[] bytes = Files.readAllBytes(path);
+        List<LogRecord> records = new ArrayList<>();
+        int start = 0;
+        while (start < bytes.length) {
+            int end = start;
+            while (end < bytes.length && bytes[end] != '\n') {
+                end++;
+            }
+            Optional<LogRecord> record = end == bytes.length
+                    ? Optional.empty()
+                    : LogRecord.parse(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+            if (!record.isPresent()
+                    || (!records.isEmpty() && record.get().sequence <= records.get(records.size() - 1).sequence)) {
+                logger.warning("Discarding damaged records at byte " + start + " of " + path);
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(start);
+                }
+                break;
+            }
+            records.add(record.get());
+            start = end + 1;
+        }
+        return records;
+    }
+
+    /**
+     * Returns {@code data} with the records it does not include yet applied in order. The records are applied to
+     * one copy of the lists, which is only made if there is a record to apply.
+     */
+    private static StoredMams replay(StoredMams data, List<LogRecord> records) throws IllegalValueException {
+        long lastSequence = data.getLastSequence();
+        List<Student> students = null;
+        List<Module> modules = null;
+        List<Appeal> appeals = null;
+        for (LogRecord record : records) {
+            if (record.sequence <= lastSequence) {
+                continue;
+            }
+            if (students == null) {
+                students = new ArrayList<>(data.getStudents());
+                modules = new ArrayList<>(data.getModules());
+                appeals = new ArrayList<>(data.getAppeals());
+            }
+            record.delta.applyTo(students, modules, appeals);
+            lastSequence = record.sequence;
+        }
+        return students == null ? data : new StoredMams(students, modules, appeals, lastSequence);
+    }
+
+    private static String checksum(long sequence, String payload) {
+        CRC32 crc = new CRC32();
+        crc.update((sequence + FIELD_SEPARATOR + payload).getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    //// checkpoints
+
+    /**
+     * Returns the last checkpoint, from the binary image if it is an image of the current json file.
+     *
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IllegalValueException if the checkpoint holds invalid entries.
+     */
+    private Optional<StoredMams> readCheckpoint() throws DataConversionException, IllegalValueException,
+            IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        if (Files.exists(imagePath)) {
+            try {
+                Optional<StoredMams> image = BinaryMamsFormat.readImage(imagePath, filePath);
+                if (image.isPresent()) {
+                    return image;
+                }
+                logger.info("Ignoring binary image " + imagePath + " of an older version of " + filePath);
+            } catch (IOException ioe) {
+                logger.warning("Ignoring damaged binary image " + imagePath + ": " + ioe);
+            }
+        }
+
+        try {
+            return Optional.of(new StreamingJsonMamsReader().readStored(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Seals the log and writes a checkpoint of {@code snapshot} in the background.
+     * Does nothing if the previous checkpoint has not finished; the log is simply checkpointed later.
+     */
+    private void startCheckpoint(MamsSnapshot snapshot) throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+        if (Files.exists(sealedLogPath)) {
+            // the last background checkpoint failed, so there is nowhere to seal the log to
+            checkpointNow(snapshot);
+            return;
+        }
+
+        Files.move(logPath, sealedLogPath, StandardCopyOption.ATOMIC_MOVE);
+        recordsInLog = 0;
+        long sequence = lastSequence;
+        compaction = compactor.submit(() -> {
+            try {
+                writeCheckpoint(snapshot, sequence);
+                Files.deleteIfExists(sealedLogPath);
+            } catch (IOException ioe) {
+                logger.warning("Unable to write checkpoint of " + filePath + ": " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Writes a checkpoint of {@code snapshot} and deletes the logs, waiting for any background checkpoint first.
+     */
+    private void checkpointNow(MamsSnapshot snapshot) throws IOException {
+        awaitCompaction();
+        // stale records left by an earlier run must not be newer than the checkpoint
+        for (LogRecord record : readRecords(sealedLogPath)) {
+            lastSequence = Math.max(lastSequence, record.sequence);
+        }
+        for (LogRecord record : readRecords(logPath)) {
+            lastSequence = Math.max(lastSequence, record.sequence);
+        }
+        writeCheckpoint(snapshot, lastSequence);
+        Files.deleteIfExists(sealedLogPath);
+        Files.deleteIfExists(logPath);
+        recordsInLog = 0;
+    }
+
+    /**
+     * Writes a checkpoint of {@code snapshot}, then its binary image. Each file is replaced atomically, so a crash
+     * leaves either the old or the new checkpoint in place, and an image of an older checkpoint is not read.
+     */
+    private void writeCheckpoint(MamsSnapshot snapshot, long sequence) throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableMams(snapshot, sequence), filePath);
+        BinaryMamsFormat.writeImage(snapshot, sequence, imagePath, filePath);
+    }
+
+    private void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Checkpoint of " + filePath + " failed: " + e.getCause());
+        }
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+    /**
+     * A record of the delta log: the changes made by one save, and its position in the log.
+     */
+    private static class LogRecord {
+        private final long sequence;
+        private final JsonAdaptedMamsDelta delta;
+
+        private LogRecord(long sequence, JsonAdaptedMamsDelta delta) {
+            this.sequence = sequence;
+            this.delta = delta;
+        }
+
+        /**
+         * Returns the record written as {@code line}, or an empty {@code Optional} if the line is damaged.
+         */
+        static Optional<LogRecord> parse(String line) {
+            String[] fields = line.split(FIELD_SEPARATOR, 3);
+            if (fields.length != 3) {
+                return Optional.empty();
+            }
+            try {
+                long sequence = Long.parseLong(fields[0]);
+                if (!checksum(sequence, fields[2]).equals(fields[1])) {
+                    return Optional.empty();
+                }
+                return Optional.of(new LogRecord(sequence, JsonUtil.fromJsonString(fields[2],
+                        JsonAdaptedMamsDelta.class)));
+            } catch (NumberFormatException | IOException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package mams.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import mams.commons.exceptions.IllegalValueException;
+import mams.model.MamsSnapshot;
+import mams.model.appeal.Appeal;
+import mams.model.module.Module;
+import mams.model.student.Student;
+
+/**
+ * Jackson-friendly version of the changes made to MAMS between two snapshots.
+ */
+class JsonAdaptedMamsDelta {
+
+    private final List<JsonAdaptedSplice<JsonAdaptedStudent>> students = new ArrayList<>();
+    private final List<JsonAdaptedSplice<JsonAdaptedModule>> modules = new ArrayList<>();
+    private final List<JsonAdaptedSplice<JsonAdaptedAppeal>> appeals = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedMamsDelta} with the given changes to each list.
+     */
+    @JsonCreator
+    public JsonAdaptedMamsDelta(@JsonProperty("students") List<JsonAdaptedSplice<JsonAdaptedStudent>> students,
+                                @JsonProperty("modules") List<JsonAdaptedSplice<JsonAdaptedModule>> modules,
+                                @JsonProperty("appeals") List<JsonAdaptedSplice<JsonAdaptedAppeal>> appeals) {
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (modules != null) {
+            this.modules.addAll(modules);
+        }
+        if (appeals != null) {
+            this.appeals.addAll(appeals);
+        }
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}.
+     * Only the students, modules and appeals that differ are converted.
+     */
+    public static JsonAdaptedMamsDelta between(MamsSnapshot before, MamsSnapshot after) {
+        return new JsonAdaptedMamsDelta(
+                JsonAdaptedSplice.between(before.getStudents(), after.getStudents(), JsonAdaptedStudent::new),
+                JsonAdaptedSplice.between(before.getModules(), after.getModules(), JsonAdaptedModule::new),
+                JsonAdaptedSplice.between(before.getAppeals(), after.getAppeals(), JsonAdaptedAppeal::new));
+    }
+
+    public boolean isEmpty() {
+        return students.isEmpty() && modules.isEmpty() && appeals.isEmpty();
+    }
+
+    /**
+     * Applies these changes to the given lists of MAMS in place.
+     *
+     * @throws IllegalValueException if the changes do not fit the lists, or hold invalid entries.
+     */
+    public void applyTo(List<Student> studentList, List<Module> moduleList, List<Appeal> appealList)
+            throws IllegalValueException {
+        JsonAdaptedSplice.applyAll(studentList, students, JsonAdaptedStudent::toModelType);
+        JsonAdaptedSplice.applyAll(moduleList, modules, JsonAdaptedModule::toModelType);
+        JsonAdaptedSplice.applyAll(appealList, appeals, JsonAdaptedAppeal::toModelType);
+    }
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import mams.commons.exceptions.IllegalValueException;
 import mams.model.module.Module;
+import mams.model.module.TimeSlotSet;
 import mams.model.tag.Tag;
 
 /**
@@ -57,7 +58,7 @@ class JsonAdaptedModule {
         moduleDescription = source.getModuleDescription();
         lecturerName = source.getLecturerName();
         timeSlot = source.getTimeSlot();
-        quota = Integer.toString(source.getQuotaInt());
+        quota = source.getQuota();
         tagged.addAll(source.getStudents().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -109,21 +110,31 @@ class JsonAdaptedModule {
         if (quota == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Quota"));
         }
-        if (!Module.isValidQuota(quota)) {
+        final int modelQuota;
+        try {
+            modelQuota = Integer.parseInt(quota);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS_QUOTA);
+        }
+        if (!Module.isValidQuota(modelQuota)) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS_QUOTA);
         }
-        final String modelQuota = quota;
 
         if (timeSlot == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Time Slot"));
         }
-        if (!Module.isValidTimeSlot(timeSlot)) {
+        final TimeSlotSet modelTimeSlots;
+        try {
+            modelTimeSlots = TimeSlotSet.parse(timeSlot);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS_TIME_SLOT);
+        }
+        if (!Module.isValidTimeSlots(modelTimeSlots)) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS_TIME_SLOT);
         }
-        final String modelTimeSlot = timeSlot;
 
         final Set<Tag> modelTags = new HashSet<>(moduleTags); //students
         return new Module(modelModuleCode, modelModuleName, modelModuleDescription,
-                modelLecturerName, modelTimeSlot, modelQuota, modelTags);
+                modelLecturerName, modelTimeSlots, modelQuota, modelTags);
     }
 }
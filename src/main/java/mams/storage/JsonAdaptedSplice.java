@@ -0,0 +1,93 @@
+package mams.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import mams.commons.exceptions.IllegalValueException;
+import mams.commons.util.PersistentList;
+
+/**
+ * Jackson-friendly version of a change to one of the lists in MAMS:
+ * {@code removed} entries starting at index {@code from} are replaced by {@code items}.
+ */
+class JsonAdaptedSplice<T> {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Delta log record does not fit the data it is applied to";
+
+    private final int from;
+    private final int removed;
+    private final List<T> items = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSplice} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSplice(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+                             @JsonProperty("items") List<T> items) {
+        this.from = from;
+        this.removed = removed;
+        if (items != null) {
+            this.items.addAll(items);
+        }
+    }
+
+    /**
+     * Returns the splices that turn {@code before} into {@code after}, converting the new entries with
+     * {@code adapter}. Entries are compared by identity, as the model replaces an entry whenever it changes.
+     * Only the parts of the two lists that they do not share are compared, so this takes time in proportion to
+     * the number of changes rather than to the size of the lists.
+     */
+    static <E, T> List<JsonAdaptedSplice<T>> between(PersistentList<E> before, PersistentList<E> after,
+            Function<E, T> adapter) {
+        List<JsonAdaptedSplice<T>> splices = new ArrayList<>();
+        for (PersistentList.Change change : before.changesTo(after)) {
+            List<T> items = new ArrayList<>(change.getAdded());
+            for (int i = change.getFrom(); i < change.getFrom() + change.getAdded(); i++) {
+                items.add(adapter.apply(after.get(i)));
+            }
+            splices.add(new JsonAdaptedSplice<>(change.getFrom(), change.getRemoved(), items));
+        }
+        return splices;
+    }
+
+    /**
+     * Applies all of {@code splices} to {@code list} in order.
+     *
+     * @throws IllegalValueException if a splice does not fit the list.
+     */
+    static <T> void applyAll(List<T> list, List<JsonAdaptedSplice<T>> splices) throws IllegalValueException {
+        applyAll(list, splices, item -> item);
+    }
+
+    /**
+     * Applies all of {@code splices} to {@code list} in order, converting the inserted entries with
+     * {@code converter}. {@code list} is changed in place, so replaying many records does not copy it.
+     *
+     * @throws IllegalValueException if a splice does not fit the list, or an inserted entry is invalid.
+     */
+    static <T, M> void applyAll(List<M> list, List<JsonAdaptedSplice<T>> splices,
+            AdaptedConverter<T, M> converter) throws IllegalValueException {
+        for (JsonAdaptedSplice<T> splice : splices) {
+            if (splice.from < 0 || splice.removed < 0 || splice.from + splice.removed > list.size()) {
+                throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+            }
+            List<M> converted = new ArrayList<>(splice.items.size());
+            for (T item : splice.items) {
+                converted.add(converter.convert(item));
+            }
+            int replaced = Math.min(splice.removed, converted.size());
+            for (int i = 0; i < replaced; i++) {
+                list.set(splice.from + i, converted.get(i));
+            }
+            if (splice.removed > replaced) {
+                list.subList(splice.from + replaced, splice.from + splice.removed).clear();
+            } else if (converted.size() > replaced) {
+                list.addAll(splice.from + replaced, converted.subList(replaced, converted.size()));
+            }
+        }
+    }
+}
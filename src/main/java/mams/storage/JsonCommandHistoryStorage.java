@@ -59,6 +59,14 @@ public class JsonCommandHistoryStorage implements CommandHistoryStorage {
         }
     }
 
+    /**
+     * Similar to {@link #readCommandHistory()}. Every command is read, as the file cannot be read in parts.
+     */
+    @Override
+    public Optional<ReadOnlyCommandHistory> readRecentCommandHistory(int count) throws DataConversionException {
+        return readCommandHistory();
+    }
+
     @Override
     public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException {
         saveCommandHistory(commandHistory, filePath);
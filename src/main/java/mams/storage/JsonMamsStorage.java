@@ -3,6 +3,7 @@ package mams.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -45,14 +46,16 @@ public class JsonMamsStorage implements MamsStorage {
     public Optional<ReadOnlyMams> readMams(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableMams> jsonMams = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMams.class);
-        if (!jsonMams.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonMams.get().toModelType());
+            return Optional.of(new StreamingJsonMamsReader().read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
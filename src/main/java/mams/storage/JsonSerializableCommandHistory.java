@@ -2,6 +2,7 @@ package mams.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -35,8 +36,9 @@ class JsonSerializableCommandHistory {
      * @param source future changes to this will not affect the created {@code JsonSerializableCommandHistory}.
      */
     public JsonSerializableCommandHistory(ReadOnlyCommandHistory source) {
-        inputOutputs.addAll(source.getInputOutputHistory().stream().map(JsonAdaptedInputOutput::new)
-                .collect(Collectors.toList()));
+        // commands that could not be read back from storage are left out
+        inputOutputs.addAll(source.getInputOutputHistory().stream().filter(Objects::nonNull)
+                .map(JsonAdaptedInputOutput::new).collect(Collectors.toList()));
     }
 
     /**
@@ -1,6 +1,7 @@
 package mams.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,8 +13,11 @@ import mams.commons.exceptions.IllegalValueException;
 import mams.model.Mams;
 import mams.model.ReadOnlyMams;
 import mams.model.appeal.Appeal;
+import mams.model.appeal.exceptions.DuplicateAppealException;
 import mams.model.module.Module;
+import mams.model.module.exceptions.DuplicateModuleException;
 import mams.model.student.Student;
+import mams.model.student.exceptions.DuplicateStudentException;
 
 
 /**
@@ -32,6 +36,8 @@ class JsonSerializableMams {
 
     private final List<JsonAdaptedModule> modules = new ArrayList<>();
 
+    /** The sequence number of the last delta log record included in this data, or 0 if there is none. */
+    private final long lastSequence;
 
     /**
      * Constructs a {@code JsonSerializableMams} with the given students and modules.
@@ -39,10 +45,12 @@ class JsonSerializableMams {
     @JsonCreator
     public JsonSerializableMams(@JsonProperty("students") List<JsonAdaptedStudent> students,
                                 @JsonProperty("modules") List<JsonAdaptedModule> modules,
-                                @JsonProperty("appeals") List<JsonAdaptedAppeal> appeals) {
+                                @JsonProperty("appeals") List<JsonAdaptedAppeal> appeals,
+                                @JsonProperty("lastSequence") long lastSequence) {
         this.modules.addAll(modules);
         this.students.addAll(students);
         this.appeals.addAll(appeals);
+        this.lastSequence = lastSequence;
     }
 
     /**
@@ -51,11 +59,36 @@ class JsonSerializableMams {
      * @param source future changes to this will not affect the created {@code JsonSerializableMams}.
      */
     public JsonSerializableMams(ReadOnlyMams source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyMams}, which includes all delta log records up to {@code lastSequence},
+     * into this class for Jackson use.
+     */
+    public JsonSerializableMams(ReadOnlyMams source, long lastSequence) {
+        this.lastSequence = lastSequence;
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
         modules.addAll(source.getModuleList().stream().map(JsonAdaptedModule::new).collect(Collectors.toList()));
         appeals.addAll(source.getAppealList().stream().map(JsonAdaptedAppeal::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedStudent> getStudents() {
+        return Collections.unmodifiableList(students);
+    }
+
+    List<JsonAdaptedModule> getModules() {
+        return Collections.unmodifiableList(modules);
+    }
+
+    List<JsonAdaptedAppeal> getAppeals() {
+        return Collections.unmodifiableList(appeals);
+    }
+
+    long getLastSequence() {
+        return lastSequence;
+    }
+
     /**
      * Converts this MAMS into the model's {@code Mams} object.
      *
@@ -64,28 +97,34 @@ class JsonSerializableMams {
     public Mams toModelType() throws IllegalValueException {
         Mams mams = new Mams();
 
+        List<Module> modelModules = new ArrayList<>(modules.size());
         for (JsonAdaptedModule jsonAdaptedModule : modules) {
-            Module module = jsonAdaptedModule.toModelType();
-            if (mams.hasModule(module)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
-            }
-            mams.addModule(module);
+            modelModules.add(jsonAdaptedModule.toModelType());
+        }
+        try {
+            mams.addModules(modelModules);
+        } catch (DuplicateModuleException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE + " " + e.getMessage());
         }
 
+        List<Student> modelStudents = new ArrayList<>(students.size());
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (mams.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            mams.addStudent(student);
+            modelStudents.add(jsonAdaptedStudent.toModelType());
+        }
+        try {
+            mams.addStudents(modelStudents);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT + " " + e.getMessage());
         }
 
-        for (JsonAdaptedAppeal jsonAdaptedAppeal: appeals) {
-            Appeal appeal = jsonAdaptedAppeal.toModelType();
-            if (mams.hasAppeal((appeal))) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPEALS);
-            }
-            mams.addAppeal(appeal);
+        List<Appeal> modelAppeals = new ArrayList<>(appeals.size());
+        for (JsonAdaptedAppeal jsonAdaptedAppeal : appeals) {
+            modelAppeals.add(jsonAdaptedAppeal.toModelType());
+        }
+        try {
+            mams.addAppeals(modelAppeals);
+        } catch (DuplicateAppealException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPEALS + " " + e.getMessage());
         }
         return mams;
     }
@@ -0,0 +1,247 @@
+package mams.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import mams.commons.core.LogsCenter;
+import mams.logic.history.CommandHistory;
+import mams.logic.history.InputOutput;
+import mams.logic.history.ReadOnlyCommandHistory;
+import mams.model.ReadOnlyMams;
+
+/**
+ * Writes MAMS data and command history to {@code Storage} on a background thread.
+ *
+ * Callers report the latest state with {@link #mamsChanged} and {@link #commandHistoryChanged}, which return
+ * immediately. The states passed in must not change afterwards. Commands added to the command history are
+ * reported one at a time with {@link #commandAdded}, and appended to the writer's own copy of it, so the
+ * history is not copied for every command. Only the latest state of each is kept, so a burst of changes made
+ * while a write is in progress is written once, by the next write.
+ * {@link #flush()} waits until every state reported so far is written, retrying once any state whose last write
+ * failed, and reports the failure if any.
+ * Failures of background writes are also passed to the failure handler, on the writer thread; a failed state
+ * is written again with the next change or flush.
+ */
+public class PersistenceService {
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceService.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mams-persistence");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object lock = new Object();
+    private volatile Consumer<IOException> failureHandler = e -> logger.warning("Could not save data: " + e);
+
+    // guarded by lock
+    private ReadOnlyMams pendingMams;
+    private ReadOnlyCommandHistory pendingCommandHistory;
+    private final List<InputOutput> pendingCommands = new ArrayList<>();
+    private boolean isCommandHistoryUnsaved;
+    private boolean isWriteScheduled;
+    private long requestedWrites;
+    private long completedWrites;
+    private IOException lastFailure;
+
+    // only used on the writer thread
+    private CommandHistory commandHistory;
+
+    public PersistenceService(Storage storage) {
+        this(storage, new CommandHistory());
+    }
+
+    /**
+     * Constructs a {@code PersistenceService} whose command history starts as {@code savedCommandHistory}, which
+     * must not change afterwards.
+     */
+    public PersistenceService(Storage storage, ReadOnlyCommandHistory savedCommandHistory) {
+        requireNonNull(storage);
+        requireNonNull(savedCommandHistory);
+        this.storage = storage;
+        this.commandHistory = new CommandHistory(savedCommandHistory);
+    }
+
+    /**
+     * Sets the handler that is told of failed background writes. It is called on the writer thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code mams} to be written, replacing any MAMS data not written yet.
+     */
+    public void mamsChanged(ReadOnlyMams mams) {
+        requireNonNull(mams);
+        synchronized (lock) {
+            pendingMams = mams;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Schedules {@code commandHistory} to be written, replacing the command history and any commands not
+     * written yet.
+     */
+    public void commandHistoryChanged(ReadOnlyCommandHistory commandHistory) {
+        requireNonNull(commandHistory);
+        synchronized (lock) {
+            pendingCommandHistory = commandHistory;
+            pendingCommands.clear();
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Schedules the command history to be written with {@code inputOutput} appended.
+     */
+    public void commandAdded(InputOutput inputOutput) {
+        requireNonNull(inputOutput);
+        synchronized (lock) {
+            pendingCommands.add(inputOutput);
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Blocks until everything reported so far has been written. A state whose write failed, before or while
+     * waiting, is written once more.
+     *
+     * @throws IOException if the last write failed, or the wait was interrupted.
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            awaitWrites(requestedWrites);
+            if (pendingMams != null || isCommandHistoryUnsaved) {
+                scheduleWrite();
+                awaitWrites(requestedWrites);
+            }
+            if (lastFailure != null) {
+                throw lastFailure;
+            }
+        }
+    }
+
+    /**
+     * Waits until {@code target} writes have completed. Must be called while holding {@code lock}.
+     */
+    private void awaitWrites(long target) throws IOException {
+        while (completedWrites < target) {
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for data to be saved", e);
+            }
+        }
+    }
+
+    /**
+     * Writes everything reported so far and stops the writer thread.
+     *
+     * @throws IOException if the last write failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void scheduleWrite() {
+        requestedWrites++;
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyMams mams;
+        ReadOnlyCommandHistory replacedCommandHistory;
+        List<InputOutput> addedCommands;
+        boolean isCommandHistoryChanged;
+        long writes;
+        synchronized (lock) {
+            mams = pendingMams;
+            replacedCommandHistory = pendingCommandHistory;
+            addedCommands = pendingCommands.isEmpty() ? Collections.emptyList() : new ArrayList<>(pendingCommands);
+            isCommandHistoryChanged = replacedCommandHistory != null || !addedCommands.isEmpty()
+                    || isCommandHistoryUnsaved;
+            pendingMams = null;
+            pendingCommandHistory = null;
+            pendingCommands.clear();
+            isCommandHistoryUnsaved = false;
+            isWriteScheduled = false;
+            writes = requestedWrites;
+        }
+
+        IOException failure = null;
+        if (mams != null) {
+            try {
+                storage.saveMams(mams);
+            } catch (IOException e) {
+                failure = e;
+                keepIfNotReplaced(mams);
+            }
+        }
+        if (isCommandHistoryChanged) {
+            if (replacedCommandHistory != null) {
+                commandHistory = new CommandHistory(replacedCommandHistory);
+            }
+            addedCommands.forEach(commandHistory::add);
+            try {
+                storage.saveCommandHistory(commandHistory);
+            } catch (IOException e) {
+                // the first failure is reported, with the later ones attached to it
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+                synchronized (lock) {
+                    isCommandHistoryUnsaved = true;
+                }
+            }
+        }
+
+        if (failure != null) {
+            failureHandler.accept(failure);
+        }
+        synchronized (lock) {
+            completedWrites = Math.max(completedWrites, writes);
+            lastFailure = failure;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Puts back MAMS data that failed to be written, unless newer data has been reported since.
+     * It is not scheduled again until the next change or flush.
+     */
+    private void keepIfNotReplaced(ReadOnlyMams mams) {
+        synchronized (lock) {
+            if (pendingMams == null) {
+                pendingMams = mams;
+            }
+        }
+    }
+}
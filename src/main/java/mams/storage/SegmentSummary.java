@@ -0,0 +1,264 @@
+package mams.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import mams.commons.util.FileUtil;
+import mams.logic.history.CommandHistoryStore.SummaryVisitor;
+import mams.logic.history.InputOutput;
+
+/**
+ * The command word and outcome of each command in a segment of a {@link SegmentedCommandHistoryStorage}, which is
+ * all a command history needs to index its commands. It is saved next to its segment, so that the index of the
+ * whole history can be built without reading any segment.
+ *
+ * The file holds a magic number, the size of the segment it summarizes, the distinct command words, and one varint
+ * code per command: 0 for a command that cannot be read, or else 1 plus twice the index of its command word, plus
+ * 1 more if it was successful. It ends with the CRC-32 of everything before. A summary whose segment has
+ * since changed size is ignored.
+ */
+class SegmentSummary {
+
+    static final String SUFFIX = ".idx";
+
+    private static final int MAGIC = 0x4D534853; // "MSHS"
+    private static final int UNREADABLE = 0;
+
+    private final List<String> words = new ArrayList<>();
+    private final Map<String, Integer> wordIds = new HashMap<>();
+    private int[] codes = new int[16];
+    private int size;
+
+    /**
+     * Returns the summary of {@code entries}, in which a null command could not be read.
+     */
+    static SegmentSummary of(List<InputOutput> entries) {
+        SegmentSummary summary = new SegmentSummary();
+        for (InputOutput entry : entries) {
+            summary.add(entry);
+        }
+        return summary;
+    }
+
+    /**
+     * Summarizes {@code entry} as the next command. A null command could not be read.
+     */
+    void add(InputOutput entry) {
+        if (entry == null) {
+            add(null, false);
+        } else {
+            add(entry.getCommandWord(), entry.checkSuccessful());
+        }
+    }
+
+    /**
+     * Summarizes the next command, entered with {@code commandWord}. A null command word is of a command that could
+     * not be read.
+     */
+    void add(String commandWord, boolean wasExecutionSuccessful) {
+        if (commandWord == null) {
+            addCode(UNREADABLE);
+            return;
+        }
+        Integer id = wordIds.get(commandWord);
+        if (id == null) {
+            id = words.size();
+            words.add(commandWord);
+            wordIds.put(commandWord, id);
+        }
+        addCode(((id << 1) | (wasExecutionSuccessful ? 1 : 0)) + 1);
+    }
+
+    /**
+     * Summarizes the commands of {@code other} as the next commands.
+     */
+    void addAll(SegmentSummary other) {
+        other.visit(other.size, this::add);
+    }
+
+    /**
+     * Returns the number of commands summarized.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Passes the first {@code count} commands to {@code visitor}, in order. Commands past the end of this summary
+     * are passed as commands that cannot be read.
+     */
+    void visit(int count, SummaryVisitor visitor) {
+        for (int i = 0; i < count; i++) {
+            int code = i < size ? codes[i] : UNREADABLE;
+            if (code == UNREADABLE) {
+                visitor.visit(null, false);
+            } else {
+                visitor.visit(words.get((code - 1) >>> 1), ((code - 1) & 1) == 1);
+            }
+        }
+    }
+
+    private void addCode(int code) {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        codes[size++] = code;
+    }
+
+    //// files
+
+    /**
+     * Returns the path of the summary of the segment at {@code segment}.
+     */
+    static Path pathOf(Path segment) {
+        return segment.resolveSibling(segment.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Writes this summary of the segment at {@code segment} next to it, through a temporary file.
+     */
+    void write(Path segment) throws IOException {
+        writeTo(pathOf(segment), Files.size(segment));
+    }
+
+    /**
+     * Writes this summary of a segment of {@code segmentSize} bytes to {@code target}, through a temporary file.
+     */
+    void writeTo(Path target, long segmentSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeInt(out, MAGIC);
+        writeVarLong(out, segmentSize);
+        writeVarLong(out, words.size());
+        for (String word : words) {
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+        writeVarLong(out, size);
+        for (int i = 0; i < size; i++) {
+            writeVarLong(out, codes[i]);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(out.toByteArray());
+        writeInt(out, (int) crc.getValue());
+
+        Path tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.write(tempPath, out.toByteArray());
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempPath);
+            throw ioe;
+        }
+        FileUtil.moveReplacing(tempPath, target);
+    }
+
+    /**
+     * Returns the summary saved next to the segment at {@code segment}, or an empty {@code Optional} if there is
+     * none, it is damaged, or the segment has changed since it was written.
+     */
+    static Optional<SegmentSummary> read(Path segment) throws IOException {
+        byte[] contents;
+        long segmentSize;
+        try {
+            contents = Files.readAllBytes(pathOf(segment));
+            segmentSize = Files.size(segment);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        if (contents.length < 2 * Integer.BYTES) {
+            return Optional.empty();
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(contents);
+        CRC32 crc = new CRC32();
+        crc.update(contents, 0, contents.length - Integer.BYTES);
+        if (in.getInt(contents.length - Integer.BYTES) != (int) crc.getValue()) {
+            return Optional.empty();
+        }
+        in.limit(contents.length - Integer.BYTES);
+        try {
+            if (in.getInt() != MAGIC || readVarLong(in) != segmentSize) {
+                return Optional.empty();
+            }
+            SegmentSummary summary = new SegmentSummary();
+            int wordCount = readCount(in);
+            for (int i = 0; i < wordCount; i++) {
+                byte[] bytes = new byte[readCount(in)];
+                in.get(bytes);
+                String word = new String(bytes, StandardCharsets.UTF_8);
+                summary.words.add(word);
+                summary.wordIds.put(word, i);
+            }
+            int count = readCount(in);
+            summary.codes = new int[Math.max(1, count)];
+            for (int i = 0; i < count; i++) {
+                long code = readVarLong(in);
+                if (code < 0 || (code != UNREADABLE && ((code - 1) >>> 1) >= wordCount)) {
+                    return Optional.empty();
+                }
+                summary.codes[summary.size++] = (int) code;
+            }
+            return Optional.of(summary);
+        } catch (BufferUnderflowException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes the summary saved next to the segment at {@code segment}, if there is one.
+     */
+    static void delete(Path segment) throws IOException {
+        Files.deleteIfExists(pathOf(segment));
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BufferUnderflowException();
+    }
+
+    /**
+     * Reads a count that must fit in what is left of {@code in}, as each counted item takes at least a byte.
+     */
+    private static int readCount(ByteBuffer in) {
+        long count = readVarLong(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return (int) count;
+    }
+}
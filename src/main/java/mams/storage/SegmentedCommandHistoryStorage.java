@@ -0,0 +1,903 @@
+package mams.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import mams.commons.core.LogsCenter;
+import mams.commons.exceptions.DataConversionException;
+import mams.commons.exceptions.IllegalValueException;
+import mams.commons.util.CollectionUtil;
+import mams.commons.util.FileUtil;
+import mams.commons.util.JsonUtil;
+import mams.logic.history.CommandHistory;
+import mams.logic.history.CommandHistoryStore;
+import mams.logic.history.InputOutput;
+import mams.logic.history.ReadOnlyCommandHistory;
+
+/**
+ * A class to access CommandHistory data stored as an append-only log split into segment files on the hard disk.
+ *
+ * Each save appends only the commands entered since the last save, one checksummed line per {@code InputOutput},
+ * to the newest segment. Once a segment holds {@code segmentSize} records, later records go to a new segment, and
+ * once {@value #COMPACTION_FANOUT} small segments have piled up, a background thread merges them into one.
+ * Segments are named after the sequence numbers of their records, so the number of commands in each is known
+ * without reading it, and the most recent commands can be read from the last few segments alone. When the whole
+ * history has to be written again, it goes to a segment of the next generation, which supersedes every segment of
+ * earlier generations, before those are deleted.
+ *
+ * Once a segment is no longer appended to, the command word and outcome of each of its commands are saved next to
+ * it as a {@link SegmentSummary}, so that the command history can index every command without reading the
+ * segments. Segments saved before summaries were kept are summarized the first time they are read.
+ *
+ * The command history read is backed by this storage as its {@link CommandHistoryStore}, so that older commands
+ * are only read from their segments when they are needed. Reading them does not lock this storage, so it never
+ * waits for a save to be forced to disk; it reads the segments as last published by a save. A json file written by
+ * {@link JsonCommandHistoryStorage} is still read if there are no segments yet, and its contents are copied into
+ * segments by the next save.
+ */
+public class SegmentedCommandHistoryStorage implements CommandHistoryStorage, CommandHistoryStore {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 1024;
+
+    /** The number of small segments that are merged into one by a compaction. */
+    static final int COMPACTION_FANOUT = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedCommandHistoryStorage.class);
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_CACHED_SEGMENTS = 4;
+
+    private final Path filePath;
+    private final int segmentSize;
+    private final Pattern segmentName;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mams-history-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Whether the saved commands are known, i.e. whether the segments have been read or written. */
+    private boolean isSynced;
+    /** The generation of the segments, which each rewrite increases. */
+    private int generation;
+    /** Every segment, oldest first. */
+    private final List<Segment> segments = new ArrayList<>();
+    /** The segments and commands saved, as last published for reading without locking this storage. */
+    private volatile SegmentTable table = new SegmentTable(Collections.emptyList(), 0);
+    private int savedCount;
+    private InputOutput lastSavedEntry;
+    private long lastSequence;
+    /** The segment being appended to, or null if the next record starts a new segment. */
+    private Segment activeSegment;
+    /** The summary of the commands appended to the active segment. */
+    private SegmentSummary activeSummary;
+    /** The full segments that have not been merged yet, oldest first. */
+    private final List<Segment> smallSegments = new ArrayList<>();
+    /** The segments being merged in the background. */
+    private List<Segment> compacting;
+    private Future<Segment> compaction;
+    private final Map<Path, List<InputOutput>> cachedSegments =
+            new LinkedHashMap<>(MAX_CACHED_SEGMENTS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, List<InputOutput>> eldest) {
+                    return size() > MAX_CACHED_SEGMENTS;
+                }
+            };
+
+    public SegmentedCommandHistoryStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructs a {@code SegmentedCommandHistoryStorage} that starts a new segment next to {@code filePath}
+     * after every {@code segmentSize} commands.
+     */
+    public SegmentedCommandHistoryStorage(Path filePath, int segmentSize) {
+        requireNonNull(filePath);
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        this.filePath = filePath;
+        this.segmentSize = segmentSize;
+        this.segmentName = Pattern.compile(Pattern.quote(filePath.getFileName() + ".")
+                + "(?:g(\\d+)\\.)?(\\d+)(?:-(\\d+))?" + Pattern.quote(SEGMENT_SUFFIX));
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCommandHistory> readCommandHistory() throws DataConversionException, IOException {
+        return readCommandHistory(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCommandHistory()}. Files other than the data file of this storage are read as plain
+     * json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if a segment holds invalid commands.
+     */
+    @Override
+    public Optional<ReadOnlyCommandHistory> readCommandHistory(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonCommandHistoryStorage(filePath).readCommandHistory(filePath);
+        }
+        return readRecentCommandHistory(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the saved command history, of which only the last {@code count} commands are read. Only the newest
+     * segment is read in full to find out how many commands there are; older commands are read from this storage
+     * when they are needed.
+     *
+     * @throws DataConversionException if the newest segment holds invalid commands.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyCommandHistory> readRecentCommandHistory(int count)
+            throws DataConversionException, IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+
+        finishCompaction(true);
+        List<Segment> found = scanSegments();
+        List<Record> newestRecords = Collections.emptyList();
+        while (!found.isEmpty() && newestRecords.isEmpty()) {
+            Path newest = found.get(found.size() - 1).path;
+            newestRecords = readSegment(newest);
+            if (newestRecords.isEmpty() && Files.size(newest) == 0) {
+                // an empty history, as written by a rewrite
+                break;
+            } else if (newestRecords.isEmpty()) {
+                // nothing in it survived, and the next segment may be given its name
+                logger.warning("Deleting empty command history segment " + newest);
+                deleteSegment(newest);
+                found.remove(found.size() - 1);
+            }
+        }
+
+        if (found.isEmpty()) {
+            Optional<ReadOnlyCommandHistory> legacy = new JsonCommandHistoryStorage(filePath).readCommandHistory();
+            // nothing is in segments yet, so the next save writes every command
+            sync(found, Collections.emptyList());
+            return legacy.map(commandHistory -> {
+                List<InputOutput> entries = commandHistory.getInputOutputHistory();
+                return new CommandHistory(entries.subList(Math.max(0, entries.size() - count), entries.size()));
+            });
+        }
+
+        List<InputOutput> newestEntries = new ArrayList<>();
+        for (Record record : newestRecords) {
+            newestEntries.add(toInputOutput(record));
+        }
+        sync(found, newestEntries);
+        summarizeSegments(found.get(found.size() - 1).path, newestEntries);
+        lastSequence = newestRecords.isEmpty()
+                ? found.get(found.size() - 1).firstSequence - 1
+                : newestRecords.get(newestRecords.size() - 1).sequence;
+        synchronized (cachedSegments) {
+            cachedSegments.put(found.get(found.size() - 1).path, newestEntries);
+        }
+
+        List<InputOutput> recent = read(Math.max(0, savedCount - count), savedCount);
+        return Optional.of(new CommandHistory(this, recent));
+    }
+
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException {
+        saveCommandHistory(commandHistory, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCommandHistory(ReadOnlyCommandHistory)}. Files other than the data file of this
+     * storage are written in full as plain json files.
+     *
+     * If {@code commandHistory} does not start with the commands last read or saved, every segment is replaced by
+     * one holding all of {@code commandHistory}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath)
+            throws IOException {
+        CollectionUtil.requireAllNonNull(commandHistory, filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonCommandHistoryStorage(filePath).saveCommandHistory(commandHistory, filePath);
+            return;
+        }
+
+        finishCompaction(false);
+        List<InputOutput> entries = commandHistory.getInputOutputHistory();
+        if (!isSynced || entries.size() < savedCount
+                || (savedCount > 0 && !entries.get(savedCount - 1).equals(lastSavedEntry))) {
+            rewrite(entries);
+        } else if (entries.size() > savedCount) {
+            append(entries.subList(savedCount, entries.size()));
+        }
+    }
+
+    /**
+     * Records that {@code found} are the segments saved, the newest of which holds {@code newestEntries}, and
+     * which of them are small enough to be merged.
+     */
+    private void sync(List<Segment> found, List<InputOutput> newestEntries) {
+        isSynced = true;
+        segments.clear();
+        smallSegments.clear();
+        synchronized (cachedSegments) {
+            cachedSegments.clear();
+        }
+        if (!found.isEmpty()) {
+            generation = found.get(0).generation;
+        }
+        int index = 0;
+        for (int i = 0; i < found.size(); i++) {
+            Segment segment = found.get(i);
+            int count;
+            if (i == found.size() - 1) {
+                count = newestEntries.size();
+            } else if (segment.lastSequence > 0) {
+                count = (int) (segment.lastSequence - segment.firstSequence + 1);
+            } else {
+                count = (int) (found.get(i + 1).firstSequence - segment.firstSequence);
+            }
+            if (count == 0) {
+                // an empty newest segment, which the next record is simply appended to
+                continue;
+            }
+            segments.add(new Segment(segment.path, segment.generation, segment.firstSequence, segment.lastSequence,
+                    index, count));
+            index += count;
+        }
+        for (int i = segments.size() - 1; i >= 0 && segments.get(i).count < segmentSize * COMPACTION_FANOUT; i--) {
+            smallSegments.add(0, segments.get(i));
+        }
+
+        savedCount = index;
+        lastSavedEntry = newestEntries.isEmpty() ? null : newestEntries.get(newestEntries.size() - 1);
+        lastSequence = 0;
+        // every run starts a new segment, rather than appending after records that may be torn
+        activeSegment = null;
+        publish();
+    }
+
+    /**
+     * Publishes the segments and the number of commands saved to readers.
+     */
+    private void publish() {
+        table = new SegmentTable(segments, savedCount);
+    }
+
+    //// reading saved commands
+
+    @Override
+    public int size() {
+        return table.size;
+    }
+
+    @Override
+    public List<InputOutput> read(int fromIndex, int toIndex) throws IOException {
+        return readPublished(current -> {
+            if (fromIndex < 0 || toIndex > current.size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("Range " + fromIndex + " to " + toIndex + " of " + current.size);
+            }
+
+            List<InputOutput> entries = new ArrayList<>(toIndex - fromIndex);
+            for (int i = current.segmentIndexOf(fromIndex); entries.size() < toIndex - fromIndex; i++) {
+                int from = fromIndex + entries.size() - current.firstIndices[i];
+                int to = Math.min(current.counts[i], toIndex - current.firstIndices[i]);
+                List<InputOutput> segmentEntries = entriesOf(current.paths.get(i), to, true);
+                for (int j = from; j < to; j++) {
+                    entries.add(j < segmentEntries.size() ? segmentEntries.get(j) : null);
+                }
+            }
+            return entries;
+        });
+    }
+
+    @Override
+    public List<Integer> findAll(Predicate<InputOutput> predicate, int toIndex) throws IOException {
+        requireNonNull(predicate);
+        return readPublished(current -> {
+            List<Integer> found = new ArrayList<>();
+            for (int i = 0; i < current.paths.size() && current.firstIndices[i] < toIndex; i++) {
+                List<InputOutput> segmentEntries = entriesOf(current.paths.get(i), 0, false);
+                int end = Math.min(segmentEntries.size(), Math.min(current.counts[i],
+                        toIndex - current.firstIndices[i]));
+                for (int j = 0; j < end; j++) {
+                    if (segmentEntries.get(j) != null && predicate.test(segmentEntries.get(j))) {
+                        found.add(current.firstIndices[i] + j);
+                    }
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public void summarize(int toIndex, SummaryVisitor visitor) throws IOException {
+        requireNonNull(visitor);
+        // the commands are all summarized before any is passed on, since they are summarized again if a segment
+        // is merged or replaced in the meantime
+        SegmentSummary summarized = readPublished(current -> {
+            if (toIndex < 0 || toIndex > current.size) {
+                throw new IndexOutOfBoundsException("Index " + toIndex + " of " + current.size);
+            }
+            SegmentSummary found = new SegmentSummary();
+            for (int i = 0; i < current.paths.size() && current.firstIndices[i] < toIndex; i++) {
+                summaryOf(current.paths.get(i)).visit(Math.min(current.counts[i],
+                        toIndex - current.firstIndices[i]), found::add);
+            }
+            return found;
+        });
+        summarized.visit(summarized.size(), visitor);
+    }
+
+    /**
+     * Returns the summary of the segment at {@code path}, summarizing its commands if it has no valid summary.
+     */
+    private SegmentSummary summaryOf(Path path) throws IOException {
+        Optional<SegmentSummary> summary = SegmentSummary.read(path);
+        return summary.isPresent() ? summary.get() : SegmentSummary.of(entriesOf(path, 0, false));
+    }
+
+    /**
+     * Returns the result of {@code reader} on the segments last published. If a segment is merged or replaced
+     * while it is being read, it is read again from the segments published since.
+     */
+    private <T> T readPublished(TableReader<T> reader) throws IOException {
+        while (true) {
+            SegmentTable current = table;
+            try {
+                return reader.read(current);
+            } catch (NoSuchFileException e) {
+                if (current == table) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the commands in the segment at {@code path}, from the cache if it holds at least {@code count} of
+     * them. Commands that cannot be converted are null.
+     */
+    private List<InputOutput> entriesOf(Path path, int count, boolean shouldCache) throws IOException {
+        synchronized (cachedSegments) {
+            List<InputOutput> cached = cachedSegments.get(path);
+            if (cached != null && cached.size() >= count) {
+                return cached;
+            }
+        }
+
+        List<InputOutput> entries = new ArrayList<>();
+        for (Record record : readSegment(path)) {
+            try {
+                entries.add(toInputOutput(record));
+            } catch (DataConversionException dce) {
+                entries.add(null);
+            }
+        }
+        if (shouldCache) {
+            synchronized (cachedSegments) {
+                cachedSegments.put(path, entries);
+            }
+        }
+        return entries;
+    }
+
+    private static InputOutput toInputOutput(Record record) throws DataConversionException {
+        try {
+            return record.toInputOutput();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in command history record " + record.sequence + ": "
+                    + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    //// writing
+
+    private void append(List<InputOutput> entries) throws IOException {
+        int start = 0;
+        while (start < entries.size()) {
+            if (activeSegment == null) {
+                activeSegment = new Segment(segmentPath(generation, lastSequence + 1, 0), generation,
+                        lastSequence + 1, 0, savedCount, 0);
+                activeSummary = new SegmentSummary();
+                // a summary left behind by an earlier segment of the same name
+                SegmentSummary.delete(activeSegment.path);
+                segments.add(activeSegment);
+            }
+            int end = start + Math.min(entries.size() - start, segmentSize - activeSegment.count);
+            byte[] lines = toLines(entries.subList(start, end), lastSequence + 1);
+
+            FileUtil.createParentDirsOfFile(activeSegment.path);
+            try (FileChannel channel = FileChannel.open(activeSegment.path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            lastSequence += end - start;
+            activeSegment.count += end - start;
+            for (InputOutput entry : entries.subList(start, end)) {
+                activeSummary.add(entry);
+            }
+            lastSavedEntry = entries.get(end - 1);
+            savedCount += end - start;
+            publish();
+            if (activeSegment.count >= segmentSize) {
+                writeSummary(activeSegment.path, activeSummary);
+                smallSegments.add(activeSegment);
+                activeSegment = null;
+                activeSummary = null;
+            }
+            start = end;
+        }
+
+        if (smallSegments.size() >= COMPACTION_FANOUT) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Replaces every segment by a single segment holding {@code entries}. The new segment is written first, as the
+     * next generation, so that it supersedes the old segments even if a crash leaves them behind, and the old
+     * segments are only deleted once it is in place. An empty history is written as an empty segment.
+     */
+    private void rewrite(List<InputOutput> entries) throws IOException {
+        finishCompaction(true);
+        // the entries may still have to be read from the old segments
+        List<InputOutput> copied = new ArrayList<>(entries);
+        List<Segment> oldSegments = scanSegments();
+        int newGeneration = Math.max(generation, oldSegments.isEmpty() ? 0 : oldSegments.get(0).generation) + 1;
+        Path path = segmentPath(newGeneration, 1, copied.size());
+        FileUtil.createParentDirsOfFile(path);
+        writeSegment(path, toLines(copied, 1));
+        writeSummary(path, SegmentSummary.of(copied));
+
+        sync(Collections.singletonList(new Segment(path, newGeneration, 1, copied.size(), 0, 0)), copied);
+        lastSequence = copied.size();
+        for (Segment segment : oldSegments) {
+            deleteSegment(segment.path);
+        }
+    }
+
+    /**
+     * Writes {@code summary} next to the segment at {@code path}. A summary that cannot be written is only logged,
+     * since the commands of the segment are simply summarized from the segment itself when it is missing.
+     */
+    private static void writeSummary(Path path, SegmentSummary summary) {
+        try {
+            summary.write(path);
+        } catch (IOException ioe) {
+            logger.warning("Unable to summarize command history segment " + path + ": " + ioe);
+        }
+    }
+
+    /**
+     * Summarizes every segment that does not have a summary yet, including the newest segment at {@code newest},
+     * which holds {@code newestEntries} and is no longer appended to. Only segments saved before summaries were
+     * kept, or whose summary could not be written, are read.
+     */
+    private void summarizeSegments(Path newest, List<InputOutput> newestEntries) throws IOException {
+        for (Segment segment : segments) {
+            Path path = segment.path;
+            if (Files.exists(SegmentSummary.pathOf(path))) {
+                continue;
+            }
+            writeSummary(path, path.equals(newest)
+                    ? SegmentSummary.of(newestEntries)
+                    : SegmentSummary.of(entriesOf(path, 0, false)));
+        }
+    }
+
+    private static byte[] toLines(List<InputOutput> entries, long firstSequence) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        long sequence = firstSequence;
+        for (InputOutput entry : entries) {
+            String payload = JsonUtil.toCompactJsonString(new JsonAdaptedInputOutput(entry));
+            lines.append(sequence).append(FIELD_SEPARATOR).append(checksum(sequence, payload))
+                    .append(FIELD_SEPARATOR).append(payload).append('\n');
+            sequence++;
+        }
+        return lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code lines} to a temporary file next to {@code segment}, then moves it over {@code segment}.
+     */
+    private static void writeSegment(Path segment, byte[] lines) throws IOException {
+        Path tempPath = tempPathOf(segment);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempPath);
+            throw ioe;
+        }
+        FileUtil.moveReplacing(tempPath, segment);
+    }
+
+    //// compaction
+
+    /**
+     * Merges the small segments into one in the background. The merged segment only takes the place of the small
+     * segments in {@link #finishCompaction}, so that they can still be read in the meantime.
+     * Does nothing if the previous compaction has not finished; the segments are simply merged later.
+     */
+    private void startCompaction() {
+        if (compaction != null) {
+            return;
+        }
+        compacting = new ArrayList<>(smallSegments);
+        smallSegments.clear();
+        Segment first = compacting.get(0);
+        Segment last = compacting.get(compacting.size() - 1);
+        long mergedLastSequence = last.firstSequence + last.count - 1;
+        Segment merged = new Segment(segmentPath(generation, first.firstSequence, mergedLastSequence), generation,
+                first.firstSequence, mergedLastSequence, first.firstIndex,
+                last.firstIndex + last.count - first.firstIndex);
+        List<Path> sources = new ArrayList<>();
+        for (Segment segment : compacting) {
+            sources.add(segment.path);
+        }
+        compaction = compactor.submit(() -> {
+            writeMerged(sources, tempPathOf(merged.path));
+            SegmentSummary summary = new SegmentSummary();
+            for (Path source : sources) {
+                summary.addAll(summaryOf(source));
+            }
+            summary.writeTo(tempPathOf(SegmentSummary.pathOf(merged.path)), Files.size(tempPathOf(merged.path)));
+            return merged;
+        });
+    }
+
+    /**
+     * Writes the intact records of {@code sources} to {@code target}.
+     */
+    private static void writeMerged(List<Path> sources, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            for (Path source : sources) {
+                for (Record record : readSegment(source)) {
+                    out.write((record.line + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            out.flush();
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(target);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Puts the merged segment written by the last compaction in place of the segments it merged, waiting for the
+     * compaction to finish if {@code shouldWait} is true. A crash after the merged segment is in place leaves
+     * some of the merged segments behind, which the next read deletes.
+     */
+    private void finishCompaction(boolean shouldWait) {
+        if (compaction == null || (!shouldWait && !compaction.isDone())) {
+            return;
+        }
+
+        List<Segment> merged = compacting;
+        compacting = null;
+        try {
+            Segment segment = compaction.get();
+            FileUtil.moveReplacing(tempPathOf(segment.path), segment.path);
+            FileUtil.moveReplacing(tempPathOf(SegmentSummary.pathOf(segment.path)),
+                    SegmentSummary.pathOf(segment.path));
+            int position = segments.indexOf(merged.get(0));
+            segments.subList(position, position + merged.size()).clear();
+            segments.add(position, segment);
+            publish();
+            for (Segment source : merged) {
+                synchronized (cachedSegments) {
+                    cachedSegments.remove(source.path);
+                }
+                deleteSegment(source.path);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | IOException e) {
+            logger.warning("Unable to merge command history segments of " + filePath + ": " + e);
+        } finally {
+            compaction = null;
+        }
+    }
+
+    //// segments
+
+    /**
+     * Returns the segment files of this storage, oldest first.
+     */
+    synchronized List<Path> listSegments() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (Segment segment : scanSegments()) {
+            paths.add(segment.path);
+        }
+        return paths;
+    }
+
+    /**
+     * Returns the segments of the newest generation found next to the data file, oldest first, with their commands
+     * not counted yet. Segments of earlier generations, left behind by a rewrite that was cut short, and segments
+     * left behind by a merge that was cut short are deleted.
+     */
+    private List<Segment> scanSegments() throws IOException {
+        Path folder = filePath.toAbsolutePath().getParent();
+        if (folder == null || !Files.isDirectory(folder)) {
+            return new ArrayList<>();
+        }
+
+        List<Segment> found = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder,
+                filePath.getFileName() + ".*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                Matcher matcher = segmentName.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    int generation = matcher.group(1) == null ? 0 : Integer.parseInt(matcher.group(1));
+                    long lastSequence = matcher.group(3) == null ? 0 : Long.parseLong(matcher.group(3));
+                    found.add(new Segment(filePath.resolveSibling(path.getFileName()), generation,
+                            Long.parseLong(matcher.group(2)), lastSequence, 0, 0));
+                }
+            }
+        }
+        // a merged segment comes before the segment it was merged from that starts at the same record
+        found.sort((first, second) -> first.firstSequence != second.firstSequence
+                ? Long.compare(first.firstSequence, second.firstSequence)
+                : Long.compare(second.lastSequence, first.lastSequence));
+
+        int newestGeneration = 0;
+        for (Segment segment : found) {
+            newestGeneration = Math.max(newestGeneration, segment.generation);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        for (Segment segment : found) {
+            Segment previous = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (segment.generation < newestGeneration) {
+                logger.info("Deleting command history segment " + segment.path + " replaced by a rewrite");
+                deleteSegment(segment.path);
+            } else if (previous != null && segment.firstSequence <= previous.lastSequence) {
+                logger.info("Deleting command history segment " + segment.path + " merged into " + previous.path);
+                deleteSegment(segment.path);
+            } else {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the path of a segment of {@code generation} starting at {@code firstSequence}, which is named after
+     * {@code lastSequence} too if it is positive. Segments of generation 0 are named without their generation.
+     */
+    private Path segmentPath(int generation, long firstSequence, long lastSequence) {
+        String prefix = generation > 0
+                ? String.format("%s.g%06d.", filePath.getFileName(), generation)
+                : filePath.getFileName() + ".";
+        String name = lastSequence > 0
+                ? String.format("%s%012d-%012d%s", prefix, firstSequence, lastSequence, SEGMENT_SUFFIX)
+                : String.format("%s%012d%s", prefix, firstSequence, SEGMENT_SUFFIX);
+        return filePath.resolveSibling(name);
+    }
+
+    /**
+     * Deletes the segment at {@code path} and its summary. The summary goes first, so that it is never left behind
+     * for a later segment of the same name.
+     */
+    private static void deleteSegment(Path path) throws IOException {
+        SegmentSummary.delete(path);
+        Files.deleteIfExists(path);
+    }
+
+    private static Path tempPathOf(Path segment) {
+        return segment.resolveSibling(segment.getFileName() + ".tmp");
+    }
+
+    /**
+     * Returns the intact records of the segment at {@code path}, in order, stopping at the first record that is
+     * torn, fails its checksum or is out of sequence. Segments are read into a heap buffer rather than mapped into
+     * memory, since a mapping is only released when it is garbage collected, and a mapped file cannot be deleted on
+     * some platforms until then, while segments are deleted when they are merged or rewritten.
+     */
+    private static List<Record> readSegment(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+        }
+
+        List<Record> records = new ArrayList<>();
+        int start = 0;
+        int limit = buffer.limit();
+        while (start < limit) {
+            int end = start;
+            while (end < limit && buffer.get(end) != '\n') {
+                end++;
+            }
+            Optional<Record> record = Optional.empty();
+            if (end < limit) {
+                byte[] line = new byte[end - start];
+                buffer.position(start);
+                buffer.get(line);
+                record = Record.parse(new String(line, StandardCharsets.UTF_8));
+            }
+            if (!record.isPresent()
+                    || (!records.isEmpty() && record.get().sequence <= records.get(records.size() - 1).sequence)) {
+                logger.warning("Ignoring damaged records at byte " + start + " of " + path);
+                break;
+            }
+            records.add(record.get());
+            start = end + 1;
+        }
+        return records;
+    }
+
+    private static String checksum(long sequence, String payload) {
+        CRC32 crc = new CRC32();
+        crc.update((sequence + FIELD_SEPARATOR + payload).getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * A segment file, and the position of its commands in the command history.
+     */
+    private static class Segment {
+        private final Path path;
+        private final int generation;
+        private final long firstSequence;
+        /** The sequence number of the last record of a merged segment, or 0 if it is not part of the name. */
+        private final long lastSequence;
+        private final int firstIndex;
+        private int count;
+
+        private Segment(Path path, int generation, long firstSequence, long lastSequence, int firstIndex,
+                        int count) {
+            this.path = path;
+            this.generation = generation;
+            this.firstSequence = firstSequence;
+            this.lastSequence = lastSequence;
+            this.firstIndex = firstIndex;
+            this.count = count;
+        }
+    }
+
+    /**
+     * The segments saved and the commands in each, as published to readers. It is never changed once published.
+     */
+    private static class SegmentTable {
+        private final List<Path> paths = new ArrayList<>();
+        private final int[] firstIndices;
+        private final int[] counts;
+        private final int size;
+
+        private SegmentTable(List<Segment> segments, int size) {
+            this.firstIndices = new int[segments.size()];
+            this.counts = new int[segments.size()];
+            this.size = size;
+            for (int i = 0; i < segments.size(); i++) {
+                paths.add(segments.get(i).path);
+                firstIndices[i] = segments.get(i).firstIndex;
+                counts[i] = segments.get(i).count;
+            }
+        }
+
+        /**
+         * Returns the position of the segment holding the command at {@code index}.
+         */
+        private int segmentIndexOf(int index) {
+            int low = 0;
+            int high = paths.size() - 1;
+            while (low < high) {
+                int middle = (low + high + 1) / 2;
+                if (firstIndices[middle] <= index) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Reads from the segments published at one point in time.
+     */
+    @FunctionalInterface
+    private interface TableReader<T> {
+        T read(SegmentTable table) throws IOException;
+    }
+
+    /**
+     * A record of a segment: one command and its position in the log.
+     */
+    private static class Record {
+        private final long sequence;
+        private final String payload;
+        private final String line;
+
+        private Record(long sequence, String payload, String line) {
+            this.sequence = sequence;
+            this.payload = payload;
+            this.line = line;
+        }
+
+        /**
+         * Returns the record written as {@code line}, or an empty {@code Optional} if the line is damaged.
+         * The command itself is only converted by {@link #toInputOutput()}.
+         */
+        static Optional<Record> parse(String line) {
+            String[] fields = line.split(FIELD_SEPARATOR, 3);
+            if (fields.length != 3) {
+                return Optional.empty();
+            }
+            try {
+                long sequence = Long.parseLong(fields[0]);
+                if (!checksum(sequence, fields[2]).equals(fields[1])) {
+                    return Optional.empty();
+                }
+                return Optional.of(new Record(sequence, fields[2], line));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        InputOutput toInputOutput() throws IllegalValueException {
+            try {
+                return JsonUtil.fromJsonString(payload, JsonAdaptedInputOutput.class).toLogicType();
+            } catch (IOException ioe) {
+                throw new IllegalValueException("Command history record " + sequence + " is not valid json");
+            }
+        }
+    }
+}
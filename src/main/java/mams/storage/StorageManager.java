@@ -97,6 +97,13 @@ public class StorageManager implements Storage {
         return commandHistoryStorage.readCommandHistory(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyCommandHistory> readRecentCommandHistory(int count)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read the last " + count + " commands of the command history");
+        return commandHistoryStorage.readRecentCommandHistory(count);
+    }
+
     @Override
     public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException {
         saveCommandHistory(commandHistory, commandHistoryStorage.getCommandHistoryFilePath());
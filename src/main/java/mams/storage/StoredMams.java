@@ -0,0 +1,86 @@
+package mams.storage;
+
+import static mams.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import mams.commons.exceptions.IllegalValueException;
+import mams.model.Mams;
+import mams.model.ReadOnlyMams;
+import mams.model.appeal.Appeal;
+import mams.model.appeal.exceptions.DuplicateAppealException;
+import mams.model.module.Module;
+import mams.model.module.exceptions.DuplicateModuleException;
+import mams.model.student.Student;
+import mams.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * The students, modules and appeals read from storage, already converted to the model's types but not yet
+ * checked for duplicates, together with the sequence number of the last delta log record they include.
+ */
+class StoredMams {
+
+    private final List<Student> students;
+    private final List<Module> modules;
+    private final List<Appeal> appeals;
+    private final long lastSequence;
+
+    StoredMams(List<Student> students, List<Module> modules, List<Appeal> appeals, long lastSequence) {
+        requireAllNonNull(students, modules, appeals);
+        this.students = Collections.unmodifiableList(students);
+        this.modules = Collections.unmodifiableList(modules);
+        this.appeals = Collections.unmodifiableList(appeals);
+        this.lastSequence = lastSequence;
+    }
+
+    /**
+     * Returns the contents of {@code mams}, recorded as including log records up to {@code lastSequence}.
+     */
+    static StoredMams of(ReadOnlyMams mams, long lastSequence) {
+        return new StoredMams(new ArrayList<>(mams.getStudentList()), new ArrayList<>(mams.getModuleList()),
+                new ArrayList<>(mams.getAppealList()), lastSequence);
+    }
+
+    List<Student> getStudents() {
+        return students;
+    }
+
+    List<Module> getModules() {
+        return modules;
+    }
+
+    List<Appeal> getAppeals() {
+        return appeals;
+    }
+
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Inserts the students, modules and appeals into a new {@code Mams} in bulk, modules first.
+     *
+     * @throws IllegalValueException if any of the lists contains duplicates.
+     */
+    public Mams toModelType() throws IllegalValueException {
+        Mams mams = new Mams();
+        try {
+            mams.addModules(modules);
+        } catch (DuplicateModuleException e) {
+            throw new IllegalValueException(JsonSerializableMams.MESSAGE_DUPLICATE_MODULE + " " + e.getMessage());
+        }
+        try {
+            mams.addStudents(students);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(JsonSerializableMams.MESSAGE_DUPLICATE_STUDENT + " " + e.getMessage());
+        }
+        try {
+            mams.addAppeals(appeals);
+        } catch (DuplicateAppealException e) {
+            throw new IllegalValueException(JsonSerializableMams.MESSAGE_DUPLICATE_APPEALS + " " + e.getMessage());
+        }
+        return mams;
+    }
+}
@@ -0,0 +1,148 @@
+package mams.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import mams.commons.exceptions.IllegalValueException;
+import mams.commons.util.JsonUtil;
+import mams.model.Mams;
+import mams.model.appeal.Appeal;
+import mams.model.module.Module;
+import mams.model.student.Student;
+
+/**
+ * Reads a MAMS json file as a stream of tokens instead of binding the whole file at once.
+ * Students, modules and appeals are read in batches, and each batch is converted to the model's types on a
+ * fork-join pool while the next one is parsed. Only a few batches wait to be converted at any time, so the
+ * memory used beyond the resulting {@code Mams} stays bounded however large the file is.
+ */
+class StreamingJsonMamsReader {
+
+    public static final String MESSAGE_NOT_A_LIST = "Expected a list of %s";
+
+    private static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final int maxPendingBatches;
+
+    StreamingJsonMamsReader() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    StreamingJsonMamsReader(ForkJoinPool pool, int batchSize) {
+        requireNonNull(pool);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.maxPendingBatches = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Returns the MAMS stored in {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Mams read(Path filePath) throws IOException, IllegalValueException {
+        return readStored(filePath).toModelType();
+    }
+
+    /**
+     * Returns the students, modules and appeals stored in {@code filePath}, which must exist, without checking
+     * them for duplicates.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if any entry violates the data constraints.
+     */
+    StoredMams readStored(Path filePath) throws IOException, IllegalValueException {
+        List<Student> students = new ArrayList<>();
+        List<Module> modules = new ArrayList<>();
+        List<Appeal> appeals = new ArrayList<>();
+        long lastSequence = 0;
+
+        try (JsonParser parser = JsonUtil.createFileParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException("Expected MAMS data", parser.getCurrentLocation());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                case "students":
+                    students = readList(parser, field, JsonAdaptedStudent.class, JsonAdaptedStudent::toModelType);
+                    break;
+                case "modules":
+                    modules = readList(parser, field, JsonAdaptedModule.class, JsonAdaptedModule::toModelType);
+                    break;
+                case "appeals":
+                    appeals = readList(parser, field, JsonAdaptedAppeal.class, JsonAdaptedAppeal::toModelType);
+                    break;
+                case "lastSequence":
+                    lastSequence = parser.getValueAsLong();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return new StoredMams(students, modules, appeals, lastSequence);
+    }
+
+    /**
+     * Reads the json list the parser is at, converting its entries in batches on the pool.
+     * The converted entries keep the order they have in the file.
+     */
+    private <J, M> List<M> readList(JsonParser parser, String field, Class<J> type, AdaptedConverter<J, M> converter)
+            throws IOException, IllegalValueException {
+        List<M> converted = new ArrayList<>();
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return converted;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(String.format(MESSAGE_NOT_A_LIST, field), parser.getCurrentLocation());
+        }
+
+        Deque<ForkJoinTask<List<M>>> pending = new ArrayDeque<>();
+        try {
+            List<J> batch = new ArrayList<>(batchSize);
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new JsonParseException("Unexpected end of file in " + field, parser.getCurrentLocation());
+                }
+                batch.add(parser.readValueAs(type));
+                if (batch.size() == batchSize) {
+                    pending.add(converter.convertAllOn(pool, batch));
+                    batch = new ArrayList<>(batchSize);
+                }
+                if (pending.size() > maxPendingBatches) {
+                    converted.addAll(AdaptedConverter.join(pending.poll()));
+                }
+            }
+            if (!batch.isEmpty()) {
+                pending.add(converter.convertAllOn(pool, batch));
+            }
+            while (!pending.isEmpty()) {
+                converted.addAll(AdaptedConverter.join(pending.poll()));
+            }
+        } finally {
+            pending.forEach(task -> task.cancel(false));
+        }
+        return converted;
+    }
+}
@@ -24,9 +24,8 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
-    private final List<InputOutput> commandHistory;
 
-    private ListPointer<InputOutput> commandHistoryPointer;
+    private final ListPointer<InputOutput> commandHistoryPointer;
 
     @FXML
     private TextField commandTextField;
@@ -34,8 +33,11 @@ public class CommandBox extends UiPart<Region> {
     public CommandBox(CommandExecutor commandExecutor, List<InputOutput> commandHistory) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        this.commandHistory = commandHistory;
-        this.commandHistoryPointer = new ListPointer<InputOutput>(commandHistory);
+        // the pointer reads straight from the command history, which is only ever appended to. The dummy
+        // InputOutput with input set to an empty string represents the most-recent end of the history, to be
+        // shown to the user if he/she tries to navigate past the most-recent end.
+        this.commandHistoryPointer = new ListPointer<InputOutput>(commandHistory,
+                new InputOutput("", "", false, new TimeStamp()));
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
     }
@@ -47,11 +49,14 @@ public class CommandBox extends UiPart<Region> {
     private void handleCommandEntered() {
         try {
             commandExecutor.execute(commandTextField.getText());
-            reinitializeHistoryPointer();
-            commandHistoryPointer.next();
+            commandHistoryPointer.moveToEnd();
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
-            reinitializeHistoryPointer();
+            // the failed command is kept in the text field, so point at it rather than past it
+            commandHistoryPointer.moveToEnd();
+            if (commandHistoryPointer.hasPrevious()) {
+                commandHistoryPointer.previous();
+            }
             setStyleToIndicateCommandFailure();
         }
     }
@@ -77,24 +82,34 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Updates the text field with the previous input pointed to by {@code commandHistoryPointer} in
-     * {@code commandHistory}, if there exists a previous input.
+     * {@code commandHistory}, if there exists a previous input. Commands that could not be read back from storage
+     * are null, and are skipped over.
      */
     private void getPreviousInput() {
-        if (!commandHistoryPointer.hasPrevious()) {
+        InputOutput previous = null;
+        while (previous == null && commandHistoryPointer.hasPrevious()) {
+            previous = commandHistoryPointer.previous();
+        }
+        if (previous == null) {
             return;
         }
-        replaceText(commandHistoryPointer.previous().getInput());
+        replaceText(previous.getInput());
     }
 
     /**
      * Updates the text field with the next input pointed to by {@code commandHistoryPointer} in
-     * {@code commandHistory}, if there exists a next input.
+     * {@code commandHistory}, if there exists a next input. Commands that could not be read back from storage
+     * are null, and are skipped over.
      */
     private void getNextInput() {
-        if (!commandHistoryPointer.hasNext()) {
+        InputOutput next = null;
+        while (next == null && commandHistoryPointer.hasNext()) {
+            next = commandHistoryPointer.next();
+        }
+        if (next == null) {
             return;
         }
-        replaceText(commandHistoryPointer.next().getInput());
+        replaceText(next.getInput());
     }
 
     /**
@@ -106,17 +121,6 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.positionCaret(commandTextField.getText().length());
     }
 
-    /**
-     * Initializes the history snapshot.
-     */
-    private void reinitializeHistoryPointer() {
-        commandHistoryPointer = new ListPointer<InputOutput>(commandHistory);
-        // add an dummy InputOutput with input set to an empty string
-        // to represent the most-recent end of the defensive list in ListPointer, to be shown to
-        // the user if he/she tries to navigate past the most-recent end.
-        commandHistoryPointer.add(new InputOutput("", "", false, new TimeStamp()));
-    }
-
     /**
      * Sets the command box style to use the default style.
      */
@@ -9,6 +9,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import mams.model.appeal.Appeal;
+import mams.model.appeal.AppealResult;
 import mams.ui.UiPart;
 
 /**
@@ -65,7 +66,7 @@ public class AppealCard extends UiPart<Region> {
         academicYear.setText(appeal.getAcademicYear());
         // TODO change once aaron implements getter method
         setApprovalStatusDisplay(approvalIcon, approvalStatus, appeal.isResolved(),
-                appeal.getResult().equals("APPROVED"));
+                appeal.getAppealResult() == AppealResult.APPROVED);
         setResolvedStatusDisplay(resolvedStatus, appeal.isResolved());
     }
 
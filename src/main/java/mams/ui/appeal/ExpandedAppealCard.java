@@ -10,6 +10,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import mams.model.appeal.Appeal;
+import mams.model.appeal.AppealResult;
 import mams.ui.UiPart;
 
 /**
@@ -74,7 +75,7 @@ public class ExpandedAppealCard extends UiPart<Region> {
         adminRemarks.setText(appeal.getRemark());
         setResolvedStatusDisplay(resolvedStatus, appeal.isResolved());
         setApprovalStatusDisplay(approvalIcon, approvalStatus, appeal.isResolved(),
-                appeal.getResult().equals("APPROVED"));
+                appeal.getAppealResult() == AppealResult.APPROVED);
     }
 
     @Override
@@ -16,6 +16,8 @@ import mams.ui.appeal.AppealListPanel;
 
 /**
  * Panel displaying command history in list form.
+ * The list view only asks for the commands in view, so older commands that are no longer kept in memory are
+ * read back from storage a page at a time as the user scrolls up to them.
  */
 public class HistoryListPanel extends UiPart<Region> {
     private static final String FXML = "ItemListPanel.fxml";
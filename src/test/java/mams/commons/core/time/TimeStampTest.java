@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.Objects;
 
@@ -58,4 +59,23 @@ public class TimeStampTest {
         assertFalse(TIME_STAMP_1.equals(TIME_STAMP_3));
         assertFalse(TIME_STAMP_1.equals(TIME_STAMP_4));
     }
+
+    @Test
+    public void toString_localDateTime_formattedInSystemTimeZone() {
+        TimeStamp timeStamp = new TimeStamp(LocalDateTime.of(2019, 11, 1, 9, 5, 2));
+        assertEquals("[2019-11-01|09:05:02]", timeStamp.toString());
+        // formatted only once, then cached
+        assertTrue(timeStamp.toString() == timeStamp.toString());
+    }
+
+    @Test
+    public void compareTo() {
+        TimeStamp later = new TimeStamp(TIME_STAMP_1.asUnixTime() + 1);
+
+        // same second but different milliseconds -> equal, but still ordered
+        assertEquals(TIME_STAMP_1, later);
+        assertTrue(TIME_STAMP_1.compareTo(later) < 0);
+        assertTrue(later.compareTo(TIME_STAMP_1) > 0);
+        assertEquals(0, TIME_STAMP_1.compareTo(new TimeStamp(TIME_STAMP_1.asUnixTime())));
+    }
 }
@@ -1,12 +1,15 @@
 package mams.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
+import mams.testutil.Assert;
 import mams.testutil.SerializableTestClass;
 import mams.testutil.TestUtil;
 
@@ -39,6 +42,40 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_compact_writesSingleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE, true);
+
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(Files.exists(getTempFile()));
+    }
+
+    @Test
+    public void saveJsonFile_serializationFails_existingFileKept() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        Assert.assertThrows(IOException.class, () -> JsonUtil.saveJsonFile(new UnserializableClass(),
+                SERIALIZATION_FILE));
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(Files.exists(getTempFile()));
+    }
+
+    private static Path getTempFile() {
+        return SERIALIZATION_FILE.resolveSibling(SERIALIZATION_FILE.getFileName() + ".tmp");
+    }
+
+    /**
+     * A class that Jackson fails to serialize partway through, as its second field has no properties.
+     */
+    private static class UnserializableClass {
+        private String name = "partial";
+        private Object value = new Object();
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
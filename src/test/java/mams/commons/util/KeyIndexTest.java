@@ -0,0 +1,103 @@
+package mams.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import mams.testutil.Assert;
+
+/**
+ * The index is exercised with plain Strings keyed by their prefix before the first '-',
+ * so that several distinct elements can share a key.
+ */
+public class KeyIndexTest {
+    private static final String FIRST_CS = "CS1010-first";
+    private static final String SECOND_CS = "cs1010-second";
+    private static final String MATH = "MA1101-only";
+
+    private final KeyIndex<String> index = new KeyIndex<>(s -> s.contains("-") ? s.split("-")[0] : null);
+
+    @Test
+    public void constructor_nullExtractor_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new KeyIndex<String>(null));
+    }
+
+    @Test
+    public void getFirst_emptyIndex_returnsEmpty() {
+        assertFalse(index.getFirst("CS1010").isPresent());
+        assertTrue(index.getAll("CS1010").isEmpty());
+    }
+
+    @Test
+    public void getFirst_differentCase_returnsElement() {
+        index.add(FIRST_CS);
+        assertEquals(Optional.of(FIRST_CS), index.getFirst("cs1010"));
+        assertEquals(Optional.of(FIRST_CS), index.getFirst("CS1010"));
+    }
+
+    @Test
+    public void add_sharedKey_keepsInsertionOrder() {
+        index.add(FIRST_CS);
+        index.add(SECOND_CS);
+        assertEquals(Arrays.asList(FIRST_CS, SECOND_CS), index.getAll("Cs1010"));
+        assertEquals(Optional.of(FIRST_CS), index.getFirst("CS1010"));
+    }
+
+    @Test
+    public void add_nullKey_notIndexed() {
+        index.add("no key");
+        assertFalse(index.getFirst("no key").isPresent());
+    }
+
+    @Test
+    public void remove_lastElementWithKey_keyNoLongerFound() {
+        index.add(FIRST_CS);
+        index.add(MATH);
+        index.remove(FIRST_CS);
+        assertFalse(index.getFirst("CS1010").isPresent());
+        assertEquals(Optional.of(MATH), index.getFirst("MA1101"));
+    }
+
+    @Test
+    public void remove_firstOfSharedKey_fallsBackToNext() {
+        index.add(FIRST_CS);
+        index.add(SECOND_CS);
+        index.remove(FIRST_CS);
+        assertEquals(Optional.of(SECOND_CS), index.getFirst("CS1010"));
+    }
+
+    @Test
+    public void replace_sameKey_keepsPosition() {
+        index.add(FIRST_CS);
+        index.add(SECOND_CS);
+        index.replace(FIRST_CS, "CS1010-edited");
+        assertEquals(Arrays.asList("CS1010-edited", SECOND_CS), index.getAll("CS1010"));
+    }
+
+    @Test
+    public void replace_differentKey_movesElement() {
+        index.add(FIRST_CS);
+        index.replace(FIRST_CS, "MA1101-moved");
+        assertFalse(index.getFirst("CS1010").isPresent());
+        assertEquals(Optional.of("MA1101-moved"), index.getFirst("MA1101"));
+    }
+
+    @Test
+    public void setAll_discardsPreviousContents() {
+        index.add(FIRST_CS);
+        index.setAll(Arrays.asList(MATH));
+        assertFalse(index.getFirst("CS1010").isPresent());
+        assertEquals(Optional.of(MATH), index.getFirst("ma1101"));
+    }
+
+    @Test
+    public void getAll_modifyView_throwsUnsupportedOperationException() {
+        index.add(FIRST_CS);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> index.getAll("CS1010").add(SECOND_CS));
+    }
+}
@@ -1,5 +1,6 @@
 package mams.commons.util;
 
+import static mams.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -82,6 +83,40 @@ public class ListPointerTest {
         assertPreviousFailure();
     }
 
+    @Test
+    public void liveList_appendedElements_seenWithoutCopy() {
+        String sentinel = "";
+        stringPointer = new ListPointer<String>(stringElements, sentinel);
+
+        assertCurrentSuccess(sentinel);
+        assertNextFailure();
+        assertPreviousSuccess(SECOND_ELEMENT);
+
+        String thirdElement = "third";
+        stringElements.add(thirdElement);
+        assertNextSuccess(thirdElement);
+        assertNextSuccess(sentinel);
+
+        stringElements.add("fourth");
+        stringPointer.moveToEnd();
+        assertCurrentSuccess(sentinel);
+        assertPreviousSuccess("fourth");
+    }
+
+    @Test
+    public void liveList_emptyList_onlySentinel() {
+        stringPointer = new ListPointer<String>(new ArrayList<>(), "");
+        assertCurrentSuccess("");
+        assertPreviousFailure();
+        assertNextFailure();
+    }
+
+    @Test
+    public void add_liveList_throwsUnsupportedOperationException() {
+        stringPointer = new ListPointer<String>(stringElements, "");
+        assertThrows(UnsupportedOperationException.class, () -> stringPointer.add(FIRST_ELEMENT));
+    }
+
     @Test
     public void equals() {
         ListPointer firstPointer = new ListPointer<String>(stringElements);
@@ -107,6 +142,9 @@ public class ListPointerTest {
         // different index -> returns false
         firstPointerCopy.previous();
         assertFalse(firstPointer.equals(firstPointerCopy));
+
+        // live pointer over the same elements -> returns false
+        assertFalse(new ListPointer<String>(stringElements, "").equals(new ListPointer<String>(stringElements)));
     }
 
     /**
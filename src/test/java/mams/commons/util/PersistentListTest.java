@@ -0,0 +1,151 @@
+package mams.commons.util;
+
+import static mams.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertSame(list, PersistentList.copyOf(list));
+        assertSame(PersistentList.empty(), PersistentList.copyOf(Collections.emptyList()));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withAdded(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withRemoved(2));
+    }
+
+    @Test
+    public void listMutators_throwUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void changes_leaveOldVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+        PersistentList<String> set = original.withSet(1, "x");
+        PersistentList<String> added = original.withAdded(0, "z");
+        PersistentList<String> removed = original.withRemoved(2);
+        PersistentList<String> appended = original.withAddedAll(Arrays.asList("d", "e"));
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "x", "c"), set);
+        assertEquals(Arrays.asList("z", "a", "b", "c"), added);
+        assertEquals(Arrays.asList("a", "b"), removed);
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), appended);
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0 || operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.withAdded(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.withSet(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.withRemoved(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(expectedVersions, versions);
+    }
+
+    @Test
+    public void changesTo_randomChanges_turnOldVersionIntoNew() {
+        Random random = new Random(2104);
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            list = list.withAdded(i);
+        }
+
+        for (int round = 0; round < 50; round++) {
+            PersistentList<Integer> before = list;
+            for (int i = 0; i < 1 + random.nextInt(5); i++) {
+                int operation = list.isEmpty() ? 0 : random.nextInt(3);
+                if (operation == 0) {
+                    list = list.withAdded(random.nextInt(list.size() + 1), -i);
+                } else if (operation == 1) {
+                    list = list.withSet(random.nextInt(list.size()), -i);
+                } else {
+                    list = list.withRemoved(random.nextInt(list.size()));
+                }
+            }
+
+            List<Integer> changed = new ArrayList<>(before);
+            for (PersistentList.Change change : before.changesTo(list)) {
+                // each change only covers a few elements, even when the lists are long
+                assertTrue(change.getRemoved() <= 5 && change.getAdded() <= 5);
+                changed.subList(change.getFrom(), change.getFrom() + change.getRemoved()).clear();
+                changed.addAll(change.getFrom(), list.subList(change.getFrom(), change.getFrom() + change.getAdded()));
+            }
+            assertEquals(list, changed);
+        }
+    }
+
+    @Test
+    public void changesTo_sameList_noChanges() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertTrue(list.changesTo(list).isEmpty());
+        assertTrue(list.changesTo(PersistentList.copyOf(new ArrayList<>(list))).isEmpty());
+    }
+
+    @Test
+    public void withAdded_manyElements_staysBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100000; i++) {
+            list = list.withAdded(i);
+        }
+        // an unbalanced tree would overflow the stack while removing from the far end
+        for (int i = 0; i < 1000; i++) {
+            list = list.withRemoved(list.size() - 1);
+        }
+        assertEquals(99000, list.size());
+        assertEquals(Integer.valueOf(98999), list.get(98999));
+    }
+}
@@ -0,0 +1,75 @@
+package mams.commons.util;
+
+import static mams.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedIntSetTest {
+
+    @Test
+    public void add_keepsValuesSortedAndUnique() {
+        SortedIntSet set = new SortedIntSet();
+        for (int value : new int[] {5, 1, 9, 3, 7, 1, 5}) {
+            set.add(value);
+        }
+
+        assertArrayEquals(new int[] {1, 3, 5, 7, 9}, set.toArray());
+        assertEquals(5, set.size());
+        assertFalse(set.add(3));
+        assertTrue(set.add(4));
+    }
+
+    @Test
+    public void remove() {
+        SortedIntSet set = new SortedIntSet();
+        set.add(2);
+        set.add(4);
+        set.add(6);
+
+        assertTrue(set.remove(4));
+        assertFalse(set.remove(4));
+        assertFalse(set.contains(4));
+        assertArrayEquals(new int[] {2, 6}, set.toArray());
+    }
+
+    @Test
+    public void add_manyValues_grows() {
+        SortedIntSet set = new SortedIntSet();
+        for (int value = 999; value >= 0; value--) {
+            set.add(value);
+        }
+
+        assertEquals(1000, set.size());
+        assertEquals(0, set.get(0));
+        assertEquals(999, set.get(999));
+        assertTrue(set.contains(500));
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        SortedIntSet set = new SortedIntSet();
+        set.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(1));
+    }
+
+    @Test
+    public void equals() {
+        SortedIntSet set = new SortedIntSet();
+        set.add(1);
+        set.add(2);
+        SortedIntSet other = new SortedIntSet();
+        other.add(2);
+        other.add(1);
+
+        assertEquals(set, other);
+        assertEquals(set.hashCode(), other.hashCode());
+
+        other.clear();
+        assertTrue(other.isEmpty());
+        assertFalse(set.equals(other));
+    }
+}
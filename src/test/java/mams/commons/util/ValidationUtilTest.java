@@ -0,0 +1,74 @@
+package mams.commons.util;
+
+import static mams.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    /** Inputs that exercise the edges of every format: empty, whitespace, line breaks, non-ASCII and separators. */
+    private static final List<String> SAMPLES = Arrays.asList("", " ", "a", "A", "0", "12", "123", "CS1010",
+            "CS101", "CS10101", "cs1010", "CS1O10", "C000123", "C00012", "C0001234", "c000123", "AY1920", "AY192",
+            "AY19201", "ay1920", "A0123456H", "John Doe", " John", "John ", "John\tDoe", "John\nDoe", "John-Doe",
+            "J\u00f6hn", "\u0661\u0662", "Data Structures", "CS1010, CS1231", "CS1010,CS1231", ",CS1010", "CS1010,",
+            "CS1010,,CS1231", "R&D, CS1231", "CS1010 , CS1231", " , ", "a,b,c", "CS1010;CS1231", "\tCS1010",
+            "desc more", "desc\u0085", "x\r", "\u000B");
+
+    @Test
+    public void isPrefixedDigits_matchesRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("CS\\d{4}$"), ValidationUtil.isPrefixedDigits(sample, "CS", 4), sample);
+            assertEquals(sample.matches("C\\d{6}$"), ValidationUtil.isPrefixedDigits(sample, "C", 6), sample);
+            assertEquals(sample.matches("AY\\d{4}"), ValidationUtil.isPrefixedDigits(sample, "AY", 4), sample);
+        }
+    }
+
+    @Test
+    public void isDigits_matchesRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\d{2,}"), ValidationUtil.isDigits(sample, 2), sample);
+        }
+    }
+
+    @Test
+    public void isAlphanumeric_matchesRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(sample), sample);
+            assertEquals(sample.matches("[\\p{Alnum}][\\p{Alnum} ]*"), ValidationUtil.isAlphanumericWords(sample),
+                    sample);
+        }
+    }
+
+    @Test
+    public void isLineNotStartingWithWhitespace_matchesRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("[^\\s].*"), ValidationUtil.isLineNotStartingWithWhitespace(sample), sample);
+        }
+    }
+
+    @Test
+    public void isCommaSeparatedList_matchesRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("^([\\p{Alnum}&\\s]+,)+[\\p{Alnum}&\\s]+$"),
+                    ValidationUtil.isCommaSeparatedList(sample), sample);
+        }
+        assertTrue(ValidationUtil.isCommaSeparatedList("CS1010, CS1231"));
+        assertFalse(ValidationUtil.isCommaSeparatedList("CS1010"));
+    }
+
+    @Test
+    public void validators_nullInput_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isPrefixedDigits(null, "CS", 4));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 2));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isLineNotStartingWithWhitespace(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isCommaSeparatedList(null));
+    }
+}
@@ -4,6 +4,7 @@ import static mams.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static mams.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static mams.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -17,7 +18,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import mams.commons.core.Messages;
 import mams.logic.commands.CommandResult;
+import mams.logic.commands.ExitCommand;
 import mams.logic.commands.HistoryCommand;
 import mams.logic.commands.ListCommand;
 import mams.logic.commands.ViewCommand;
@@ -184,6 +187,19 @@ public class LogicManagerTest {
         assertHistorySuccess(executedInputs, outputs, commandExecutionStatus);
     }
 
+    @Test
+    public void execute_failedUndoableCommand_undoStateNotCommitted() throws Exception {
+        // an approve that fails leaves nothing to undo
+        assertCommandException("approve a/1 r/quota exceeded", Messages.MESSAGE_INVALID_APPEAL_DISPLAYED_INDEX);
+        assertFalse(model.canUndoMams());
+    }
+
+    @Test
+    public void execute_undoableCommandChangingNothing_undoStateNotCommitted() throws Exception {
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertFalse(model.canUndoMams());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonMamsIoExceptionThrowingStub
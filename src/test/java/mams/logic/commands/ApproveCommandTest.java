@@ -1,8 +1,11 @@
 package mams.logic.commands;
 
 import static mams.logic.commands.AddModCommand.MESSAGE_STUDENT_ADD_MOD;
+import static mams.logic.commands.Approve.MESSAGE_APPROVE_FAIL;
 import static mams.logic.commands.CommandTestUtil.assertCommandFailure;
 import static mams.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static mams.logic.commands.ModCommand.MESSAGE_INVALID_MODULE;
+import static mams.logic.commands.RemoveModCommand.MESSAGE_MISSING_MODULE;
 import static mams.logic.commands.RemoveModCommand.MESSAGE_STUDENT_REMOVE_MOD;
 import static mams.logic.commands.SetCredits.MESSAGE_STUDENT_CREDIT_CHANGE;
 import static mams.testutil.TypicalIndexes.INDEX_FIRST;
@@ -10,6 +13,7 @@ import static mams.testutil.TypicalIndexes.INDEX_FOURTH;
 import static mams.testutil.TypicalIndexes.INDEX_MAX_INT;
 import static mams.testutil.TypicalIndexes.INDEX_SECOND;
 import static mams.testutil.TypicalMams.getTypicalMams;
+import static mams.testutil.TypicalModules.CS1010;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -24,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import mams.commons.core.Messages;
 import mams.commons.core.index.Index;
+import mams.model.Mams;
 import mams.model.Model;
 import mams.model.ModelManager;
 import mams.model.UserPrefs;
@@ -32,6 +37,7 @@ import mams.model.module.Module;
 import mams.model.student.Credits;
 import mams.model.student.Student;
 import mams.model.tag.Tag;
+import mams.testutil.StudentBuilder;
 
 public class ApproveCommandTest {
 
@@ -79,6 +85,36 @@ public class ApproveCommandTest {
     }
 
 
+    @Test
+    public void execute_dropModuleNotInMams_throwsCommandException() {
+        // the student still has a tag for a module that is no longer in MAMS
+        Model dropModel = new ModelManager(withDropModuleAppeal("A0180000A", "CS9999"), new UserPrefs());
+        assertCommandFailure(new ApproveCommand(INDEX_FIRST, ""), dropModel, MESSAGE_INVALID_MODULE + " "
+                + String.format(MESSAGE_APPROVE_FAIL, "C000001"));
+    }
+
+    @Test
+    public void execute_dropModuleNotTaken_throwsCommandException() {
+        // the student of the appeal is found ignoring the case of its matric ID
+        Model dropModel = new ModelManager(withDropModuleAppeal("a0180000a", CS1010.getModuleCode()),
+                new UserPrefs());
+        assertCommandFailure(new ApproveCommand(INDEX_FIRST, ""), dropModel, MESSAGE_MISSING_MODULE + " "
+                + String.format(MESSAGE_APPROVE_FAIL, "C000001"));
+    }
+
+    /**
+     * Returns MAMS holding CS1010, the student A0180000A taking only CS9999, which is not in MAMS, and an appeal
+     * by {@code studentId} to drop {@code moduleCode}.
+     */
+    private static Mams withDropModuleAppeal(String studentId, String moduleCode) {
+        Mams mams = new Mams();
+        mams.addModule(CS1010);
+        mams.addStudent(new StudentBuilder().withMatricId("A0180000A").withTags("CS9999").build());
+        mams.addAppeal(new Appeal("C000001", "drop module", studentId, "AY2019", 20, "", "", "", "",
+                moduleCode, false, ""));
+        return mams;
+    }
+
     @Test
     public void execute_validAppealIndex_success() {
 
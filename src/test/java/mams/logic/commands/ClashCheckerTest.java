@@ -0,0 +1,45 @@
+package mams.logic.commands;
+
+import static mams.testutil.TypicalModules.CS1010;
+import static mams.testutil.TypicalModules.CS1020;
+import static mams.testutil.TypicalModules.CS1231;
+import static mams.testutil.TypicalModules.CS2040;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ClashCheckerTest {
+
+    @Test
+    public void getClashCase() {
+        // same time slots -> clash on every slot
+        ClashCommand.ClashCase expected = new ClashCommand.ClashCase();
+        expected.setModuleA(CS1010);
+        expected.setModuleB(CS1231);
+        expected.setClashingSlots(new ArrayList<>(Arrays.asList(1, 2, 45, 46, 47)));
+        assertEquals(expected, ClashChecker.getClashCase(CS1010, CS1231).get());
+
+        // disjoint time slots -> no clash
+        assertFalse(ClashChecker.getClashCase(CS1010, CS1020).isPresent());
+    }
+
+    @Test
+    public void getClashCases() {
+        List<ClashCommand.ClashCase> clashCases =
+                ClashChecker.getClashCases(CS1231, Arrays.asList(CS1020, CS1010, CS2040));
+        assertEquals(1, clashCases.size());
+        assertEquals("CS1010", clashCases.get(0).getModuleCodeA());
+        assertEquals("CS1231", clashCases.get(0).getModuleCodeB());
+
+        // no current modules -> no clash
+        assertTrue(ClashChecker.getClashCases(CS1231, new ArrayList<>()).isEmpty());
+
+        assertEquals(clashCases.get(0).toString(), ClashChecker.getClashDetails(clashCases));
+    }
+}
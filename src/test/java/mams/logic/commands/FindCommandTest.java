@@ -23,6 +23,7 @@ import mams.commons.core.Messages;
 import mams.model.Model;
 import mams.model.ModelManager;
 import mams.model.UserPrefs;
+import mams.model.appeal.Appeal;
 import mams.model.appeal.AppealContainsKeywordsPredicate;
 import mams.model.module.ModuleContainsKeywordsPredicate;
 import mams.model.student.StudentContainsKeywordsPredicate;
@@ -177,6 +178,22 @@ public class FindCommandTest {
 
     }
 
+    @Test
+    public void execute_appealEditedAfterFind_appealStillListed() {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(prepareAppealPredicate("unresolved"));
+        new FindCommand(predicates).execute(model, null);
+        int foundCount = model.getFilteredAppealList().size();
+        assertTrue(model.getFilteredAppealList().contains(APPEAL1));
+
+        Appeal approvedAppeal = new Appeal(APPEAL1.getAppealId(), APPEAL1.getAppealType(), APPEAL1.getStudentId(),
+                APPEAL1.getAcademicYear(), APPEAL1.getStudentWorkload(), APPEAL1.getAppealDescription(), "", "",
+                APPEAL1.getModuleToAdd(), "", true, "approved");
+        model.setAppeal(APPEAL1, approvedAppeal);
+        assertEquals(foundCount, model.getFilteredAppealList().size());
+        assertTrue(model.getFilteredAppealList().contains(approvedAppeal));
+    }
+
     /**
      * Parses {@code userInput} into a {@code StudentContainsKeywordsPredicate}.
      */
@@ -3,6 +3,8 @@ package mams.logic.commands;
 import static mams.logic.commands.CommandTestUtil.assertCommandSuccessWithHistory;
 import static mams.testutil.TypicalCommandHistory.getTypicalCommandHistory;
 import static mams.testutil.TypicalMams.getTypicalMams;
+import static mams.testutil.TypicalTimeStamps.TIME_STAMP_2;
+import static mams.testutil.TypicalTimeStamps.TIME_STAMP_4;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -94,6 +96,49 @@ public class HistoryCommandTest {
                 expectedCommandHistory);
     }
 
+    @Test
+    public void execute_hideSuccessfulCommands_historyFilteredListChangedAndFailuresCounted() {
+        expectedCommandHistory.updateFilteredCommandHistory(inputOutput -> !inputOutput.checkSuccessful());
+        // show only unsuccessful commands -> success with number of unsuccessful commands
+        assertCommandSuccessWithHistory(new HistoryCommand(false, HistoryFilterSettings.SHOW_ONLY_UNSUCCESSFUL),
+                model,
+                new CommandResult(HistoryCommand.SHOWING_HISTORY_MESSAGE + "\n"
+                        + String.format(HistoryCommand.SHOW_ONLY_UNSUCCESSFUL_MESSAGE, 2),
+                        true, false, false, false),
+                expectedModel,
+                commandHistory,
+                expectedCommandHistory);
+    }
+
+    @Test
+    public void execute_commandWord_historyFilteredListChangedAndCommandsCounted() {
+        expectedCommandHistory.updateFilteredCommandHistory(inputOutput -> inputOutput.getInput().startsWith("list"));
+        // show only commands entered with a command word -> success with number of those commands
+        assertCommandSuccessWithHistory(new HistoryCommand(false, HistoryFilterSettings.SHOW_ONLY_COMMAND_WORD, "list"),
+                model,
+                new CommandResult(HistoryCommand.SHOWING_HISTORY_MESSAGE + "\n"
+                        + String.format(HistoryCommand.SHOW_ONLY_COMMAND_WORD_MESSAGE, 2, "list"),
+                        true, false, false, false),
+                expectedModel,
+                commandHistory,
+                expectedCommandHistory);
+    }
+
+    @Test
+    public void execute_timeRange_historyFilteredListChangedAndCommandsCounted() {
+        expectedCommandHistory.updateFilteredCommandHistory(inputOutput ->
+                inputOutput.getTimeStamp().compareTo(TIME_STAMP_2) >= 0
+                        && inputOutput.getTimeStamp().compareTo(TIME_STAMP_4) < 0);
+        // show only commands entered in a time range, which excludes its end -> success with number of those commands
+        assertCommandSuccessWithHistory(new HistoryCommand(false, TIME_STAMP_2, TIME_STAMP_4), model,
+                new CommandResult(HistoryCommand.SHOWING_HISTORY_MESSAGE + "\n"
+                        + String.format(HistoryCommand.SHOW_ONLY_TIME_RANGE_MESSAGE, 2, TIME_STAMP_2, TIME_STAMP_4),
+                        true, false, false, false),
+                expectedModel,
+                commandHistory,
+                expectedCommandHistory);
+    }
+
     @Test
     public void equals() {
         HistoryCommand showOutput = new HistoryCommand(false, HistoryFilterSettings.SHOW_ALL);
@@ -115,5 +160,11 @@ public class HistoryCommandTest {
 
         // different internal values -> returns false
         assertFalse(showOutput.equals(hideOutput));
+        assertFalse(new HistoryCommand(false, HistoryFilterSettings.SHOW_ONLY_COMMAND_WORD, "list")
+                .equals(new HistoryCommand(false, HistoryFilterSettings.SHOW_ONLY_COMMAND_WORD, "add")));
+        assertTrue(new HistoryCommand(false, TIME_STAMP_2, TIME_STAMP_4)
+                .equals(new HistoryCommand(false, TIME_STAMP_2, TIME_STAMP_4)));
+        assertFalse(new HistoryCommand(false, TIME_STAMP_2, TIME_STAMP_4)
+                .equals(new HistoryCommand(false, TIME_STAMP_2, TIME_STAMP_2)));
     }
 }
@@ -23,11 +23,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import mams.commons.core.time.TimeStamp;
+
 public class CommandHistoryTest {
     private CommandHistory commandHistory;
 
@@ -116,4 +120,138 @@ public class CommandHistoryTest {
         // different internal values, returns false
         assertFalse(commandHistory.equals(differentCommandHistory));
     }
+
+    @Test
+    public void updateFilteredCommandHistory_indexedFilters_keptUpToDateOnAdd() {
+        commandHistory.add(SUCCESS_COMMAND_1, SUCCESS_COMMAND_OUTPUT_1, true, TIME_STAMP_1);
+        commandHistory.add(UNSUCCESSFUL_COMMAND_1, UNSUCCESSFUL_COMMAND_OUTPUT, false, TIME_STAMP_3);
+        assertEquals(1, commandHistory.getNumberOfUnsuccessfulCommands());
+
+        commandHistory.updateFilteredCommandHistory(InputOutput.PREDICATE_SHOW_ONLY_UNSUCCESSFUL);
+        assertEquals(Arrays.asList(UNSUCCESSFUL_IO_1), commandHistory.getFilteredCommandHistory());
+
+        // commands added after the index is built are indexed and filtered as they come
+        commandHistory.add(SUCCESS_COMMAND_2, SUCCESS_COMMAND_OUTPUT_2, true, TIME_STAMP_2);
+        commandHistory.add(UNSUCCESSFUL_COMMAND_2, UNSUCCESSFUL_COMMAND_OUTPUT, false, TIME_STAMP_4);
+        assertEquals(2, commandHistory.getNumberOfUnsuccessfulCommands());
+        assertEquals(Arrays.asList(UNSUCCESSFUL_IO_1, UNSUCCESSFUL_IO_2), commandHistory.getFilteredCommandHistory());
+
+        commandHistory.updateFilteredCommandHistory(InputOutput.PREDICATE_SHOW_ONLY_SUCCESSFUL);
+        assertEquals(Arrays.asList(SUCCESSFUL_IO_1, SUCCESSFUL_IO_2), commandHistory.getFilteredCommandHistory());
+
+        // "list" and "list -a" share a command word
+        assertEquals(2, commandHistory.getNumberOfCommands(SUCCESS_COMMAND_1));
+        commandHistory.updateFilteredCommandHistory(SUCCESS_COMMAND_1);
+        assertEquals(Arrays.asList(SUCCESSFUL_IO_1, SUCCESSFUL_IO_2), commandHistory.getFilteredCommandHistory());
+        commandHistory.updateFilteredCommandHistory(UNSUCCESSFUL_COMMAND_2);
+        assertEquals(Arrays.asList(UNSUCCESSFUL_IO_2), commandHistory.getFilteredCommandHistory());
+        assertEquals(0, commandHistory.getNumberOfCommands("unknown"));
+    }
+
+    @Test
+    public void getCommandsBetween_timeRange_commandsInRangeOnly() {
+        commandHistory.add(SUCCESS_COMMAND_1, SUCCESS_COMMAND_OUTPUT_1, true, TIME_STAMP_1);
+        commandHistory.add(SUCCESS_COMMAND_2, SUCCESS_COMMAND_OUTPUT_2, true, TIME_STAMP_2);
+        commandHistory.add(UNSUCCESSFUL_COMMAND_1, UNSUCCESSFUL_COMMAND_OUTPUT, false, TIME_STAMP_3);
+        commandHistory.add(UNSUCCESSFUL_COMMAND_2, UNSUCCESSFUL_COMMAND_OUTPUT, false, TIME_STAMP_4);
+
+        // start is inclusive, end is exclusive
+        assertEquals(Arrays.asList(SUCCESSFUL_IO_2, UNSUCCESSFUL_IO_1),
+                commandHistory.getCommandsBetween(TIME_STAMP_2, TIME_STAMP_4));
+        assertEquals(Arrays.asList(UNSUCCESSFUL_IO_1),
+                commandHistory.getCommandsBetween(new TimeStamp(TIME_STAMP_2.asUnixTime() + 1),
+                        new TimeStamp(TIME_STAMP_4.asUnixTime() - 1)));
+
+        // empty and reversed ranges
+        assertTrue(commandHistory.getCommandsBetween(new TimeStamp(0), TIME_STAMP_1).isEmpty());
+        assertTrue(commandHistory.getCommandsBetween(TIME_STAMP_4, TIME_STAMP_1).isEmpty());
+
+        commandHistory.updateFilteredCommandHistory(TIME_STAMP_1, TIME_STAMP_3);
+        assertEquals(Arrays.asList(SUCCESSFUL_IO_1, SUCCESSFUL_IO_2), commandHistory.getFilteredCommandHistory());
+    }
+
+    @Test
+    public void constructor_storeOverWindowSize_olderCommandsReadFromStore() {
+        ListCommandHistoryStore store = new ListCommandHistoryStore(Arrays.asList(SUCCESSFUL_IO_1, UNSUCCESSFUL_IO_1,
+                SUCCESSFUL_IO_2, UNSUCCESSFUL_IO_2, SUCCESSFUL_IO_1));
+        CommandHistory storedHistory = new CommandHistory(new CommandHistory(store, store.inputOutputs), 2,
+                Long.MAX_VALUE);
+        assertEquals(0, store.reads);
+
+        assertEquals(store.inputOutputs, storedHistory.getInputOutputHistory());
+        assertEquals(2, storedHistory.getNumberOfUnsuccessfulCommands());
+        assertTrue(store.reads > 0);
+
+        storedHistory.updateFilteredCommandHistory(InputOutput.PREDICATE_SHOW_ONLY_UNSUCCESSFUL);
+        assertEquals(Arrays.asList(UNSUCCESSFUL_IO_1, UNSUCCESSFUL_IO_2), storedHistory.getFilteredCommandHistory());
+
+        // unsaved commands stay in memory even over the window size
+        storedHistory.add(UNSUCCESSFUL_COMMAND_1, UNSUCCESSFUL_COMMAND_OUTPUT, false, TIME_STAMP_3);
+        storedHistory.add(UNSUCCESSFUL_COMMAND_2, UNSUCCESSFUL_COMMAND_OUTPUT, false, TIME_STAMP_4);
+        assertEquals(7, storedHistory.getInputOutputHistory().size());
+        assertEquals(UNSUCCESSFUL_IO_2, storedHistory.getInputOutputHistory().get(6));
+        assertEquals(4, storedHistory.getFilteredCommandHistory().size());
+    }
+
+    @Test
+    public void constructor_storeWithOlderCommands_indexedWithoutReadingThem() {
+        ListCommandHistoryStore store = new ListCommandHistoryStore(Arrays.asList(SUCCESSFUL_IO_1, UNSUCCESSFUL_IO_1,
+                SUCCESSFUL_IO_2, UNSUCCESSFUL_IO_2, SUCCESSFUL_IO_1));
+        CommandHistory storedHistory = new CommandHistory(store, store.inputOutputs.subList(3, 5));
+
+        assertEquals(2, storedHistory.getNumberOfUnsuccessfulCommands());
+        assertEquals(3, storedHistory.getNumberOfCommands(SUCCESS_COMMAND_1));
+        storedHistory.add(UNSUCCESSFUL_COMMAND_1, UNSUCCESSFUL_COMMAND_OUTPUT, false, TIME_STAMP_3);
+        assertEquals(3, storedHistory.getNumberOfUnsuccessfulCommands());
+        assertEquals(0, store.reads);
+
+        // a copy keeps the index, rather than indexing the commands again
+        CommandHistory copy = new CommandHistory(storedHistory);
+        assertEquals(3, copy.getNumberOfUnsuccessfulCommands());
+        assertEquals(1, store.summaries);
+    }
+
+    /**
+     * A {@code CommandHistoryStore} over a list, which counts how often it is read and summarized.
+     */
+    private static class ListCommandHistoryStore implements CommandHistoryStore {
+        private final List<InputOutput> inputOutputs;
+        private int reads;
+        private int summaries;
+
+        ListCommandHistoryStore(List<InputOutput> inputOutputs) {
+            this.inputOutputs = inputOutputs;
+        }
+
+        @Override
+        public int size() {
+            return inputOutputs.size();
+        }
+
+        @Override
+        public List<InputOutput> read(int fromIndex, int toIndex) {
+            reads++;
+            return new ArrayList<>(inputOutputs.subList(fromIndex, toIndex));
+        }
+
+        @Override
+        public List<Integer> findAll(Predicate<InputOutput> predicate, int toIndex) {
+            reads++;
+            List<Integer> found = new ArrayList<>();
+            for (int i = 0; i < toIndex; i++) {
+                if (predicate.test(inputOutputs.get(i))) {
+                    found.add(i);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public void summarize(int toIndex, SummaryVisitor visitor) {
+            summaries++;
+            for (InputOutput inputOutput : inputOutputs.subList(0, toIndex)) {
+                visitor.visit(inputOutput.getCommandWord(), inputOutput.checkSuccessful());
+            }
+        }
+    }
 }
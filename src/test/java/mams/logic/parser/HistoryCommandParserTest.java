@@ -2,12 +2,21 @@ package mams.logic.parser;
 
 import static mams.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static mams.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static mams.logic.parser.HistoryCommandParser.MESSAGE_CONFLICTING_OPTIONS;
+import static mams.logic.parser.HistoryCommandParser.MESSAGE_INVALID_TIME_RANGE;
+import static mams.logic.parser.HistoryCommandParser.MESSAGE_MISSING_COMMAND_WORD;
 import static mams.logic.parser.HistoryCommandParser.MESSAGE_OPTIONS_NOT_RECOGNIZED;
+import static mams.logic.parser.HistoryCommandParser.OPTION_COMMAND_WORD;
 import static mams.logic.parser.HistoryCommandParser.OPTION_HIDE_OUTPUT;
+import static mams.logic.parser.HistoryCommandParser.OPTION_HIDE_SUCCESSFUL;
 import static mams.logic.parser.HistoryCommandParser.OPTION_HIDE_UNSUCCESSFUL;
+import static mams.logic.parser.HistoryCommandParser.OPTION_TIME_RANGE;
+
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 
+import mams.commons.core.time.TimeStamp;
 import mams.logic.commands.HistoryCommand;
 import mams.logic.history.HistoryFilterSettings;
 
@@ -42,6 +51,79 @@ public class HistoryCommandParserTest {
                 new HistoryCommand(true, HistoryFilterSettings.SHOW_ONLY_SUCCESSFUL));
     }
 
+    @Test
+    public void parse_hideSuccessfulCommands_returnsHistoryCommand() {
+        assertParseSuccess(parser,
+                " " + OPTION_HIDE_SUCCESSFUL.toString() + " " + OPTION_HIDE_OUTPUT.toString(),
+                new HistoryCommand(true, HistoryFilterSettings.SHOW_ONLY_UNSUCCESSFUL));
+    }
+
+    @Test
+    public void parse_hideSuccessfulAndUnsuccessfulCommands_throwsParseException() {
+        assertParseFailure(parser,
+                " " + OPTION_HIDE_UNSUCCESSFUL.toString() + " " + OPTION_HIDE_SUCCESSFUL.toString(),
+                String.format(MESSAGE_CONFLICTING_OPTIONS, OPTION_HIDE_UNSUCCESSFUL, OPTION_HIDE_SUCCESSFUL)
+                        + "\n"
+                        + HistoryCommand.MESSAGE_USAGE);
+    }
+
+    @Test
+    public void parse_commandWord_returnsHistoryCommand() {
+        assertParseSuccess(parser,
+                " " + OPTION_COMMAND_WORD.toString() + " add " + OPTION_HIDE_OUTPUT.toString(),
+                new HistoryCommand(true, HistoryFilterSettings.SHOW_ONLY_COMMAND_WORD, "add"));
+    }
+
+    @Test
+    public void parse_commandWordMissingOrConflicting_throwsParseException() {
+        // no command word after the option
+        assertParseFailure(parser, " " + OPTION_COMMAND_WORD.toString(),
+                String.format(MESSAGE_MISSING_COMMAND_WORD, OPTION_COMMAND_WORD) + "\n" + HistoryCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " " + OPTION_COMMAND_WORD.toString() + " " + OPTION_HIDE_OUTPUT.toString(),
+                String.format(MESSAGE_MISSING_COMMAND_WORD, OPTION_COMMAND_WORD) + "\n" + HistoryCommand.MESSAGE_USAGE);
+
+        // command word together with an outcome filter
+        assertParseFailure(parser, " " + OPTION_COMMAND_WORD.toString() + " add " + OPTION_HIDE_SUCCESSFUL.toString(),
+                String.format(MESSAGE_CONFLICTING_OPTIONS, OPTION_HIDE_SUCCESSFUL, OPTION_COMMAND_WORD)
+                        + "\n" + HistoryCommand.MESSAGE_USAGE);
+
+        // only one command word is taken
+        assertParseFailure(parser, " " + OPTION_COMMAND_WORD.toString() + " add list",
+                String.format(MESSAGE_OPTIONS_NOT_RECOGNIZED, "list") + "\n" + HistoryCommand.MESSAGE_USAGE);
+    }
+
+    @Test
+    public void parse_timeRange_returnsHistoryCommand() {
+        assertParseSuccess(parser,
+                " " + OPTION_TIME_RANGE.toString() + " 2019-11-10|09:00 2019-11-10|12:00 "
+                        + OPTION_HIDE_OUTPUT.toString(),
+                new HistoryCommand(true, new TimeStamp(LocalDateTime.of(2019, 11, 10, 9, 0)),
+                        new TimeStamp(LocalDateTime.of(2019, 11, 10, 12, 0))));
+    }
+
+    @Test
+    public void parse_timeRangeMissingInvalidOrConflicting_throwsParseException() {
+        String invalidTimeRange = String.format(MESSAGE_INVALID_TIME_RANGE, OPTION_TIME_RANGE) + "\n"
+                + HistoryCommand.MESSAGE_USAGE;
+
+        // missing times
+        assertParseFailure(parser, " " + OPTION_TIME_RANGE.toString(), invalidTimeRange);
+        assertParseFailure(parser, " " + OPTION_TIME_RANGE.toString() + " 2019-11-10|09:00", invalidTimeRange);
+        assertParseFailure(parser, " " + OPTION_TIME_RANGE.toString() + " 2019-11-10|09:00 "
+                + OPTION_HIDE_OUTPUT.toString(), invalidTimeRange);
+
+        // times not in the expected format
+        assertParseFailure(parser, " " + OPTION_TIME_RANGE.toString() + " 09:00 12:00", invalidTimeRange);
+        assertParseFailure(parser, " " + OPTION_TIME_RANGE.toString() + " 2019-11-10|09:00 2019-13-10|12:00",
+                invalidTimeRange);
+
+        // time range together with another filter
+        assertParseFailure(parser, " " + OPTION_HIDE_UNSUCCESSFUL.toString() + " " + OPTION_TIME_RANGE.toString()
+                        + " 2019-11-10|09:00 2019-11-10|12:00",
+                String.format(MESSAGE_CONFLICTING_OPTIONS, OPTION_HIDE_UNSUCCESSFUL, OPTION_TIME_RANGE)
+                        + "\n" + HistoryCommand.MESSAGE_USAGE);
+    }
+
     /**
      * Blankspaces should not affect parsing ability of the parser.
      */
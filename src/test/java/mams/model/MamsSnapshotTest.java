@@ -0,0 +1,60 @@
+package mams.model;
+
+import static mams.testutil.TypicalStudents.ALICE;
+import static mams.testutil.TypicalStudents.BENSON;
+import static mams.testutil.TypicalStudents.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import mams.testutil.MamsBuilder;
+
+public class MamsSnapshotTest {
+
+    @Test
+    public void snapshot_laterChanges_doNotAffectSnapshot() {
+        Mams mams = new MamsBuilder().withStudent(ALICE).withStudent(BENSON).build();
+        MamsSnapshot snapshot = mams.snapshot();
+
+        mams.removeStudent(ALICE);
+        mams.addStudent(CARL);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getStudentList());
+        assertEquals(Arrays.asList(BENSON, CARL), mams.getStudentList());
+        assertEquals(Arrays.asList(BENSON, CARL), mams.snapshot().getStudentList());
+    }
+
+    @Test
+    public void snapshot_unchangedMams_returnsSameSnapshot() {
+        Mams mams = new MamsBuilder().withStudent(ALICE).build();
+        MamsSnapshot snapshot = mams.snapshot();
+        assertSame(snapshot, mams.snapshot());
+
+        mams.addStudent(BENSON);
+        MamsSnapshot changed = mams.snapshot();
+        assertNotSame(snapshot, changed);
+        assertEquals(1, changed.getEditCount());
+
+        // clearing an empty appeal list changes nothing
+        mams.setAppeals(Collections.emptyList());
+        assertSame(changed, mams.snapshot());
+    }
+
+    @Test
+    public void resetData_snapshot_restoresSnapshot() {
+        Mams mams = new MamsBuilder().withStudent(ALICE).build();
+        MamsSnapshot snapshot = mams.snapshot();
+        mams.addStudent(BENSON);
+
+        mams.resetData(snapshot);
+
+        assertEquals(Collections.singletonList(ALICE), mams.getStudentList());
+        assertSame(snapshot, mams.snapshot());
+        assertEquals(ALICE, mams.getStudentEqualsToId(ALICE.getMatricId().toString()).get());
+    }
+}
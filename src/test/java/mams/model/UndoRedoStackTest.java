@@ -0,0 +1,95 @@
+package mams.model;
+
+import static mams.testutil.Assert.assertThrows;
+import static mams.testutil.TypicalStudents.ALICE;
+import static mams.testutil.TypicalStudents.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import mams.testutil.MamsBuilder;
+
+public class UndoRedoStackTest {
+
+    private final ReadOnlyMams empty = new Mams();
+    private final ReadOnlyMams withAlice = new MamsBuilder().withStudent(ALICE).build();
+    private final ReadOnlyMams withBoth = new MamsBuilder().withStudent(ALICE).withStudent(BENSON).build();
+
+    @Test
+    public void constructor_negativeLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoRedoStack(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new UndoRedoStack(0, -1));
+    }
+
+    @Test
+    public void undoRedo_emptyStack_throwsIllegalStateException() {
+        UndoRedoStack stack = new UndoRedoStack();
+        assertFalse(stack.canUndo());
+        assertFalse(stack.canRedo());
+        assertThrows(IllegalStateException.class, () -> stack.undo(empty));
+        assertThrows(IllegalStateException.class, () -> stack.redo(empty));
+    }
+
+    @Test
+    public void undoRedo_roundTrip_returnsRecordedStates() {
+        UndoRedoStack stack = new UndoRedoStack();
+        stack.push(empty);
+        stack.push(withAlice);
+
+        assertSame(withAlice, stack.undo(withBoth));
+        assertSame(empty, stack.undo(withAlice));
+        assertFalse(stack.canUndo());
+
+        assertSame(withAlice, stack.redo(empty));
+        assertSame(withBoth, stack.redo(withAlice));
+        assertFalse(stack.canRedo());
+        assertEquals(2, stack.getUndoDepth());
+    }
+
+    @Test
+    public void push_afterUndo_clearsRedo() {
+        UndoRedoStack stack = new UndoRedoStack();
+        stack.push(empty);
+        stack.undo(withAlice);
+        assertTrue(stack.canRedo());
+
+        stack.push(empty);
+        assertFalse(stack.canRedo());
+        assertEquals(0, stack.getRetainedBytes());
+    }
+
+    @Test
+    public void push_beyondMaxDepth_dropsOldest() {
+        UndoRedoStack stack = new UndoRedoStack(2, UndoRedoStack.DEFAULT_MAX_BYTES);
+        stack.push(empty);
+        stack.push(withAlice);
+        stack.push(withBoth);
+
+        assertEquals(2, stack.getUndoDepth());
+        assertSame(withBoth, stack.undo(empty));
+        assertSame(withAlice, stack.undo(empty));
+        assertFalse(stack.canUndo());
+    }
+
+    @Test
+    public void push_beyondMaxBytes_keepsNewestOnly() {
+        UndoRedoStack stack = new UndoRedoStack(10, UndoRedoStack.ESTIMATED_BYTES_PER_ENTRY);
+        stack.push(withAlice);
+        stack.push(withBoth);
+
+        assertEquals(1, stack.getUndoDepth());
+        assertEquals(2L * UndoRedoStack.ESTIMATED_BYTES_PER_ENTRY, stack.getRetainedBytes());
+        assertSame(withBoth, stack.undo(empty));
+    }
+
+    @Test
+    public void push_zeroMaxDepth_keepsNothing() {
+        UndoRedoStack stack = new UndoRedoStack(0, UndoRedoStack.DEFAULT_MAX_BYTES);
+        stack.push(withAlice);
+        assertFalse(stack.canUndo());
+        assertEquals(0, stack.getRetainedBytes());
+    }
+}
@@ -0,0 +1,19 @@
+package mams.model.appeal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class AppealResultTest {
+
+    @Test
+    public void fromString() {
+        assertEquals(AppealResult.APPROVED, AppealResult.fromString("approved"));
+        assertEquals(AppealResult.REJECTED, AppealResult.fromString("REJECTED"));
+
+        // blank and missing results in older data files are pending
+        assertEquals(AppealResult.PENDING, AppealResult.fromString(""));
+        assertEquals(AppealResult.PENDING, AppealResult.fromString(null));
+        assertEquals(AppealResult.PENDING, AppealResult.fromString("Pending"));
+    }
+}
@@ -1,5 +1,6 @@
 package mams.model.appeal;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -120,6 +121,28 @@ public class AppealTest {
         assertFalse(appealToTest.equals(appealWithAnotherStudent));
     }
 
+    @Test
+    public void withResult() {
+        Appeal approvedAppeal = TypicalAppeals.APPEAL1.withResult(AppealResult.APPROVED, "ok");
+
+        assertTrue(approvedAppeal.isResolved());
+        assertEquals(AppealResult.APPROVED, approvedAppeal.getAppealResult());
+        assertEquals("ok", approvedAppeal.getRemark());
+        assertEquals(TypicalAppeals.APPEAL1, approvedAppeal);
+    }
+
+    @Test
+    public void moduleFields_onlyThoseOfAppealTypeKept() {
+        Appeal addAppeal = new Appeal("C000009", "add module", "A0156273R", "AY2019", 20, "description",
+                "CS1010", "CS1020", "CS1231", "CS2030", false, "");
+
+        assertEquals(AppealType.ADD_MODULE, addAppeal.getType());
+        assertEquals("CS1231", addAppeal.getModuleToAdd());
+        assertEquals("", addAppeal.getModuleToDrop());
+        assertEquals("", addAppeal.getPreviousModule());
+        assertEquals("", addAppeal.getNewModule());
+    }
+
     @Test void isValidAppealId() {
         //invalid code
         assertFalse(Appeal.isValidAppealId("")); // empty string
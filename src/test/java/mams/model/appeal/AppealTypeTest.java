@@ -0,0 +1,32 @@
+package mams.model.appeal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import mams.testutil.Assert;
+
+public class AppealTypeTest {
+
+    @Test
+    public void fromString_validName_ignoresCase() {
+        assertEquals(AppealType.ADD_MODULE, AppealType.fromString("add module"));
+        assertEquals(AppealType.DROP_MODULE, AppealType.fromString("DroP mOdUle"));
+        assertEquals(AppealType.INCREASE_WORKLOAD, AppealType.fromString("INCREASE WORKLOAD"));
+    }
+
+    @Test
+    public void fromString_invalidName_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> AppealType.fromString("addmodule"));
+        Assert.assertThrows(NullPointerException.class, () -> AppealType.fromString(null));
+    }
+
+    @Test
+    public void isValidAppealType() {
+        assertFalse(AppealType.isValidAppealType(""));
+        assertFalse(AppealType.isValidAppealType("drop  module"));
+        assertTrue(AppealType.isValidAppealType("Add module"));
+    }
+}
@@ -4,6 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import mams.model.appeal.exceptions.AppealNotFoundException;
@@ -61,4 +66,127 @@ public class UniqueAppealListTest {
         assertEquals(expectedUniqueAppealList, uniqueAppealList);
     }
 
+    @Test
+    public void findByAppealId_nullId_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> uniqueAppealList.findByAppealId(null));
+    }
+
+    @Test
+    public void findByAppealId_differentCase_returnsAppeal() {
+        uniqueAppealList.add(TypicalAppeals.APPEAL1);
+        assertEquals(Optional.of(TypicalAppeals.APPEAL1), uniqueAppealList.findByAppealId("c000001"));
+        assertFalse(uniqueAppealList.findByAppealId("C000002").isPresent());
+    }
+
+    @Test
+    public void findByAppealId_afterRemove_returnsEmpty() {
+        uniqueAppealList.add(TypicalAppeals.APPEAL1);
+        uniqueAppealList.remove(TypicalAppeals.APPEAL1);
+        assertFalse(uniqueAppealList.findByAppealId("C000001").isPresent());
+    }
+
+    @Test
+    public void findByAppealId_afterSetAppeal_returnsEditedAppeal() {
+        uniqueAppealList.add(TypicalAppeals.APPEAL1);
+        Appeal appeal = TypicalAppeals.APPEAL1;
+        Appeal editedAppeal = new Appeal(appeal.getAppealId(), appeal.getAppealType(), appeal.getStudentId(),
+                appeal.getAcademicYear(), appeal.getStudentWorkload(), appeal.getAppealDescription(),
+                appeal.getPreviousModule(), appeal.getNewModule(), appeal.getModuleToAdd(),
+                appeal.getModuleToDrop(), true, "APPROVED", "");
+        uniqueAppealList.setAppeal(TypicalAppeals.APPEAL1, editedAppeal);
+        assertEquals("APPROVED", uniqueAppealList.findByAppealId("C000001").get().getResult());
+    }
+
+    @Test
+    public void findByAppealId_afterSetAppeals_reflectsReplacement() {
+        uniqueAppealList.add(TypicalAppeals.APPEAL1);
+        uniqueAppealList.setAppeals(Arrays.asList(TypicalAppeals.APPEAL2));
+        assertFalse(uniqueAppealList.findByAppealId("C000001").isPresent());
+        assertEquals(Optional.of(TypicalAppeals.APPEAL2), uniqueAppealList.findByAppealId("C000002"));
+    }
+
+    @Test
+    public void findByStudentId_multipleAppeals_returnsAllOfStudent() {
+        uniqueAppealList.setAppeals(TypicalAppeals.getTypicalAppeals());
+        assertEquals(Arrays.asList(TypicalAppeals.APPEAL2, TypicalAppeals.APPEAL4),
+                uniqueAppealList.findByStudentId("a01527367w"));
+        assertTrue(uniqueAppealList.findByStudentId("A0000000Z").isEmpty());
+    }
+
+    @Test
+    public void findByModuleCode_addAndDrop_returnsBoth() {
+        uniqueAppealList.setAppeals(TypicalAppeals.getTypicalAppeals());
+        List<Appeal> appeals = uniqueAppealList.findByModuleCode("cs1231");
+        assertEquals(2, appeals.size());
+        assertTrue(appeals.contains(TypicalAppeals.APPEAL1));
+        assertTrue(appeals.contains(TypicalAppeals.APPEAL2));
+    }
+
+    @Test
+    public void findByAppealType_returnsAppealsOfType() {
+        uniqueAppealList.setAppeals(TypicalAppeals.getTypicalAppeals());
+        assertEquals(Arrays.asList(TypicalAppeals.APPEAL1, TypicalAppeals.APPEAL4),
+                uniqueAppealList.findByAppealType("Add Module"));
+    }
+
+    @Test
+    public void findByResolved_afterResolving_movesAppeal() {
+        uniqueAppealList.setAppeals(TypicalAppeals.getTypicalAppeals());
+        assertEquals(4, uniqueAppealList.findByResolved(false).size());
+        assertTrue(uniqueAppealList.findByResolved(true).isEmpty());
+
+        Appeal appeal = TypicalAppeals.APPEAL3;
+        Appeal resolvedAppeal = new Appeal(appeal.getAppealId(), appeal.getAppealType(), appeal.getStudentId(),
+                appeal.getAcademicYear(), appeal.getStudentWorkload(), appeal.getAppealDescription(),
+                appeal.getPreviousModule(), appeal.getNewModule(), appeal.getModuleToAdd(),
+                appeal.getModuleToDrop(), true, "REJECTED", "");
+        uniqueAppealList.setAppeal(appeal, resolvedAppeal);
+        assertEquals(3, uniqueAppealList.findByResolved(false).size());
+        assertEquals(Arrays.asList(resolvedAppeal), uniqueAppealList.findByResolved(true));
+    }
+
+    @Test
+    public void findByKeywords_sameResultAsPredicate() {
+        uniqueAppealList.setAppeals(TypicalAppeals.getTypicalAppeals());
+        for (String keywords : Arrays.asList("add", "CS1231", "unresolved", "C000003", "c00000", "0004 drop",
+                "resolved", "nothing")) {
+            List<String> keywordList = Arrays.asList(keywords.split("\\s+"));
+            AppealContainsKeywordsPredicate predicate = new AppealContainsKeywordsPredicate(keywordList);
+            Set<String> matchedIds = uniqueAppealList.findByKeywords(keywordList);
+            for (Appeal appeal : uniqueAppealList) {
+                assertEquals(predicate.test(appeal), matchedIds.contains(appeal.getAppealId()), keywords);
+            }
+        }
+    }
+
+    @Test
+    public void setAppeals_listWithDuplicateAppeals_reportsEveryDuplicate() {
+        List<Appeal> listWithDuplicateAppeals = Arrays.asList(TypicalAppeals.APPEAL1, TypicalAppeals.APPEAL2,
+                TypicalAppeals.APPEAL1, TypicalAppeals.APPEAL2, TypicalAppeals.APPEAL3);
+        DuplicateAppealException exception = null;
+        try {
+            uniqueAppealList.setAppeals(listWithDuplicateAppeals);
+        } catch (DuplicateAppealException e) {
+            exception = e;
+        }
+        assertEquals(Arrays.asList(TypicalAppeals.APPEAL1, TypicalAppeals.APPEAL2), exception.getDuplicates());
+        assertTrue(uniqueAppealList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_appealAlreadyInList_throwsDuplicateAppealException() {
+        uniqueAppealList.add(TypicalAppeals.APPEAL1);
+        Assert.assertThrows(DuplicateAppealException.class, () -> uniqueAppealList.addAll(
+                Arrays.asList(TypicalAppeals.APPEAL2, TypicalAppeals.APPEAL1)));
+        assertEquals(Arrays.asList(TypicalAppeals.APPEAL1), uniqueAppealList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_uniqueAppeals_appendsAndIndexes() {
+        uniqueAppealList.add(TypicalAppeals.APPEAL1);
+        uniqueAppealList.addAll(Arrays.asList(TypicalAppeals.APPEAL2, TypicalAppeals.APPEAL3));
+        assertEquals(Arrays.asList(TypicalAppeals.APPEAL1, TypicalAppeals.APPEAL2, TypicalAppeals.APPEAL3),
+                uniqueAppealList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(TypicalAppeals.APPEAL3), uniqueAppealList.findByAppealId("C000003"));
+    }
 }
@@ -0,0 +1,136 @@
+package mams.model.enrolment;
+
+import static mams.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EnrolmentStoreTest {
+
+    private EnrolmentStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new EnrolmentStore();
+    }
+
+    @Test
+    public void enrol_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> store.enrol(null, "CS1010"));
+        assertThrows(NullPointerException.class, () -> store.enrol("A0123456H", null));
+    }
+
+    @Test
+    public void enrol_updatesBothDirections() {
+        assertTrue(store.enrol("A0123456H", "CS1010"));
+        assertTrue(store.enrol("A0123456H", "CS2040"));
+        assertTrue(store.enrol("A7654321H", "CS1010"));
+
+        // same enrolment, different case -> not added again
+        assertFalse(store.enrol("a0123456h", "cs1010"));
+
+        assertTrue(store.isEnrolled("a0123456h", "CS1010"));
+        assertEquals(new HashSet<>(Arrays.asList("CS1010", "CS2040")), store.getModuleCodesOf("A0123456H"));
+        assertEquals(new HashSet<>(Arrays.asList("A0123456H", "A7654321H")), store.getMatricIdsOf("CS1010"));
+        assertEquals(2, store.getEnrolmentCount("CS1010"));
+        assertEquals(2, store.getModuleCount("A0123456H"));
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    public void unenrol_updatesBothDirections() {
+        store.enrol("A0123456H", "CS1010");
+        store.enrol("A7654321H", "CS1010");
+
+        assertTrue(store.unenrol("A0123456H", "cs1010"));
+        assertFalse(store.unenrol("A0123456H", "CS1010"));
+        assertFalse(store.unenrol("A0000000H", "CS9999"));
+
+        assertFalse(store.isEnrolled("A0123456H", "CS1010"));
+        assertTrue(store.getModuleCodesOf("A0123456H").isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("A7654321H")), store.getMatricIdsOf("CS1010"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void unregisterStudentAndModule_removeOnlyTheirEnrolments() {
+        store.enrol("A0123456H", "CS1010");
+        store.enrol("A0123456H", "CS2040");
+        store.enrol("A7654321H", "CS1010");
+        store.enrol("A7654321H", "CS2103");
+
+        store.unregisterStudent("a0123456h");
+        assertTrue(store.getModuleCodesOf("A0123456H").isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("A7654321H")), store.getMatricIdsOf("CS1010"));
+        assertEquals(0, store.getEnrolmentCount("CS2040"));
+        assertEquals(2, store.size());
+
+        store.unregisterModule("CS1010");
+        assertEquals(new HashSet<>(Arrays.asList("CS2103")), store.getModuleCodesOf("A7654321H"));
+        assertEquals(1, store.size());
+
+        // unknown keys -> nothing to remove
+        store.unregisterStudent("A0000000H");
+        store.unregisterModule("CS9999");
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void clear_removesAllEnrolments() {
+        store.enrol("A0123456H", "CS1010");
+        store.clear();
+
+        assertFalse(store.isEnrolled("A0123456H", "CS1010"));
+        assertEquals(0, store.getEnrolmentCount("CS1010"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void ids_areDenseAndReused() {
+        assertEquals(0, store.registerStudent("A0123456H"));
+        assertEquals(1, store.registerStudent("A7654321H"));
+        assertEquals(0, store.registerStudent("a0123456h"));
+        assertEquals(EnrolmentStore.NO_ID, store.getStudentId("A0000000H"));
+
+        store.enrol("A7654321H", "CS1010");
+        int moduleId = store.getModuleId("cs1010");
+        assertTrue(store.isEnrolled(1, moduleId));
+        assertFalse(store.isEnrolled(0, moduleId));
+        assertFalse(store.isEnrolled(EnrolmentStore.NO_ID, moduleId));
+
+        // a freed ID is handed out again, smallest first
+        store.unregisterStudent("A0123456H");
+        assertEquals(EnrolmentStore.NO_ID, store.getStudentId("A0123456H"));
+        assertEquals(1, store.getStudentId("A7654321H"));
+        assertEquals(0, store.registerStudent("A1111111H"));
+        assertFalse(store.isEnrolled(0, moduleId));
+        assertEquals(2, store.registerStudent("A0123456H"));
+
+        // clearing the store frees all IDs
+        store.clear();
+        assertEquals(EnrolmentStore.NO_ID, store.getStudentId("A7654321H"));
+        assertEquals(EnrolmentStore.NO_ID, store.getModuleId("CS1010"));
+        assertFalse(store.isEnrolled(1, moduleId));
+        assertEquals(0, store.registerStudent("A7654321H"));
+    }
+
+    @Test
+    public void registerAndUnregister_manyStudents_allStillFound() {
+        for (int i = 0; i < 1000; i++) {
+            store.enrol(String.format("A%07dH", i), "CS1010");
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            store.unregisterStudent(String.format("a%07dh", i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, store.getStudentId(String.format("A%07dH", i)) != EnrolmentStore.NO_ID);
+        }
+        assertEquals(500, store.getEnrolmentCount("CS1010"));
+    }
+}
@@ -1,11 +1,16 @@
 package mams.model.module;
 
+import static mams.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import mams.model.student.Name;
+import mams.model.tag.Tag;
 
 class ModuleTest {
 
@@ -44,6 +49,8 @@ class ModuleTest {
     void isValidQuota() {
         //invalid code
         assertFalse(Module.isValidQuota("-5")); // negative numbers
+        assertFalse(Module.isValidQuota("ten")); // not a number
+        assertFalse(Module.isValidQuota("")); // empty string
 
         //valid code
         assertTrue(Module.isValidQuota("100"));
@@ -61,6 +68,27 @@ class ModuleTest {
         assertTrue(Module.isValidTimeSlot("23,24,55,54"));
     }
 
+    @Test
+    void isValidTimeSlots() {
+        //invalid code
+        assertFalse(Module.isValidTimeSlots(TimeSlotSet.EMPTY)); // no time slot
+        assertFalse(Module.isValidTimeSlots(TimeSlotSet.parse("13,14"))); // end of day slot
+
+        //valid code
+        assertTrue(Module.isValidTimeSlots(TimeSlotSet.parse("23,24,55,54")));
+    }
+
+    @Test
+    void constructor_invalidQuotaOrTimeSlot_throwsIllegalArgumentException() {
+        Set<Tag> noStudents = Collections.emptySet();
+        assertThrows(IllegalArgumentException.class, Module.MESSAGE_CONSTRAINTS_QUOTA, () -> new Module("CS1010",
+                "Programming Methodology", "test", "Lecturer", "1,2", "ten", noStudents));
+        assertThrows(IllegalArgumentException.class, Module.MESSAGE_CONSTRAINTS_QUOTA, () -> new Module("CS1010",
+                "Programming Methodology", "test", "Lecturer", "1,2", "0", noStudents));
+        assertThrows(IllegalArgumentException.class, Module.MESSAGE_CONSTRAINTS_TIME_SLOT, () -> new Module(
+                "CS1010", "Programming Methodology", "test", "Lecturer", "1,two", "10", noStudents));
+    }
+
     @Test
     void isSameModule() {
         // same object -> returns true
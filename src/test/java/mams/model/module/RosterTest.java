@@ -0,0 +1,93 @@
+package mams.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import mams.model.tag.Tag;
+
+public class RosterTest {
+
+    private static String matricId(int i) {
+        return String.format("A%07dR", i);
+    }
+
+    @Test
+    public void of_duplicateTags_keptOnce() {
+        Roster roster = Roster.of(Arrays.asList(Tag.of("A0000001R"), Tag.of("A0000002R"), Tag.of("A0000001R")));
+
+        assertEquals(2, roster.size());
+        assertTrue(roster.contains("A0000001R"));
+        assertFalse(roster.contains("A0000003R"));
+    }
+
+    @Test
+    public void with_existingStudent_returnsSameRoster() {
+        Roster roster = Roster.EMPTY.with("A0000001R");
+        assertSame(roster, roster.with("A0000001R"));
+        assertSame(roster, roster.without("A0000009R"));
+    }
+
+    @Test
+    public void withAndWithout_manyStudents_matchesHashSet() {
+        Set<Tag> expected = new HashSet<>();
+        Roster roster = Roster.EMPTY;
+        for (int i = 0; i < 1000; i++) {
+            // insert out of order so that chunks are split in the middle
+            String matricId = matricId((i * 7919) % 1000);
+            roster = roster.with(matricId);
+            expected.add(Tag.of(matricId));
+        }
+        assertEquals(1000, roster.size());
+        assertEquals(expected, roster.asTags());
+
+        for (int i = 0; i < 1000; i += 3) {
+            roster = roster.without(matricId(i));
+            expected.remove(Tag.of(matricId(i)));
+        }
+        assertEquals(expected.size(), roster.size());
+        assertEquals(expected, roster.asTags());
+        assertEquals(roster.asTags(), expected);
+    }
+
+    @Test
+    public void with_doesNotChangeOriginal() {
+        Roster original = Roster.of(Arrays.asList(Tag.of("A0000001R"), Tag.of("A0000002R")));
+        Roster edited = original.with("A0000003R").without("A0000001R");
+
+        assertEquals(2, original.size());
+        assertTrue(original.contains("A0000001R"));
+        assertFalse(original.contains("A0000003R"));
+        assertEquals(Roster.of(Arrays.asList(Tag.of("A0000002R"), Tag.of("A0000003R"))), edited);
+    }
+
+    @Test
+    public void matricIds_matchedIgnoringCase() {
+        Roster roster = Roster.of(Arrays.asList(Tag.of("A0000001R"), Tag.of("a0000001r"), Tag.of("A0000002R")));
+        assertEquals(2, roster.size());
+        assertTrue(roster.contains("a0000002r"));
+        assertSame(roster, roster.with("a0000002r"));
+
+        // the first spelling is kept, and the tag view matches tags exactly
+        assertTrue(roster.asTags().contains(Tag.of("A0000001R")));
+        assertFalse(roster.asTags().contains(Tag.of("a0000001r")));
+
+        Roster edited = roster.without("a0000001r");
+        assertEquals(1, edited.size());
+        assertFalse(edited.contains("A0000001R"));
+    }
+
+    @Test
+    public void asTags_returnsTagsTheRosterWasBuiltFrom() {
+        Tag student = new Tag("A0000001R");
+        Roster roster = Roster.of(Arrays.asList(student)).with("A0000002R");
+        assertSame(student, roster.asTags().iterator().next());
+    }
+}
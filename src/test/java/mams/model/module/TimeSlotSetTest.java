@@ -0,0 +1,62 @@
+package mams.model.module;
+
+import static mams.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import mams.testutil.ModuleBuilder;
+
+class TimeSlotSetTest {
+
+    @Test
+    void parse() {
+        // unsorted input with a trailing comma -> sorted slots
+        assertArrayEquals(new int[] {1, 2, 63, 64, 69}, TimeSlotSet.parse("69,64,1,63,2,").toArray());
+
+        // empty input -> empty set
+        assertTrue(TimeSlotSet.parse("").isEmpty());
+
+        // out of range or non-numeric -> exception
+        assertThrows(IllegalArgumentException.class, () -> TimeSlotSet.parse("70"));
+        assertThrows(IllegalArgumentException.class, () -> TimeSlotSet.parse("-1"));
+        assertThrows(IllegalArgumentException.class, () -> TimeSlotSet.parse("a"));
+    }
+
+    @Test
+    void setOperations() {
+        TimeSlotSet first = TimeSlotSet.parse("1,2,45,66");
+        TimeSlotSet second = TimeSlotSet.parse("2,66,69");
+        TimeSlotSet disjoint = TimeSlotSet.parse("3,4,65");
+
+        assertTrue(first.overlaps(second));
+        assertFalse(first.overlaps(disjoint));
+
+        assertEquals(TimeSlotSet.parse("2,66"), first.intersect(second));
+        assertEquals(TimeSlotSet.parse("1,2,45,66,69"), first.union(second));
+        assertEquals(TimeSlotSet.parse("1,45"), first.minus(second));
+        assertEquals(TimeSlotSet.of(Arrays.asList(66, 2, 45, 1)), first);
+
+        assertEquals(4, first.size());
+        assertTrue(first.contains(66));
+        assertFalse(first.contains(3));
+        assertFalse(first.contains(70));
+        assertEquals("1,2,45,66", first.toString());
+    }
+
+    @Test
+    void moduleClashesWith() {
+        Module first = new ModuleBuilder().withModuleCode("CS1010").withTimeSlot("1,2,45").build();
+        Module second = new ModuleBuilder().withModuleCode("CS1020").withTimeSlot("45,46").build();
+        Module third = new ModuleBuilder().withModuleCode("CS2040").withTimeSlot("10,11").build();
+
+        assertTrue(first.clashesWith(second));
+        assertFalse(first.clashesWith(third));
+        assertArrayEquals(new int[] {1, 2, 45}, first.getTimeSlotToIntArray());
+    }
+}
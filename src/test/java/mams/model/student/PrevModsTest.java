@@ -52,4 +52,17 @@ public class PrevModsTest {
         // valid prevMods
         assertTrue(PrevMods.isValidPrevMods("CS2030, CS1231"));
     }
+
+    @Test
+    public void hasCompleted() {
+        PrevMods prevMods = new PrevMods("CS2030, CS1231,CS1010S");
+
+        assertTrue(prevMods.hasCompleted("CS2030"));
+        assertTrue(prevMods.hasCompleted("CS1231"));
+        assertTrue(prevMods.hasCompleted("CS1010S"));
+
+        // only whole module codes count
+        assertFalse(prevMods.hasCompleted("CS1010"));
+        assertFalse(prevMods.hasCompleted("CS2103"));
+    }
 }
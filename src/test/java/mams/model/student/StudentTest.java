@@ -0,0 +1,31 @@
+package mams.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import mams.model.tag.Tag;
+import mams.testutil.StudentBuilder;
+
+public class StudentTest {
+
+    @Test
+    public void withModuleAndWithoutModule_onlyModuleTagsChanged() {
+        Student student = new StudentBuilder().withTags("CS1010", "C000001").build();
+
+        Student enrolled = student.withModule("CS2103");
+        assertEquals(Set.of(Tag.of("CS1010"), Tag.of("CS2103")), enrolled.getCurrentModules());
+        assertEquals(Set.of(Tag.of("CS1010"), Tag.of("CS2103"), Tag.of("C000001")), enrolled.getTags());
+        assertSame(student.getCurrentAppeals(), enrolled.getCurrentAppeals());
+        assertSame(enrolled, enrolled.withModule("CS2103"));
+
+        // module codes are matched ignoring case
+        Student unenrolled = enrolled.withoutModule("cs1010");
+        assertEquals(Set.of(Tag.of("CS2103")), unenrolled.getCurrentModules());
+        assertEquals(Set.of(Tag.of("CS2103"), Tag.of("C000001")), unenrolled.getTags());
+        assertEquals(student, unenrolled);
+    }
+}
@@ -0,0 +1,71 @@
+package mams.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import mams.model.module.Module;
+import mams.model.module.TimeSlotSet;
+import mams.testutil.ModuleBuilder;
+import mams.testutil.StudentBuilder;
+
+public class StudentTimetablesTest {
+
+    private static final Module MODULE_A = new ModuleBuilder().withModuleCode("CS1010").withTimeSlot("1,2,3").build();
+    private static final Module MODULE_B = new ModuleBuilder().withModuleCode("CS1020").withTimeSlot("3,4").build();
+    private static final Module MODULE_C = new ModuleBuilder().withModuleCode("CS2040").withTimeSlot("66,67").build();
+    private static final List<Module> MODULES = Arrays.asList(MODULE_A, MODULE_B, MODULE_C);
+
+    private StudentTimetables timetables;
+
+    @BeforeEach
+    public void setUp() {
+        timetables = new StudentTimetables(code -> MODULES.stream()
+                .filter(m -> m.getModuleCode().equalsIgnoreCase(code)).findFirst());
+    }
+
+    @Test
+    public void add_computesOccupancyAndWorkload() {
+        Student student = new StudentBuilder().withTags("CS1010", "CS2040", "friends").build();
+        timetables.add(student);
+
+        assertEquals(TimeSlotSet.parse("1,2,3,66,67"), timetables.getOccupiedSlots(student));
+        assertEquals(8, timetables.getWorkload(student));
+        assertTrue(timetables.hasClash(student, MODULE_B));
+    }
+
+    @Test
+    public void replace_appliesAddedAndRemovedModules() {
+        Student student = new StudentBuilder().withTags("CS1010", "CS1020").build();
+        timetables.add(student);
+
+        // removing one of two clashing modules keeps the shared slot occupied
+        Student withoutB = new StudentBuilder(student).withTags("CS1010").build();
+        timetables.replace(student, withoutB);
+        assertEquals(TimeSlotSet.parse("1,2,3"), timetables.getOccupiedSlots(withoutB));
+        assertEquals(4, timetables.getWorkload(withoutB));
+
+        Student withC = new StudentBuilder(student).withTags("CS2040").build();
+        timetables.replace(withoutB, withC);
+        assertEquals(TimeSlotSet.parse("66,67"), timetables.getOccupiedSlots(withC));
+        assertFalse(timetables.hasClash(withC, MODULE_A));
+    }
+
+    @Test
+    public void getOccupiedSlots_untrackedStudent_computedOnDemand() {
+        Student student = new StudentBuilder().withTags("CS1020").build();
+        assertEquals(TimeSlotSet.parse("3,4"), timetables.getOccupiedSlots(student));
+
+        // no modules -> empty timetable
+        Student noModules = new StudentBuilder().withTags().build();
+        timetables.rebuild(Arrays.asList(noModules));
+        assertTrue(timetables.getOccupiedSlots(noModules).isEmpty());
+        assertEquals(0, timetables.getWorkload(noModules));
+    }
+}
@@ -1,5 +1,7 @@
 package mams.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -28,4 +30,28 @@ public class TagTest {
 
 
     }
+
+    @Test
+    public void of_sameName_returnsCanonicalInstance() {
+        assertSame(Tag.of("CS1010"), Tag.of("CS1010"));
+        assertTrue(Tag.of("CS1010").equals(new Tag("CS1010")));
+
+        // invalid names are still rejected
+        Assert.assertThrows(NullPointerException.class, () -> Tag.of(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void type() {
+        // appeal ids -> appeal tags
+        assertTrue(Tag.of("C000001").isAppealTag());
+        assertTrue(Tag.of("C123456").isAppealTag());
+
+        // anything else -> module tags
+        assertTrue(Tag.of("CS1010").isModuleTag());
+        assertTrue(Tag.of("C12345").isModuleTag()); // too short
+        assertTrue(Tag.of("C1234567").isModuleTag()); // too long
+        assertTrue(Tag.of("c123456").isModuleTag()); // lower case prefix
+        assertFalse(Tag.of("A0123456H").isAppealTag());
+    }
 }
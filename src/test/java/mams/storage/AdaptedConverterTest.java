@@ -0,0 +1,37 @@
+package mams.storage;
+
+import static mams.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import mams.commons.exceptions.IllegalValueException;
+
+public class AdaptedConverterTest {
+
+    @Test
+    public void join_validBatch_returnsConvertedEntries() throws Exception {
+        AdaptedConverter<String, Integer> converter = Integer::parseInt;
+        assertEquals(Arrays.asList(1, 2, 3),
+                AdaptedConverter.join(converter.convertAllOn(ForkJoinPool.commonPool(), Arrays.asList("1", "2", "3"))));
+    }
+
+    @Test
+    public void join_illegalValue_throwsIllegalValueException() {
+        AdaptedConverter<String, Integer> converter = adapted -> {
+            throw new IllegalValueException("invalid " + adapted);
+        };
+        assertThrows(IllegalValueException.class, "invalid 1", () -> AdaptedConverter.join(
+                converter.convertAllOn(ForkJoinPool.commonPool(), Arrays.asList("1"))));
+    }
+
+    @Test
+    public void join_uncheckedException_throwsIllegalValueException() {
+        AdaptedConverter<String, Integer> converter = Integer::parseInt;
+        assertThrows(IllegalValueException.class, () -> AdaptedConverter.join(
+                converter.convertAllOn(ForkJoinPool.commonPool(), Arrays.asList("1", "not a number"))));
+    }
+}
@@ -0,0 +1,119 @@
+package mams.storage;
+
+import static mams.testutil.Assert.assertSameData;
+import static mams.testutil.Assert.assertThrows;
+import static mams.testutil.TypicalMams.getTypicalStorableMams;
+import static mams.testutil.TypicalStudents.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mams.commons.exceptions.DataConversionException;
+import mams.model.Mams;
+
+public class BinaryMamsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMams_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryMamsStorage(null).readMams(null));
+    }
+
+    @Test
+    public void readMams_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryMamsStorage(testFolder.resolve("mams.bin")).readMams().isPresent());
+    }
+
+    @Test
+    public void readAndSaveMams_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("mams.bin");
+        BinaryMamsStorage storage = new BinaryMamsStorage(filePath);
+        Mams original = getTypicalStorableMams();
+
+        storage.saveMams(original);
+        assertSameData(original, storage.readMams().get());
+
+        // overwrite the existing file
+        original.addStudent(HOON);
+        storage.saveMams(original);
+        assertSameData(original, storage.readMams().get());
+        assertFalse(Files.exists(testFolder.resolve("mams.bin.tmp")));
+    }
+
+    @Test
+    public void saveMams_typicalMams_smallerThanJson() throws Exception {
+        Mams original = getTypicalStorableMams();
+        Path binaryPath = testFolder.resolve("mams.bin");
+        Path jsonPath = testFolder.resolve("mams.json");
+        new BinaryMamsStorage(binaryPath).saveMams(original);
+        new JsonMamsStorage(jsonPath).saveMams(original);
+
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath) / 2);
+    }
+
+    @Test
+    public void write_lastSequence_readBack() throws Exception {
+        Path filePath = testFolder.resolve("mams.bin");
+        BinaryMamsFormat.write(getTypicalStorableMams(), 42, filePath);
+        assertEquals(42, BinaryMamsFormat.read(filePath).getLastSequence());
+    }
+
+    @Test
+    public void readMams_damagedSection_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("mams.bin");
+        new BinaryMamsStorage(filePath).saveMams(getTypicalStorableMams());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryMamsStorage(filePath).readMams());
+    }
+
+    @Test
+    public void readMams_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("mams.bin");
+        new BinaryMamsStorage(filePath).saveMams(getTypicalStorableMams());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinaryMamsStorage(filePath).readMams());
+    }
+
+    @Test
+    public void readMams_stringLongerThanSection_throwsDataConversionException() throws Exception {
+        ByteBuffer file = ByteBuffer.allocate(64);
+        file.putInt(BinaryMamsFormat.MAGIC).putInt(BinaryMamsFormat.VERSION);
+        putSection(file, 0, new byte[] {0, 0, 0});
+        // one string of 3 bytes, with only 2 bytes left in the intact section
+        putSection(file, 1, new byte[] {1, 3, 'a', 'b'});
+        Path filePath = testFolder.resolve("mams.bin");
+        Files.write(filePath, Arrays.copyOf(file.array(), file.position()));
+
+        assertThrows(DataConversionException.class, () -> new BinaryMamsStorage(filePath).readMams());
+    }
+
+    private static void putSection(ByteBuffer file, int id, byte[] contents) {
+        CRC32 crc = new CRC32();
+        crc.update(contents);
+        file.putInt(id).putInt(contents.length).put(contents).putInt((int) crc.getValue());
+    }
+
+    @Test
+    public void readMams_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        new JsonMamsStorage(filePath).saveMams(getTypicalStorableMams());
+
+        assertThrows(DataConversionException.class, () -> new BinaryMamsStorage(filePath).readMams());
+    }
+}
@@ -0,0 +1,223 @@
+package mams.storage;
+
+import static mams.testutil.Assert.assertSameData;
+import static mams.testutil.Assert.assertThrows;
+import static mams.testutil.TypicalAppeals.APPEAL1;
+import static mams.testutil.TypicalMams.getTypicalStorableMams;
+import static mams.testutil.TypicalModules.CS1010;
+import static mams.testutil.TypicalStudents.ALICE;
+import static mams.testutil.TypicalStudents.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mams.commons.exceptions.DataConversionException;
+import mams.model.Mams;
+import mams.model.ReadOnlyMams;
+import mams.model.module.Module;
+import mams.testutil.ModuleBuilder;
+
+public class DeltaLogMamsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DeltaLogMamsStorage(testFolder.resolve("a.json"), 0));
+    }
+
+    @Test
+    public void readMams_missingFiles_emptyResult() throws Exception {
+        assertFalse(new DeltaLogMamsStorage(testFolder.resolve("mams.json")).readMams().isPresent());
+    }
+
+    @Test
+    public void saveMams_firstSave_writesCheckpointOnly() throws Exception {
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(testFolder.resolve("mams.json"));
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+
+        assertTrue(Files.exists(storage.getMamsFilePath()));
+        assertFalse(Files.exists(storage.getLogFilePath()));
+        assertSameData(original, new JsonMamsStorage(storage.getMamsFilePath()).readMams().get());
+    }
+
+    @Test
+    public void saveMams_changes_appendedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(filePath);
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+
+        original.addStudent(HOON);
+        storage.saveMams(original.snapshot());
+        original.removeStudent(ALICE);
+        original.setModule(CS1010, new ModuleBuilder(CS1010).withModuleDescription("Renamed").build());
+        original.removeAppeal(APPEAL1);
+        storage.saveMams(original.snapshot());
+
+        List<String> lines = Files.readAllLines(storage.getLogFilePath());
+        assertEquals(2, lines.size());
+        // only the changed entries are logged
+        assertFalse(lines.get(1).contains(HOON.getMatricId().toString()));
+
+        // saving unchanged data writes nothing
+        storage.saveMams(original.snapshot());
+        assertEquals(2, Files.readAllLines(storage.getLogFilePath()).size());
+
+        assertSameData(original, new DeltaLogMamsStorage(filePath).readMams().get());
+    }
+
+    @Test
+    public void readMams_tornRecord_discardsRecordAndTruncatesLog() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(filePath);
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+        original.addStudent(HOON);
+        storage.saveMams(original.snapshot());
+        long intactLength = Files.size(storage.getLogFilePath());
+
+        Files.write(storage.getLogFilePath(), "2\tdeadbeef\t{\"students\":[".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        DeltaLogMamsStorage recovered = new DeltaLogMamsStorage(filePath);
+        ReadOnlyMams recoveredMams = recovered.readMams().get();
+        assertSameData(original, recoveredMams);
+        assertEquals(intactLength, Files.size(storage.getLogFilePath()));
+
+        // later records are appended after the last intact one
+        Mams changed = new Mams(recoveredMams);
+        changed.removeStudent(HOON);
+        recovered.saveMams(changed.snapshot());
+        assertSameData(changed, new DeltaLogMamsStorage(filePath).readMams().get());
+    }
+
+    @Test
+    public void readMams_badChecksum_discardsRecord() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(filePath);
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+        Mams expected = new Mams(original);
+        original.addStudent(HOON);
+        storage.saveMams(original.snapshot());
+
+        String line = Files.readAllLines(storage.getLogFilePath()).get(0);
+        Files.write(storage.getLogFilePath(), (line.replace("Hoon", "Hoop") + "\n").getBytes(StandardCharsets.UTF_8));
+
+        assertSameData(expected, new DeltaLogMamsStorage(filePath).readMams().get());
+    }
+
+    @Test
+    public void readMams_recordDoesNotFitCheckpoint_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(filePath);
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+        original.addStudent(HOON);
+        storage.saveMams(original.snapshot());
+
+        new JsonMamsStorage(filePath).saveMams(new Mams());
+        assertThrows(DataConversionException.class, () -> new DeltaLogMamsStorage(filePath).readMams());
+    }
+
+    @Test
+    public void saveMams_intervalReached_checkpointsInBackground() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(filePath, 2);
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+
+        for (int i = 0; i < 3; i++) {
+            Module module = new ModuleBuilder().withModuleCode("CS990" + i).build();
+            original.addModule(module);
+            storage.saveMams(original.snapshot());
+        }
+        // reading waits for the background checkpoint
+        assertSameData(original, storage.readMams().get());
+
+        assertFalse(Files.exists(testFolder.resolve("mams.json.log.old")));
+        assertEquals(1, Files.readAllLines(storage.getLogFilePath()).size());
+        assertEquals(getTypicalStorableMams().getModuleList().size() + 2,
+                new JsonMamsStorage(filePath).readMams().get().getModuleList().size());
+        assertSameData(original, new DeltaLogMamsStorage(filePath).readMams().get());
+    }
+
+    @Test
+    public void saveMams_checkpointFails_changesLoggedOnce() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(filePath, 1);
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+
+        // a directory in place of the sealed log makes the checkpoint fail after the record is appended
+        Path sealedLogPath = filePath.resolveSibling("mams.json.log.old");
+        Files.createDirectory(sealedLogPath);
+        original.addStudent(HOON);
+        storage.saveMams(original.snapshot());
+        // retrying the same data, as the persistence service does after a failure, must not log it again
+        storage.saveMams(original.snapshot());
+        assertEquals(1, Files.readAllLines(storage.getLogFilePath()).size());
+
+        Files.delete(sealedLogPath);
+        assertSameData(original, new DeltaLogMamsStorage(filePath).readMams().get());
+    }
+
+    @Test
+    public void readMams_imageOfCheckpoint_readInsteadOfJson() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(filePath);
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+        assertTrue(Files.exists(storage.getImageFilePath()));
+
+        // unreadable json of the same size and time is not parsed
+        FileTime modified = Files.getLastModifiedTime(filePath);
+        byte[] garbage = new byte[(int) Files.size(filePath)];
+        Arrays.fill(garbage, (byte) '!');
+        Files.write(filePath, garbage);
+        Files.setLastModifiedTime(filePath, modified);
+
+        assertSameData(original, new DeltaLogMamsStorage(filePath).readMams().get());
+    }
+
+    @Test
+    public void readMams_damagedImage_readsJson() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(filePath);
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original.snapshot());
+        original.addStudent(HOON);
+        storage.saveMams(original.snapshot());
+
+        byte[] image = Files.readAllBytes(storage.getImageFilePath());
+        image[image.length - 1] ^= 0x01;
+        Files.write(storage.getImageFilePath(), image);
+
+        assertSameData(original, new DeltaLogMamsStorage(filePath).readMams().get());
+    }
+
+    @Test
+    public void saveMams_otherPath_writesPlainJson() throws Exception {
+        DeltaLogMamsStorage storage = new DeltaLogMamsStorage(testFolder.resolve("mams.json"));
+        Path backup = testFolder.resolve("backup.json");
+        Mams original = getTypicalStorableMams();
+        storage.saveMams(original, backup);
+
+        assertFalse(Files.exists(storage.getMamsFilePath()));
+        assertSameData(original, storage.readMams(backup).get());
+    }
+}
@@ -0,0 +1,57 @@
+package mams.storage;
+
+import static mams.testutil.Assert.assertThrows;
+import static mams.testutil.TypicalModules.CS1020;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import mams.commons.exceptions.IllegalValueException;
+import mams.commons.util.JsonUtil;
+import mams.model.module.Module;
+
+public class JsonAdaptedModuleTest {
+
+    // a module as older versions saved it, with its time slots in the order they were entered
+    private static final String LEGACY_MODULE_JSON = "{\"code\" : \"CS1020\", "
+            + "\"modulename\" : \"Data Structures and Algorithms Is\", \"moduledescription\" : \"test3\", "
+            + "\"lecturername\" : \"Tan Sun Teck\", \"timeslot\" : \"21,20,57,58,59\", \"quota\" : \"20\", "
+            + "\"tagged\" : [\"A5802229\"]}";
+
+    @Test
+    public void toModelType_validModuleDetails_returnsModule() throws Exception {
+        assertEquals(CS1020, new JsonAdaptedModule(CS1020).toModelType());
+    }
+
+    @Test
+    public void toModelType_legacyTimeSlotOrder_savedInAscendingOrder() throws Exception {
+        Module module = JsonUtil.fromJsonString(LEGACY_MODULE_JSON, JsonAdaptedModule.class).toModelType();
+        assertEquals(CS1020, module);
+        assertEquals(CS1020.getTimeSlots(), module.getTimeSlots());
+
+        String savedJson = JsonUtil.toJsonString(new JsonAdaptedModule(module));
+        assertTrue(savedJson.contains("\"20,21,57,58,59\""));
+        assertFalse(savedJson.contains("\"21,20,57,58,59\""));
+        assertEquals(module, JsonUtil.fromJsonString(savedJson, JsonAdaptedModule.class).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidQuota_throwsIllegalValueException() {
+        JsonAdaptedModule module = new JsonAdaptedModule(CS1020.getModuleCode(), CS1020.getModuleName(),
+                CS1020.getModuleDescription(), CS1020.getLecturerName(), CS1020.getTimeSlot(), "ten",
+                Collections.emptyList());
+        assertThrows(IllegalValueException.class, Module.MESSAGE_CONSTRAINTS_QUOTA, module::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidTimeSlot_throwsIllegalValueException() {
+        JsonAdaptedModule module = new JsonAdaptedModule(CS1020.getModuleCode(), CS1020.getModuleName(),
+                CS1020.getModuleDescription(), CS1020.getLecturerName(), "20,twenty", CS1020.getQuota(),
+                Collections.emptyList());
+        assertThrows(IllegalValueException.class, Module.MESSAGE_CONSTRAINTS_TIME_SLOT, module::toModelType);
+    }
+}
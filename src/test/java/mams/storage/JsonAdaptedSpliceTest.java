@@ -0,0 +1,85 @@
+package mams.storage;
+
+import static mams.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import mams.commons.exceptions.IllegalValueException;
+import mams.commons.util.PersistentList;
+
+public class JsonAdaptedSpliceTest {
+
+    private static final Function<String, String> IDENTITY = Function.identity();
+
+    @Test
+    public void between_sameList_noSplices() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertTrue(JsonAdaptedSplice.between(list, list, IDENTITY).isEmpty());
+        assertTrue(JsonAdaptedSplice.between(list, PersistentList.copyOf(new ArrayList<>(list)), IDENTITY)
+                .isEmpty());
+    }
+
+    @Test
+    public void between_replacedEntries_oneSplicePerRun() throws Exception {
+        PersistentList<String> before = PersistentList.copyOf(Arrays.asList("a", "b", "c", "d", "e"));
+        PersistentList<String> after = before.withSet(1, new String("b")).withSet(3, new String("d"))
+                .withSet(4, new String("e"));
+        List<JsonAdaptedSplice<String>> splices = JsonAdaptedSplice.between(before, after, IDENTITY);
+
+        assertEquals(2, splices.size());
+        assertEquals(after, applied(before, splices));
+    }
+
+    @Test
+    public void between_changesAtBothEnds_oneSplicePerChange() throws Exception {
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add("entry " + i);
+        }
+        PersistentList<String> before = PersistentList.copyOf(entries);
+        PersistentList<String> after = before.withRemoved(0).withAdded("new entry").withSet(500, "changed");
+        List<JsonAdaptedSplice<String>> splices = JsonAdaptedSplice.between(before, after, IDENTITY);
+
+        assertEquals(3, splices.size());
+        assertEquals(after, applied(before, splices));
+    }
+
+    @Test
+    public void between_insertedAndRemovedEntries_appliesBack() throws Exception {
+        PersistentList<String> before = PersistentList.copyOf(Arrays.asList("a", "b", "c", "d"));
+        assertRoundTrip(before, before.withAdded(1, "x"));
+        assertRoundTrip(before, before.withRemoved(1));
+        assertRoundTrip(before, before.withAdded("e"));
+        assertRoundTrip(before, PersistentList.empty());
+        assertRoundTrip(PersistentList.empty(), before);
+        assertRoundTrip(before, PersistentList.copyOf(Arrays.asList("d", "c", "b", "a")));
+    }
+
+    @Test
+    public void applyAll_outOfRange_throwsIllegalValueException() {
+        List<JsonAdaptedSplice<String>> splices = Collections.singletonList(
+                new JsonAdaptedSplice<>(1, 2, Collections.emptyList()));
+        assertThrows(IllegalValueException.class, () -> JsonAdaptedSplice.applyAll(
+                new ArrayList<>(Arrays.asList("a", "b")), splices));
+    }
+
+    private static void assertRoundTrip(PersistentList<String> before, PersistentList<String> after)
+            throws Exception {
+        assertEquals(after, applied(before, JsonAdaptedSplice.between(before, after, IDENTITY)));
+    }
+
+    private static List<String> applied(List<String> list, List<JsonAdaptedSplice<String>> splices)
+            throws IllegalValueException {
+        List<String> result = new ArrayList<>(list);
+        JsonAdaptedSplice.applyAll(result, splices);
+        return result;
+    }
+}
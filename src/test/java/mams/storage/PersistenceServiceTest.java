@@ -0,0 +1,188 @@
+package mams.storage;
+
+import static mams.testutil.Assert.assertThrows;
+import static mams.testutil.TypicalStudents.ALICE;
+import static mams.testutil.TypicalStudents.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mams.commons.core.time.TimeStamp;
+import mams.logic.history.CommandHistory;
+import mams.logic.history.InputOutput;
+import mams.logic.history.ReadOnlyCommandHistory;
+import mams.model.Mams;
+import mams.model.ReadOnlyMams;
+import mams.testutil.MamsBuilder;
+
+public class PersistenceServiceTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void flush_afterChanges_writesLatestState() throws Exception {
+        RecordingMamsStorage mamsStorage = new RecordingMamsStorage(testFolder.resolve("mams.json"));
+        PersistenceService service = new PersistenceService(createStorage(mamsStorage));
+
+        Mams latest = new MamsBuilder().withStudent(ALICE).withStudent(BENSON).build();
+        service.mamsChanged(new MamsBuilder().withStudent(ALICE).build());
+        service.mamsChanged(latest);
+        service.commandHistoryChanged(new CommandHistory());
+        service.flush();
+
+        assertSame(latest, mamsStorage.saved.get(mamsStorage.saved.size() - 1));
+        assertEquals(latest, new JsonMamsStorage(testFolder.resolve("mams.json")).readMams().get());
+        assertTrue(testFolder.resolve("commandHistory.json").toFile().exists());
+        service.close();
+    }
+
+    @Test
+    public void mamsChanged_duringWrite_coalescedIntoOneWrite() throws Exception {
+        RecordingMamsStorage mamsStorage = new RecordingMamsStorage(testFolder.resolve("mams.json"));
+        mamsStorage.blockNextSave();
+        PersistenceService service = new PersistenceService(createStorage(mamsStorage));
+
+        service.mamsChanged(new Mams());
+        mamsStorage.awaitBlockedSave();
+        List<ReadOnlyMams> burst = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Mams mams = new Mams();
+            burst.add(mams);
+            service.mamsChanged(mams);
+        }
+        mamsStorage.unblock();
+        service.flush();
+
+        assertEquals(2, mamsStorage.saved.size());
+        assertSame(burst.get(burst.size() - 1), mamsStorage.saved.get(1));
+        service.close();
+    }
+
+    @Test
+    public void flush_writeFailed_reportsFailureAndRetries() throws Exception {
+        RecordingMamsStorage mamsStorage = new RecordingMamsStorage(testFolder.resolve("mams.json"));
+        mamsStorage.failing = true;
+        PersistenceService service = new PersistenceService(createStorage(mamsStorage));
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        service.setFailureHandler(failures::add);
+
+        Mams mams = new MamsBuilder().withStudent(ALICE).build();
+        service.mamsChanged(mams);
+        assertThrows(IOException.class, service::flush);
+        // the failed write is retried once by the flush, however far the first write had got
+        assertEquals(Arrays.asList(DUMMY_IO_EXCEPTION, DUMMY_IO_EXCEPTION), failures);
+
+        mamsStorage.failing = false;
+        service.flush();
+        assertSame(mams, mamsStorage.saved.get(0));
+        service.close();
+    }
+
+    @Test
+    public void commandAdded_appendedToSavedCommandHistory() throws Exception {
+        InputOutput saved = new InputOutput("list", "Listed all", true, new TimeStamp(0));
+        InputOutput added = new InputOutput("view", "Invalid command format!", false, new TimeStamp(1000));
+        PersistenceService service = new PersistenceService(
+                createStorage(new JsonMamsStorage(testFolder.resolve("mams.json"))),
+                new CommandHistory(Collections.singletonList(saved)));
+
+        service.commandAdded(added);
+        service.flush();
+
+        assertEquals(new CommandHistory(Arrays.asList(saved, added)),
+                new JsonCommandHistoryStorage(testFolder.resolve("commandHistory.json")).readCommandHistory().get());
+        service.close();
+    }
+
+    @Test
+    public void flush_mamsAndCommandHistoryFailed_firstFailureThrown() throws Exception {
+        IOException commandHistoryFailure = new IOException("command history failure");
+        RecordingMamsStorage mamsStorage = new RecordingMamsStorage(testFolder.resolve("mams.json"));
+        mamsStorage.failing = true;
+        PersistenceService service = new PersistenceService(new StorageManager(mamsStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonCommandHistoryStorage(testFolder.resolve("commandHistory.json")) {
+                    @Override
+                    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath)
+                            throws IOException {
+                        throw commandHistoryFailure;
+                    }
+                }));
+
+        service.mamsChanged(new Mams());
+        service.commandHistoryChanged(new CommandHistory());
+        IOException thrown = null;
+        try {
+            service.flush();
+        } catch (IOException e) {
+            thrown = e;
+        }
+
+        assertSame(DUMMY_IO_EXCEPTION, thrown);
+        assertTrue(Arrays.asList(thrown.getSuppressed()).contains(commandHistoryFailure));
+        assertThrows(IOException.class, service::close);
+    }
+
+    private StorageManager createStorage(MamsStorage mamsStorage) {
+        return new StorageManager(mamsStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonCommandHistoryStorage(testFolder.resolve("commandHistory.json")));
+    }
+
+    /**
+     * A {@code JsonMamsStorage} that records what it saves, and can fail or wait on the next save.
+     */
+    private static class RecordingMamsStorage extends JsonMamsStorage {
+        private final List<ReadOnlyMams> saved = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean failing;
+        private CountDownLatch blockedSave;
+        private CountDownLatch release;
+
+        private RecordingMamsStorage(Path filePath) {
+            super(filePath);
+        }
+
+        void blockNextSave() {
+            blockedSave = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+        }
+
+        void awaitBlockedSave() throws InterruptedException {
+            blockedSave.await();
+        }
+
+        void unblock() {
+            release.countDown();
+        }
+
+        @Override
+        public void saveMams(ReadOnlyMams mams, Path filePath) throws IOException {
+            if (blockedSave != null && blockedSave.getCount() > 0) {
+                blockedSave.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            if (failing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            saved.add(mams);
+            super.saveMams(mams, filePath);
+        }
+    }
+}
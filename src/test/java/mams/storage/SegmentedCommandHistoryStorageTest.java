@@ -0,0 +1,253 @@
+package mams.storage;
+
+import static mams.testutil.Assert.assertThrows;
+import static mams.testutil.TypicalCommandHistory.SUCCESSFUL_IO_3;
+import static mams.testutil.TypicalCommandHistory.getTypicalCommandHistory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mams.commons.core.time.TimeStamp;
+import mams.logic.history.CommandHistory;
+import mams.logic.history.ReadOnlyCommandHistory;
+
+public class SegmentedCommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveSegmentSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SegmentedCommandHistoryStorage(testFolder.resolve("commandHistory.json"), 0));
+    }
+
+    @Test
+    public void readCommandHistory_missingFiles_emptyResult() throws Exception {
+        assertFalse(new SegmentedCommandHistoryStorage(testFolder.resolve("commandHistory.json"))
+                .readCommandHistory().isPresent());
+    }
+
+    @Test
+    public void saveCommandHistory_newCommands_onlyNewCommandsAppended() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath);
+        storage.readCommandHistory();
+        CommandHistory original = getTypicalCommandHistory();
+        storage.saveCommandHistory(original);
+        Path segment = storage.listSegments().get(0);
+        List<String> linesBefore = Files.readAllLines(segment);
+
+        addCommand(original, 0);
+        storage.saveCommandHistory(original);
+        storage.saveCommandHistory(original); // nothing new to append
+
+        List<String> linesAfter = Files.readAllLines(segment);
+        assertEquals(linesBefore.size() + 1, linesAfter.size());
+        assertEquals(linesBefore, linesAfter.subList(0, linesBefore.size()));
+        assertEquals(original, readBack(filePath));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveCommandHistory_fullSegments_rotated() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath, 2);
+        storage.readCommandHistory();
+        CommandHistory original = new CommandHistory();
+        for (int i = 0; i < 5; i++) {
+            addCommand(original, i);
+            storage.saveCommandHistory(original);
+        }
+
+        assertEquals(3, storage.listSegments().size());
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveCommandHistory_manySmallSegments_mergedInBackground() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath, 1);
+        storage.readCommandHistory();
+        CommandHistory original = new CommandHistory();
+        for (int i = 0; i < SegmentedCommandHistoryStorage.COMPACTION_FANOUT + 1; i++) {
+            addCommand(original, i);
+            storage.saveCommandHistory(original);
+        }
+
+        // reading waits for the compaction to finish
+        assertEquals(original, new CommandHistory(storage.readCommandHistory().get()));
+        assertEquals(2, storage.listSegments().size());
+    }
+
+    @Test
+    public void readRecentCommandHistory_severalSegments_olderCommandsReadFromSegments() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath, 3);
+        storage.readCommandHistory();
+        CommandHistory original = new CommandHistory();
+        for (int i = 0; i < 7; i++) {
+            addCommand(original, i);
+        }
+        storage.saveCommandHistory(original);
+
+        SegmentedCommandHistoryStorage reader = new SegmentedCommandHistoryStorage(filePath, 3);
+        ReadOnlyCommandHistory recent = reader.readRecentCommandHistory(4).get();
+        assertEquals(7, reader.size());
+        assertEquals(original.getInputOutputHistory(), recent.getInputOutputHistory());
+        assertEquals(original.getInputOutputHistory().subList(1, 5), reader.read(1, 5));
+        assertEquals(List.of(0, 3, 6), reader.findAll(inputOutput -> !inputOutput.checkSuccessful(), 7));
+
+        // commands entered after the recent ones are appended after all saved commands
+        CommandHistory continued = new CommandHistory(recent);
+        addCommand(original, 7);
+        addCommand(continued, 7);
+        reader.saveCommandHistory(continued);
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void readRecentCommandHistory_summarizedSegments_indexedWithoutReadingSegments() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath, 3);
+        storage.readCommandHistory();
+        CommandHistory original = new CommandHistory();
+        for (int i = 0; i < 7; i++) {
+            addCommand(original, i);
+        }
+        storage.saveCommandHistory(original);
+
+        // the oldest segment can no longer be read, but its summary still matches its size
+        Path oldest = storage.listSegments().get(0);
+        byte[] damaged = new byte[(int) Files.size(oldest)];
+        Arrays.fill(damaged, (byte) 'x');
+        Files.write(oldest, damaged);
+
+        SegmentedCommandHistoryStorage reader = new SegmentedCommandHistoryStorage(filePath, 3);
+        CommandHistory recent = new CommandHistory(reader.readRecentCommandHistory(1).get());
+        assertEquals(Arrays.asList(null, null, null), reader.read(0, 3));
+        assertEquals(3, recent.getNumberOfUnsuccessfulCommands());
+        assertEquals(7, recent.getNumberOfCommands(SUCCESSFUL_IO_3.getCommandWord()));
+
+        // the newest segment of the last run is summarized once it is read, as it is no longer appended to
+        for (Path segment : reader.listSegments()) {
+            assertTrue(Files.exists(SegmentSummary.pathOf(segment)));
+        }
+    }
+
+    @Test
+    public void readCommandHistory_tornRecord_ignoredAndNotAppendedTo() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath);
+        CommandHistory original = getTypicalCommandHistory();
+        storage.saveCommandHistory(original);
+        Files.write(storage.listSegments().get(0), "5\tdeadbeef\t{\"inp".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        SegmentedCommandHistoryStorage reopened = new SegmentedCommandHistoryStorage(filePath);
+        assertEquals(original, new CommandHistory(reopened.readCommandHistory().get()));
+
+        addCommand(original, 0);
+        reopened.saveCommandHistory(original);
+        assertEquals(2, reopened.listSegments().size());
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void readCommandHistory_jsonFile_copiedIntoSegmentsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        CommandHistory original = getTypicalCommandHistory();
+        new JsonCommandHistoryStorage(filePath).saveCommandHistory(original);
+
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath);
+        CommandHistory readBack = new CommandHistory(storage.readCommandHistory().get());
+        assertEquals(original, readBack);
+
+        addCommand(readBack, 0);
+        storage.saveCommandHistory(readBack);
+        assertEquals(1, storage.listSegments().size());
+        assertEquals(readBack, readBack(filePath));
+    }
+
+    @Test
+    public void saveCommandHistory_differentHistory_segmentsReplaced() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath, 2);
+        storage.saveCommandHistory(getTypicalCommandHistory());
+
+        CommandHistory other = new CommandHistory();
+        addCommand(other, 0);
+        storage.saveCommandHistory(other);
+
+        assertEquals(1, storage.listSegments().size());
+        assertEquals(other, readBack(filePath));
+    }
+
+    @Test
+    public void readCommandHistory_rewriteCutShort_oldGenerationDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath);
+        storage.saveCommandHistory(getTypicalCommandHistory());
+        Path oldSegment = storage.listSegments().get(0);
+        byte[] oldContents = Files.readAllBytes(oldSegment);
+
+        CommandHistory other = new CommandHistory();
+        addCommand(other, 0);
+        storage.saveCommandHistory(other);
+        // as if the rewrite was cut short before the old segment was deleted
+        Files.write(oldSegment, oldContents);
+
+        assertEquals(other, readBack(filePath));
+        assertFalse(Files.exists(oldSegment));
+    }
+
+    @Test
+    public void saveCommandHistory_emptyHistory_replacesSavedCommands() throws Exception {
+        Path filePath = testFolder.resolve("commandHistory.json");
+        new SegmentedCommandHistoryStorage(filePath).saveCommandHistory(getTypicalCommandHistory());
+
+        SegmentedCommandHistoryStorage storage = new SegmentedCommandHistoryStorage(filePath);
+        storage.saveCommandHistory(new CommandHistory());
+        assertEquals(new CommandHistory(), readBack(filePath));
+
+        CommandHistory continued = new CommandHistory();
+        addCommand(continued, 0);
+        storage.saveCommandHistory(continued);
+        assertEquals(continued, readBack(filePath));
+        assertEquals(1, storage.listSegments().size());
+    }
+
+    @Test
+    public void saveCommandHistory_otherFile_writtenAsJson() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        SegmentedCommandHistoryStorage storage =
+                new SegmentedCommandHistoryStorage(testFolder.resolve("commandHistory.json"));
+        CommandHistory original = getTypicalCommandHistory();
+        storage.saveCommandHistory(original, otherPath);
+
+        assertTrue(storage.listSegments().isEmpty());
+        assertEquals(original, new CommandHistory(new JsonCommandHistoryStorage(otherPath).readCommandHistory().get()));
+    }
+
+    private static void addCommand(CommandHistory commandHistory, int index) {
+        commandHistory.add(SUCCESSFUL_IO_3.getInput() + " " + index, SUCCESSFUL_IO_3.getOutput(), index % 3 != 0,
+                new TimeStamp(SUCCESSFUL_IO_3.getTimeStamp().asUnixTime() + index));
+    }
+
+    /**
+     * Returns the command history in the segments next to {@code filePath}, as read by a new storage.
+     */
+    private static CommandHistory readBack(Path filePath) throws Exception {
+        return new CommandHistory(new SegmentedCommandHistoryStorage(filePath).readCommandHistory().get());
+    }
+}
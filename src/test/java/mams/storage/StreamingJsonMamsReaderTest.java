@@ -0,0 +1,94 @@
+package mams.storage;
+
+import static mams.testutil.Assert.assertSameData;
+import static mams.testutil.Assert.assertThrows;
+import static mams.testutil.TypicalMams.getTypicalStorableMams;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mams.commons.exceptions.IllegalValueException;
+import mams.commons.util.JsonUtil;
+import mams.model.Mams;
+
+public class StreamingJsonMamsReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMamsStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveBatchSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingJsonMamsReader(ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    public void read_smallBatches_sameAsBoundJson() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        Mams original = getTypicalStorableMams();
+        JsonUtil.saveJsonFile(new JsonSerializableMams(original), filePath);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertSameData(original, new StreamingJsonMamsReader(pool, 2).read(filePath));
+        } finally {
+            pool.shutdown();
+        }
+        assertSameData(original, new StreamingJsonMamsReader().read(filePath));
+    }
+
+    @Test
+    public void read_unknownFieldsAndMissingLists_ignored() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        Files.write(filePath, "{ \"lastSequence\": 3, \"extra\": { \"a\": [1, 2] }, \"appeals\": null }".getBytes());
+
+        assertSameData(new Mams(), new StreamingJsonMamsReader().read(filePath));
+    }
+
+    @Test
+    public void read_invalidStudent_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> new StreamingJsonMamsReader()
+                .read(TEST_DATA_FOLDER.resolve("invalidStudentMams.json")));
+    }
+
+    @Test
+    public void read_notJson_throwsIoException() {
+        assertThrows(IOException.class, () -> new StreamingJsonMamsReader()
+                .read(TEST_DATA_FOLDER.resolve("notJsonFormatMams.json")));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        String json = JsonUtil.toJsonString(new JsonSerializableMams(getTypicalStorableMams()));
+        Files.write(filePath, json.substring(0, json.length() / 2).getBytes());
+
+        assertThrows(IOException.class, () -> new StreamingJsonMamsReader().read(filePath));
+    }
+
+    @Test
+    public void read_duplicateStudents_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("mams.json");
+        JsonSerializableMams data = new JsonSerializableMams(getTypicalStorableMams());
+        JsonSerializableMams duplicated = new JsonSerializableMams(
+                concat(data.getStudents(), data.getStudents()), data.getModules(), data.getAppeals(), 0);
+        JsonUtil.saveJsonFile(duplicated, filePath);
+
+        assertThrows(IllegalValueException.class, () -> new StreamingJsonMamsReader().read(filePath));
+    }
+
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        List<T> result = new ArrayList<>(first);
+        result.addAll(second);
+        return result;
+    }
+}
@@ -1,8 +1,13 @@
 package mams.testutil;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.Executable;
 
+import mams.model.ReadOnlyMams;
+
 /**
  * A set of assertion methods useful for writing tests.
  */
@@ -31,4 +36,18 @@ public class Assert {
         Throwable thrownException = Assertions.assertThrows(expectedType, executable);
         Assertions.assertEquals(expectedMessage, thrownException.getMessage());
     }
+
+    /**
+     * Asserts that {@code actual} holds the same students, modules and appeals as {@code expected}, in the same
+     * order and with every field equal, rather than only the fields compared by their {@code equals} methods.
+     */
+    public static void assertSameData(ReadOnlyMams expected, ReadOnlyMams actual) {
+        Assertions.assertEquals(toStrings(expected.getStudentList()), toStrings(actual.getStudentList()));
+        Assertions.assertEquals(toStrings(expected.getModuleList()), toStrings(actual.getModuleList()));
+        Assertions.assertEquals(toStrings(expected.getAppealList()), toStrings(actual.getAppealList()));
+    }
+
+    private static List<String> toStrings(List<?> entries) {
+        return entries.stream().map(Object::toString).collect(Collectors.toList());
+    }
 }
@@ -1,5 +1,6 @@
 package mams.testutil;
 
+import static mams.testutil.TypicalAppeals.APPEAL4;
 import static mams.testutil.TypicalAppeals.getTypicalAppeals;
 import static mams.testutil.TypicalModules.getTypicalModules;
 import static mams.testutil.TypicalStudents.getTypicalStudents;
@@ -31,4 +32,14 @@ public class TypicalMams {
         }
         return ab;
     }
+
+    /**
+     * Returns the typical MAMS without the appeal whose module code is not stored in canonical form, so that it
+     * reads back from storage unchanged.
+     */
+    public static Mams getTypicalStorableMams() {
+        Mams mams = getTypicalMams();
+        mams.removeAppeal(APPEAL4);
+        return mams;
+    }
 }